@@ -0,0 +1,191 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the asynchronous executions of the statements of a connection.
+ *
+ * The TDS channel of a connection carries one request at a time, so the executions of a connection are run one after another, in the order they
+ * were requested, on a pooled driver thread. A connection holds a thread only while it has executions pending. The pool is shared by every
+ * connection and has at most getMaxThreads() threads; when they are all busy, connections with executions pending wait for a thread in the order
+ * in which their first execution was queued. The limit is set with SQLServerDriver.setMaxAsyncExecutionThreads.
+ */
+final class AsyncStatementExecutor {
+    static final int DEFAULT_MAX_THREADS = 64;
+
+    private static final ThreadPoolExecutor executionExecutor = new ThreadPoolExecutor(DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "mssql-jdbc async execution");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    static {
+        // Idle threads exit, so the pool holds no threads while no connection is executing asynchronously
+        executionExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sets the maximum number of driver threads that run asynchronous executions.
+     */
+    static synchronized void setMaxThreads(int maxThreads) {
+        assert maxThreads > 0;
+
+        // The core pool size may never exceed the maximum pool size
+        if (maxThreads > executionExecutor.getMaximumPoolSize()) {
+            executionExecutor.setMaximumPoolSize(maxThreads);
+            executionExecutor.setCorePoolSize(maxThreads);
+        }
+        else {
+            executionExecutor.setCorePoolSize(maxThreads);
+            executionExecutor.setMaximumPoolSize(maxThreads);
+        }
+    }
+
+    static int getMaxThreads() {
+        return executionExecutor.getMaximumPoolSize();
+    }
+
+    /**
+     * An execution of a statement.
+     */
+    interface Task<T> {
+        T execute() throws SQLException;
+    }
+
+    private final ArrayDeque<Runnable> pendingExecutions = new ArrayDeque<Runnable>();
+    private boolean isDraining = false;
+
+    private final Runnable drainTask = new Runnable() {
+        public void run() {
+            while (true) {
+                Runnable execution;
+                synchronized (pendingExecutions) {
+                    execution = pendingExecutions.poll();
+                    if (null == execution) {
+                        isDraining = false;
+                        return;
+                    }
+                }
+                execution.run();
+            }
+        }
+    };
+
+    /**
+     * Queues an execution of a statement.
+     *
+     * @param stmt
+     *            the statement
+     * @param task
+     *            the execution
+     * @return a future that is completed with the result of the execution. Cancelling the future before the execution starts removes it; cancelling
+     *         it while the execution is running cancels the statement.
+     */
+    <T> CompletableFuture<T> submit(SQLServerStatement stmt,
+            Task<T> task) {
+        ExecutionFuture<T> future = new ExecutionFuture<T>(stmt, task);
+        boolean startDraining;
+        synchronized (pendingExecutions) {
+            pendingExecutions.add(future);
+            startDraining = !isDraining;
+            isDraining = true;
+        }
+
+        if (startDraining) {
+            try {
+                executionExecutor.execute(drainTask);
+            }
+            catch (RejectedExecutionException e) {
+                synchronized (pendingExecutions) {
+                    pendingExecutions.remove(future);
+                    isDraining = false;
+                }
+                future.completeExceptionally(e);
+            }
+        }
+        return future;
+    }
+
+    private static final class ExecutionFuture<T> extends CompletableFuture<T> implements Runnable {
+        private static final int PENDING = 0;
+        private static final int STARTED = 1;
+        private static final int CANCELLED = 2;
+
+        private final SQLServerStatement stmt;
+        private final Task<T> task;
+
+        // Starting and cancelling a pending execution race for this one transition, so that exactly one of them wins
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        ExecutionFuture(SQLServerStatement stmt,
+                Task<T> task) {
+            this.stmt = stmt;
+            this.task = task;
+        }
+
+        public void run() {
+            // Skip executions that were cancelled before they started
+            if (!state.compareAndSet(PENDING, STARTED))
+                return;
+
+            T result;
+            try {
+                result = task.execute();
+            }
+            catch (Throwable e) {
+                completeExceptionally(e);
+                return;
+            }
+
+            // Close a result set that nobody can retrieve because the execution was cancelled while it ran
+            if (!complete(result) && result instanceof ResultSet) {
+                try {
+                    ((ResultSet) result).close();
+                }
+                catch (SQLException e) {
+                    // The result set is discarded either way
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (state.compareAndSet(PENDING, CANCELLED))
+                return super.cancel(mayInterruptIfRunning);
+
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+            // Interrupt the running execution with an attention, as Statement.cancel() does
+            if (cancelled) {
+                try {
+                    stmt.cancel();
+                }
+                catch (SQLServerException e) {
+                    // The statement was closed, so there is nothing left to cancel
+                }
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The parameter values of a batch of a prepared statement of the form INSERT INTO table (column, ...) VALUES (?, ...) as the source of a bulk copy
+ * into the table.
+ *
+ * Only batches whose values bulk copy sends exactly as the statement would are eligible: each column must be set with the same JDBC type in every
+ * row, with the Java type that the JDBC type maps to and without a Calendar. Strings are sent as NVARCHAR, binary values as VARBINARY, and dates and
+ * timestamps as their string literals, so timestamps must not be more precise than milliseconds.
+ */
+final class BatchInsertBulkRecord implements ISQLServerBulkRecord {
+    // A regular, bracketed or quoted identifier
+    private static final String IDENTIFIER = "(?:\\[(?:[^\\]]|\\]\\])+\\]|\"(?:[^\"]|\"\")+\"|[\\w@#$]+)";
+
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile(IDENTIFIER);
+
+    private static final Pattern INSERT_PATTERN = Pattern
+            .compile("\\s*INSERT\\s+(?:INTO\\s+)?(" + IDENTIFIER + "(?:\\s*\\.\\s*" + IDENTIFIER + "){0,3})\\s*\\(\\s*(" + IDENTIFIER + "(?:\\s*,\\s*"
+                    + IDENTIFIER + ")*)\\s*\\)\\s*VALUES\\s*\\(\\s*(\\?(?:\\s*,\\s*\\?)*)\\s*\\)\\s*;?\\s*", Pattern.CASE_INSENSITIVE);
+
+    private final String tableName;
+    private final String columnList;
+    private final String[] columnNames;
+    private final int[] columnTypes;
+    private final int[] precisions;
+    private final int[] scales;
+    private final ArrayList<Parameter[]> rows;
+    private int currentRow = -1;
+
+    private BatchInsertBulkRecord(String tableName,
+            String columnList,
+            String[] columnNames,
+            int[] columnTypes,
+            int[] precisions,
+            int[] scales,
+            ArrayList<Parameter[]> rows) {
+        this.tableName = tableName;
+        this.columnList = columnList;
+        this.columnNames = columnNames;
+        this.columnTypes = columnTypes;
+        this.precisions = precisions;
+        this.scales = scales;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates the bulk record for a batch.
+     *
+     * @param sql
+     *            the SQL of the prepared statement
+     * @param rows
+     *            the parameter values of the batch
+     * @return the bulk record, or null if the statement is not a single row INSERT of parameter values or the values are not eligible for bulk copy
+     */
+    static BatchInsertBulkRecord create(String sql,
+            ArrayList<Parameter[]> rows) {
+        Matcher insert = INSERT_PATTERN.matcher(sql);
+        if (!insert.matches())
+            return null;
+
+        ArrayList<String> names = new ArrayList<String>();
+        Matcher identifier = IDENTIFIER_PATTERN.matcher(insert.group(2));
+        while (identifier.find())
+            names.add(unquote(identifier.group()));
+
+        int numColumns = names.size();
+        int numParams = insert.group(3).split(",").length;
+        if (numColumns != numParams || rows.isEmpty() || numParams != rows.get(0).length)
+            return null;
+
+        int[] columnTypes = new int[numColumns];
+        int[] precisions = new int[numColumns];
+        int[] scales = new int[numColumns];
+        for (int column = 0; column < numColumns; ++column) {
+            int columnType = java.sql.Types.NULL;
+            int precision = 1;
+            int scale = 0;
+            for (Parameter[] row : rows) {
+                Parameter param = row[column];
+                Object value = param.getSetterValue();
+                int type = getBulkType(param, value);
+                if (java.sql.Types.NULL == type || (java.sql.Types.NULL != columnType && type != columnType))
+                    return null;
+
+                columnType = type;
+                if (null == value)
+                    continue;
+
+                switch (type) {
+                    case java.sql.Types.NVARCHAR:
+                        precision = Math.max(precision, ((String) value).length());
+                        break;
+                    case java.sql.Types.VARBINARY:
+                        precision = Math.max(precision, ((byte[]) value).length);
+                        break;
+                    case java.sql.Types.DECIMAL:
+                        scale = Math.max(scale, ((BigDecimal) value).scale());
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            switch (columnType) {
+                case java.sql.Types.DECIMAL:
+                    if (scale > SQLServerConnection.maxDecimalPrecision)
+                        return null;
+                    precision = SQLServerConnection.maxDecimalPrecision;
+                    break;
+                case java.sql.Types.DATE:
+                case java.sql.Types.TIMESTAMP:
+                    // Long enough for the string literals that temporal values are sent as
+                    precision = 50;
+                    break;
+                default:
+                    break;
+            }
+
+            columnTypes[column] = columnType;
+            precisions[column] = precision;
+            scales[column] = scale;
+        }
+
+        return new BatchInsertBulkRecord(insert.group(1), insert.group(2), names.toArray(new String[numColumns]), columnTypes, precisions, scales, rows);
+    }
+
+    /**
+     * Returns the JDBC type that bulk copy sends a parameter value as, or java.sql.Types.NULL if it is not eligible.
+     */
+    private static int getBulkType(Parameter param,
+            Object value) {
+        if (null != param.getSetterCalendar())
+            return java.sql.Types.NULL;
+
+        JDBCType jdbcType;
+        try {
+            jdbcType = param.getJdbcType();
+        }
+        catch (SQLServerException e) {
+            return java.sql.Types.NULL;
+        }
+
+        switch (jdbcType) {
+            case INTEGER:
+                return (null == value || value instanceof Integer) ? java.sql.Types.INTEGER : java.sql.Types.NULL;
+            case SMALLINT:
+                return (null == value || value instanceof Short) ? java.sql.Types.SMALLINT : java.sql.Types.NULL;
+            case TINYINT:
+                return (null == value || value instanceof Byte) ? java.sql.Types.TINYINT : java.sql.Types.NULL;
+            case BIGINT:
+                return (null == value || value instanceof Long) ? java.sql.Types.BIGINT : java.sql.Types.NULL;
+            case BIT:
+                return (null == value || value instanceof Boolean) ? java.sql.Types.BIT : java.sql.Types.NULL;
+            case DOUBLE:
+            case FLOAT:
+                return (null == value || value instanceof Double) ? java.sql.Types.DOUBLE : java.sql.Types.NULL;
+            case REAL:
+                return (null == value || value instanceof Float) ? java.sql.Types.REAL : java.sql.Types.NULL;
+            case DECIMAL:
+            case NUMERIC:
+                return (null == value || value instanceof BigDecimal) ? java.sql.Types.DECIMAL : java.sql.Types.NULL;
+            case CHAR:
+            case VARCHAR:
+            case LONGVARCHAR:
+            case NCHAR:
+            case NVARCHAR:
+            case LONGNVARCHAR:
+                return (null == value || value instanceof String) ? java.sql.Types.NVARCHAR : java.sql.Types.NULL;
+            case BINARY:
+            case VARBINARY:
+            case LONGVARBINARY:
+                return (null == value || value instanceof byte[]) ? java.sql.Types.VARBINARY : java.sql.Types.NULL;
+            case DATE:
+                return (null == value || value instanceof java.sql.Date) ? java.sql.Types.DATE : java.sql.Types.NULL;
+            case TIMESTAMP:
+                // Timestamp.toString() shows the nanoseconds, which DATETIME does not accept in a string literal
+                return (null == value || (value instanceof Timestamp && 0 == ((Timestamp) value).getNanos() % 1000000)) ? java.sql.Types.TIMESTAMP
+                        : java.sql.Types.NULL;
+            default:
+                return java.sql.Types.NULL;
+        }
+    }
+
+    /**
+     * Removes the delimiters from a bracketed or quoted identifier.
+     */
+    private static String unquote(String identifier) {
+        if (identifier.startsWith("["))
+            return identifier.substring(1, identifier.length() - 1).replace("]]", "]");
+        if (identifier.startsWith("\""))
+            return identifier.substring(1, identifier.length() - 1).replace("\"\"", "\"");
+        return identifier;
+    }
+
+    /**
+     * Returns the name of the table, as written in the statement.
+     */
+    String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Returns the list of the names of the columns that the statement inserts into, as written in the statement.
+     */
+    String getColumnList() {
+        return columnList;
+    }
+
+    int getRowCount() {
+        return rows.size();
+    }
+
+    public Set<Integer> getColumnOrdinals() {
+        Set<Integer> ordinals = new TreeSet<Integer>();
+        for (int i = 1; i <= columnNames.length; ++i)
+            ordinals.add(i);
+        return ordinals;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column - 1];
+    }
+
+    public int getColumnType(int column) {
+        return columnTypes[column - 1];
+    }
+
+    public int getPrecision(int column) {
+        return precisions[column - 1];
+    }
+
+    public int getScale(int column) {
+        return scales[column - 1];
+    }
+
+    public boolean isAutoIncrement(int column) {
+        return false;
+    }
+
+    public Object[] getRowData() throws SQLServerException {
+        Parameter[] row = rows.get(currentRow);
+        Object[] data = new Object[row.length];
+        for (int i = 0; i < row.length; ++i) {
+            Object value = row[i].getSetterValue();
+            // The values of a column are sent with the column's scale
+            if (java.sql.Types.DECIMAL == columnTypes[i] && null != value)
+                value = ((BigDecimal) value).setScale(scales[i]);
+            data[i] = value;
+        }
+        return data;
+    }
+
+    public boolean next() throws SQLServerException {
+        return ++currentRow < rows.size();
+    }
+}
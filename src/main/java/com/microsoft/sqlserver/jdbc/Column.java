@@ -135,7 +135,7 @@ final class Column {
      * Clears the values associated with this column.
      */
     final void clear() {
-        getterDTV.clear();
+        getterDTV.clearForReuse();
     }
 
     /**
@@ -190,6 +190,48 @@ final class Column {
         return (null != filter) ? filter.apply(value, jdbcType) : value;
     }
 
+    /**
+     * Returns whether getLong and getDouble can read the value of this column. They decode fixed-length numeric values from the response without
+     * creating objects.
+     */
+    boolean hasPrimitiveValue() {
+        return null == filter && null == cryptoMetadata && getterDTV.isServerValue() && ServerDTVImpl.isPrimitiveType(typeInfo);
+    }
+
+    /**
+     * Returns the value of this column converted to an integral jdbc type, widened to long. The column must have a primitive value.
+     */
+    long getLong(JDBCType jdbcType,
+            TDSReader tdsReader) throws SQLServerException {
+        return getterDTV.getLong(jdbcType, typeInfo, tdsReader);
+    }
+
+    /**
+     * Returns the value of this column converted to a floating point jdbc type, widened to double. The column must have a primitive value.
+     */
+    double getDouble(JDBCType jdbcType,
+            TDSReader tdsReader) throws SQLServerException {
+        return getterDTV.getDouble(jdbcType, typeInfo, tdsReader);
+    }
+
+    /**
+     * Returns whether getTemporalParts can read the value of this column, which is an unencrypted temporal value from the response.
+     */
+    boolean hasTemporalValue() {
+        return null == filter && null == cryptoMetadata && getterDTV.isServerValue() && ServerDTVImpl.isTemporalType(typeInfo);
+    }
+
+    /**
+     * Reads the date and time parts of the value of this column, checking that it converts to a jdbc type. The column must have a temporal value.
+     *
+     * @return false if the value is null
+     */
+    boolean getTemporalParts(JDBCType jdbcType,
+            TDSReader tdsReader,
+            TemporalParts parts) throws SQLServerException {
+        return getterDTV.getTemporalParts(jdbcType, typeInfo, tdsReader, parts);
+    }
+
     int getInt(TDSReader tdsReader) throws SQLServerException {
         return ((Integer) getValue(JDBCType.INTEGER, null, null, tdsReader)).intValue();
     }
@@ -0,0 +1,80 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.util.HashMap;
+
+/**
+ * Maps the column labels of a result set to their indexes.
+ *
+ * A label is looked up with a case-sensitive match first and a case-insensitive match second, each returning the first matching column, as
+ * SQLServerResultSet.findColumn always has. Case-insensitive keys are folded character by character so that two labels have the same key exactly
+ * when String.equalsIgnoreCase considers them equal.
+ *
+ * An index is immutable, so result sets with the same column labels can share it.
+ */
+final class ColumnLabelIndex {
+    private final String[] labels;
+    private final HashMap<String, Integer> exactIndexes;
+    private final HashMap<String, Integer> foldedIndexes;
+
+    ColumnLabelIndex(Column[] columns) {
+        labels = new String[columns.length];
+        exactIndexes = new HashMap<String, Integer>(2 * columns.length);
+        foldedIndexes = new HashMap<String, Integer>(2 * columns.length);
+
+        // Only the first of several columns with the same label is indexed
+        for (int i = 0; i < columns.length; i++) {
+            labels[i] = columns[i].getColumnName();
+            Integer index = Integer.valueOf(i + 1);
+            if (!exactIndexes.containsKey(labels[i]))
+                exactIndexes.put(labels[i], index);
+            String folded = fold(labels[i]);
+            if (!foldedIndexes.containsKey(folded))
+                foldedIndexes.put(folded, index);
+        }
+    }
+
+    /**
+     * Returns whether this index was built for columns with the same labels, in the same order.
+     */
+    boolean matches(Column[] columns) {
+        if (columns.length != labels.length)
+            return false;
+
+        for (int i = 0; i < columns.length; i++) {
+            if (!labels[i].equals(columns[i].getColumnName()))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the 1-based index of the column with a label, or 0 if there is no such column. A null label matches no column.
+     */
+    int find(String label) {
+        if (null == label)
+            return 0;
+
+        Integer index = exactIndexes.get(label);
+        if (null == index)
+            index = foldedIndexes.get(fold(label));
+        return (null == index) ? 0 : index.intValue();
+    }
+
+    /**
+     * Folds the case of a label the way String.equalsIgnoreCase compares characters, without regard to locale.
+     */
+    private static String fold(String label) {
+        char[] chars = label.toCharArray();
+        for (int i = 0; i < chars.length; i++)
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        return new String(chars);
+    }
+}
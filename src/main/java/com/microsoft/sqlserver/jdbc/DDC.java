@@ -240,6 +240,144 @@ final class DDC {
         }
     }
 
+    // Powers of ten that are exact in double and in float, for scaling values without BigDecimal
+    private static final double[] DOUBLE_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15,
+            1e16, 1e17, 1e18};
+    private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private static final long[] LONG_POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+            10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L,
+            100000000000000000L, 1000000000000000000L};
+
+    /**
+     * Convert an integral value to an integral jdbc type without creating an object, as convertLongToObject does.
+     * 
+     * @param longVal
+     *            the value to convert.
+     * @param jdbcType
+     *            the jdbc type required: BIT, BOOLEAN, TINYINT, SMALLINT, INTEGER or BIGINT.
+     * @return the converted value, widened to long. BIT and BOOLEAN values are 1 or 0.
+     */
+    static final long convertLongToLong(long longVal,
+            JDBCType jdbcType) {
+        switch (jdbcType) {
+            case INTEGER:
+                return (int) longVal;
+            case SMALLINT: // small and tinyint returned as short
+            case TINYINT:
+                return (short) longVal;
+            case BIT:
+            case BOOLEAN:
+                return (0 != longVal) ? 1 : 0;
+            default:
+                assert JDBCType.BIGINT == jdbcType;
+                return longVal;
+        }
+    }
+
+    /**
+     * Convert an integral value to a floating point jdbc type without creating an object, as convertLongToObject does.
+     * 
+     * @param longVal
+     *            the value to convert.
+     * @param jdbcType
+     *            the jdbc type required: REAL, FLOAT or DOUBLE.
+     * @return the converted value, widened to double.
+     */
+    static final double convertLongToDouble(long longVal,
+            JDBCType jdbcType) {
+        return (JDBCType.REAL == jdbcType) ? (float) longVal : (double) longVal;
+    }
+
+    /**
+     * Convert a floating point value to an integral jdbc type without creating an object, as convertDoubleToObject does. REAL values give the same
+     * results when they are widened to double first.
+     * 
+     * @param doubleVal
+     *            the value to convert.
+     * @param jdbcType
+     *            the jdbc type required: BIT, BOOLEAN, TINYINT, SMALLINT, INTEGER or BIGINT.
+     * @return the converted value, widened to long. BIT and BOOLEAN values are 1 or 0.
+     */
+    static final long convertDoubleToLong(double doubleVal,
+            JDBCType jdbcType) {
+        switch (jdbcType) {
+            case INTEGER:
+                return (int) doubleVal;
+            case SMALLINT: // small and tinyint returned as short
+            case TINYINT:
+                return (short) doubleVal;
+            case BIT:
+            case BOOLEAN:
+                return (0 != Double.compare(0.0d, doubleVal)) ? 1 : 0;
+            default:
+                assert JDBCType.BIGINT == jdbcType;
+                return (long) doubleVal;
+        }
+    }
+
+    /**
+     * Convert a floating point value to a floating point jdbc type without creating an object, as convertDoubleToObject does.
+     * 
+     * @param doubleVal
+     *            the value to convert.
+     * @param jdbcType
+     *            the jdbc type required: REAL, FLOAT or DOUBLE.
+     * @return the converted value, widened to double.
+     */
+    static final double convertDoubleToDouble(double doubleVal,
+            JDBCType jdbcType) {
+        return (JDBCType.REAL == jdbcType) ? (float) doubleVal : doubleVal;
+    }
+
+    /**
+     * Convert a scaled value, such as a DECIMAL or MONEY value, to an integral jdbc type without creating an object, as convertBigDecimalToObject
+     * does. The fractional part is truncated.
+     * 
+     * @param unscaledVal
+     *            the unscaled value.
+     * @param scale
+     *            the scale of the value, from 0 to 18.
+     * @param jdbcType
+     *            the jdbc type required: BIT, BOOLEAN, TINYINT, SMALLINT, INTEGER or BIGINT.
+     * @return the converted value, widened to long. BIT and BOOLEAN values are 1 or 0.
+     */
+    static final long convertScaledLongToLong(long unscaledVal,
+            int scale,
+            JDBCType jdbcType) {
+        if (JDBCType.BIT == jdbcType || JDBCType.BOOLEAN == jdbcType)
+            return (0 != unscaledVal) ? 1 : 0;
+
+        return convertLongToLong(unscaledVal / LONG_POWERS_OF_TEN[scale], jdbcType);
+    }
+
+    /**
+     * Convert a scaled value, such as a DECIMAL or MONEY value, to a floating point jdbc type, as convertBigDecimalToObject does.
+     * 
+     * When the unscaled value and the power of ten are both exact in the floating point type, their quotient is the correctly rounded value, which
+     * is what BigDecimal returns, so no object is created. Other values are converted through BigDecimal.
+     * 
+     * @param unscaledVal
+     *            the unscaled value.
+     * @param scale
+     *            the scale of the value, from 0 to 18.
+     * @param jdbcType
+     *            the jdbc type required: REAL, FLOAT or DOUBLE.
+     * @return the converted value, widened to double.
+     */
+    static final double convertScaledLongToDouble(long unscaledVal,
+            int scale,
+            JDBCType jdbcType) {
+        if (JDBCType.REAL == jdbcType) {
+            if (-(1L << 24) <= unscaledVal && unscaledVal <= (1L << 24) && scale < FLOAT_POWERS_OF_TEN.length)
+                return (float) unscaledVal / FLOAT_POWERS_OF_TEN[scale];
+            return BigDecimal.valueOf(unscaledVal, scale).floatValue();
+        }
+
+        if (-(1L << 53) <= unscaledVal && unscaledVal <= (1L << 53))
+            return unscaledVal / DOUBLE_POWERS_OF_TEN[scale];
+        return BigDecimal.valueOf(unscaledVal, scale).doubleValue();
+    }
+
     /**
      * Encodes a long value to a byte array in big-endian order.
      * 
@@ -771,6 +909,12 @@ final class DDC {
             int daysSinceBaseDate,
             long ticksSinceMidnight,
             int fractionalSecondsScale) {
+        // Without an application Calendar, values to be returned as java.sql.Date, java.sql.Time or
+        // java.sql.Timestamp are built directly from their date and time fields.
+        Object value = convertTemporalToSqlObject(jdbcType, ssType, timeZoneCalendar, daysSinceBaseDate, ticksSinceMidnight);
+        if (null != value)
+            return value;
+
         // Determine the local time zone to associate with the value. Use the default VM
         // time zone if no time zone is otherwise specified.
         TimeZone localTimeZone = (null != timeZoneCalendar) ? timeZoneCalendar.getTimeZone() : TimeZone.getDefault();
@@ -909,16 +1053,19 @@ final class DDC {
             default:
                 throw new AssertionError("Unexpected SSType: " + ssType);
         }
+        // The offset is used only by conversions of DATETIMEOFFSET values.
         int localMillisOffset = 0;
-        if (null == timeZoneCalendar) {
-            TimeZone tz = TimeZone.getDefault();
-            GregorianCalendar _cal = new GregorianCalendar(componentTimeZone, Locale.US);
-            _cal.setLenient(true);
-            _cal.clear();
-            localMillisOffset = tz.getOffset(_cal.getTimeInMillis());
-        }
-        else {
-            localMillisOffset = timeZoneCalendar.get(Calendar.ZONE_OFFSET);
+        if (SSType.DATETIMEOFFSET == ssType) {
+            if (null == timeZoneCalendar) {
+                TimeZone tz = TimeZone.getDefault();
+                GregorianCalendar _cal = new GregorianCalendar(componentTimeZone, Locale.US);
+                _cal.setLenient(true);
+                _cal.clear();
+                localMillisOffset = tz.getOffset(_cal.getTimeInMillis());
+            }
+            else {
+                localMillisOffset = timeZoneCalendar.get(Calendar.ZONE_OFFSET);
+            }
         }
         // Convert the calendar value (in local time) to the desired Java object type.
         switch (jdbcType.category) {
@@ -1073,6 +1220,138 @@ final class DDC {
         }
     }
 
+    /**
+     * Converts a SQL Server temporal value to java.sql.Date, java.sql.Time or java.sql.Timestamp without a Calendar, when that gives the same result
+     * as convertTemporalToObject.
+     *
+     * The fields of values in the default VM time zone are computed by arithmetic and passed to the java.sql constructors that take them, which
+     * resolve the time zone without creating a Calendar. DATETIMEOFFSET values are converted to java.sql.Timestamp from their UTC milliseconds. Dates
+     * before the standard Gregorian change date, whose fields differ between SQL Server and Java, are left to the Calendar path.
+     *
+     * @return the converted value, or null if the value must be converted with a Calendar
+     */
+    @SuppressWarnings("deprecation")
+    private static Object convertTemporalToSqlObject(JDBCType jdbcType,
+            SSType ssType,
+            Calendar timeZoneCalendar,
+            int daysSinceBaseDate,
+            long ticksSinceMidnight) {
+        JDBCType.Category category = jdbcType.category;
+        if (JDBCType.Category.BINARY == category) {
+            switch (ssType) {
+                case DATE:
+                    category = JDBCType.Category.DATE;
+                    break;
+                case TIME:
+                    category = JDBCType.Category.TIME;
+                    break;
+                case DATETIME:
+                case DATETIME2:
+                    category = JDBCType.Category.TIMESTAMP;
+                    break;
+                default:
+                    return null;
+            }
+        }
+
+        int daysIntoCE;
+        long nanosSinceMidnight;
+        switch (ssType) {
+            case TIME:
+                daysIntoCE = TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900;
+                nanosSinceMidnight = ticksSinceMidnight;
+                break;
+            case DATETIME: // and SMALLDATETIME
+                daysIntoCE = TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900 + daysSinceBaseDate;
+                nanosSinceMidnight = ticksSinceMidnight * Nanos.PER_MILLISECOND;
+                break;
+            default:
+                daysIntoCE = daysSinceBaseDate;
+                nanosSinceMidnight = ticksSinceMidnight;
+                break;
+        }
+
+        if (daysIntoCE < GregorianChange.DAYS_SINCE_BASE_DATE_HINT)
+            return null;
+
+        // The instant of a DATETIMEOFFSET value does not depend on its time zone
+        if (SSType.DATETIMEOFFSET == ssType) {
+            if (JDBCType.Category.TIMESTAMP != category)
+                return null;
+
+            java.sql.Timestamp ts = new java.sql.Timestamp(
+                    (daysIntoCE - TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970) * 86400000L + nanosSinceMidnight / Nanos.PER_MILLISECOND);
+            ts.setNanos((int) (nanosSinceMidnight % Nanos.PER_SECOND));
+            return ts;
+        }
+
+        if (null != timeZoneCalendar)
+            return null;
+
+        switch (category) {
+            case DATE: {
+                int date = civilDateFromDaysIntoCE(daysIntoCE);
+                return new java.sql.Date((date >> 9) - 1900, ((date >> 5) & 0xF) - 1, date & 0x1F);
+            }
+
+            case TIME: {
+                // Round to the nearest millisecond, wrapping values within half a millisecond of the next day to midnight,
+                // as the Calendar path does.
+                long millisSinceMidnight = ((nanosSinceMidnight + Nanos.PER_MILLISECOND / 2) / Nanos.PER_MILLISECOND) % 86400000L;
+                int secondsSinceMidnight = (int) (millisSinceMidnight / 1000);
+                java.sql.Time time = new java.sql.Time(secondsSinceMidnight / 3600, (secondsSinceMidnight / 60) % 60, secondsSinceMidnight % 60);
+                time.setTime(time.getTime() + millisSinceMidnight % 1000);
+                return time;
+            }
+
+            case TIMESTAMP: {
+                int date = civilDateFromDaysIntoCE(daysIntoCE);
+                int secondsSinceMidnight = (int) (nanosSinceMidnight / Nanos.PER_SECOND);
+                return new java.sql.Timestamp((date >> 9) - 1900, ((date >> 5) & 0xF) - 1, date & 0x1F, secondsSinceMidnight / 3600,
+                        (secondsSinceMidnight / 60) % 60, secondsSinceMidnight % 60, (int) (nanosSinceMidnight % Nanos.PER_SECOND));
+            }
+
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the year, month (1 to 12) and day of a number of days since 1/1/0001, assuming pure Gregorian calendar rules. They are packed into
+     * an int as (year << 9) | (month << 5) | day.
+     */
+    static int civilDateFromDaysIntoCE(int daysIntoCE) {
+        assert daysIntoCE >= 0;
+
+        // Count from 3/1/0000, so that the leap day is the last day of a year
+        int days = daysIntoCE + 306;
+        int era = days / 146097;
+        int dayOfEra = days - era * 146097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = (shiftedMonth < 10) ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = era * 400 + yearOfEra + ((month <= 2) ? 1 : 0);
+        return (year << 9) | (month << 5) | day;
+    }
+
+    // Days in a non-leap year before the first day of each month
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+
+    /**
+     * Returns the number of days from 1/1/0001 to the specified date, assuming pure Gregorian calendar rules.
+     *
+     * @param month
+     *            the month, from 1 to 12
+     */
+    static int daysIntoCE(int year,
+            int month,
+            int day) {
+        boolean isLeapYear = (0 == year % 4) && (0 != year % 100 || 0 == year % 400);
+        return daysSinceBaseDate(year, DAYS_BEFORE_MONTH[month - 1] + day + ((isLeapYear && month > 2) ? 1 : 0), 1);
+    }
+
     /**
      * Returns the number of days elapsed from January 1 of the specified baseYear (Gregorian) to the specified dayOfYear in the specified year,
      * assuming pure Gregorian calendar rules (no Julian to Gregorian cutover).
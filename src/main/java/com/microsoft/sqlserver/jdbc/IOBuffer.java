@@ -29,10 +29,13 @@ import java.net.SocketException;
 import java.net.SocketTimeoutException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
 import java.security.KeyStore;
 import java.security.Provider;
 import java.security.Security;
@@ -55,14 +58,22 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLSession;
 import javax.net.ssl.SSLSocket;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.TrustManagerFactory;
@@ -416,6 +427,10 @@ final class TDS {
     final static int BASE_YEAR_1970 = 1970;
     final static String BASE_DATE_1970 = "1970-01-01";
 
+    // Days from 1/1/0001 to 1/1 of the base years, assuming Gregorian leap year behavior over the entire range.
+    final static int DAYS_INTO_CE_OF_BASE_YEAR_1900 = 693595;
+    final static int DAYS_INTO_CE_OF_BASE_YEAR_1970 = 719162;
+
     static int timeValueLength(int scale) {
         return nanosSinceMidnightLength(scale);
     }
@@ -544,6 +559,13 @@ final class TDSChannel {
         return new TDSReader(this, con, command);
     }
 
+    // Pool of response packets shared by all readers of this channel
+    private final TDSPacketPool packetPool = new TDSPacketPool();
+
+    final TDSPacketPool getPacketPool() {
+        return packetPool;
+    }
+
     // Socket for raw TCP/IP communications with SQL Server
     private Socket tcpSocket;
 
@@ -572,6 +594,23 @@ final class TDSChannel {
     private InputStream inputStream;
     private OutputStream outputStream;
 
+    // SocketChannel underlying the TCP socket when the nioTransport connection property is set.
+    // Once enabled, after prelogin, all TDS packets are exchanged through it instead of
+    // the I/O streams above, using direct buffers and selectors for the socket timeout.
+    private SocketChannel socketChannel;
+    private boolean isSocketChannelEnabled = false;
+    private Selector readSelector;
+    private Selector writeSelector;
+
+    // SSLEngine that encrypts the socket channel traffic of an encrypted NIO transport connection.
+    // Used instead of the SSLSocket above when the channel is encrypted.
+    private SSLEngineTransport sslEngineTransport;
+    private ByteBuffer channelReadBuffer;
+
+    // Size of the direct buffer that receives data from the socket channel. Several
+    // response packets can be read in one system call.
+    private static final int CHANNEL_READ_BUFFER_SIZE = 64 * 1024;
+
     /** TDS packet payload logger */
     private static Logger packetLogger = Logger.getLogger("com.microsoft.sqlserver.jdbc.internals.TDS.DATA");
     private final boolean isLoggingPackets = packetLogger.isLoggable(Level.FINEST);
@@ -646,6 +685,45 @@ final class TDSChannel {
         catch (IOException ex) {
             SQLServerException.ConvertConnectExceptionToSQLServerException(host, port, con, ex);
         }
+
+        if (con.getNioTransport())
+            socketChannel = tcpSocket.getChannel();
+    }
+
+    /**
+     * Switches this channel over to SocketChannel I/O if the nioTransport connection property is set.
+     *
+     * This must only be called at a message boundary once the channel will no longer use SSL, that is, after prelogin when the server does not
+     * support encryption, or after SSL is disabled following login.
+     */
+    final void enableSocketChannel() throws SQLServerException {
+        if (null == socketChannel || isSocketChannelEnabled)
+            return;
+
+        if (logger.isLoggable(Level.FINER))
+            logger.finer(toString() + " Switching to SocketChannel I/O");
+
+        try {
+            socketChannel.configureBlocking(false);
+            readSelector = Selector.open();
+            socketChannel.register(readSelector, SelectionKey.OP_READ);
+            writeSelector = Selector.open();
+            socketChannel.register(writeSelector, SelectionKey.OP_WRITE);
+        }
+        catch (IOException e) {
+            if (logger.isLoggable(Level.FINE))
+                logger.fine(toString() + " Switching to SocketChannel I/O failed:" + e.getMessage());
+
+            con.terminate(SQLServerException.DRIVER_ERROR_IO_FAILED, e.getMessage());
+        }
+
+        channelReadBuffer = ByteBuffer.allocateDirect(CHANNEL_READ_BUFFER_SIZE);
+        channelReadBuffer.flip();
+        isSocketChannelEnabled = true;
+    }
+
+    final boolean isSocketChannelEnabled() {
+        return isSocketChannelEnabled;
     }
 
     /**
@@ -655,6 +733,16 @@ final class TDSChannel {
         if (logger.isLoggable(Level.FINER))
             logger.finer(toString() + " Disabling SSL...");
 
+        // An SSLEngine holds no socket or streams; simply stop using it. As with the SSLSocket below,
+        // no TLS close_notify is sent since the server is not expecting one.
+        if (null != sslEngineTransport) {
+            sslEngineTransport = null;
+
+            if (logger.isLoggable(Level.FINER))
+                logger.finer(toString() + " SSL disabled");
+            return;
+        }
+
         /*
          * The mission: To close the SSLSocket and release everything that it is holding onto other than the TCP/IP socket and streams.
          *
@@ -718,6 +806,15 @@ final class TDSChannel {
 
         if (logger.isLoggable(Level.FINER))
             logger.finer(toString() + " SSL disabled");
+
+        // With SSL gone for good, the rest of the conversation can use the socket channel.
+        try {
+            enableSocketChannel();
+        }
+        catch (SQLServerException e) {
+            // The connection has been terminated; the next read or write reports the failure.
+            logger.fine(toString() + " Ignored error enabling SocketChannel I/O: " + e.getMessage());
+        }
     }
 
     /**
@@ -1329,17 +1426,12 @@ final class TDSChannel {
      *
      * A PermissiveX509TrustManager is used to "verify" the authenticity of the server when the trustServerCertificate connection property is set to
      * true.
+     *
+     * The trust manager may live in an SSL context that is shared by the connections of the TLSSessionCache, so it holds no state of the channel
+     * that created it.
      */
-    private final class PermissiveX509TrustManager extends Object implements X509TrustManager {
-        private final TDSChannel tdsChannel;
-        private final Logger logger;
-        private final String logContext;
-
-        PermissiveX509TrustManager(TDSChannel tdsChannel) {
-            this.tdsChannel = tdsChannel;
-            this.logger = tdsChannel.getLogger();
-            this.logContext = tdsChannel.toString() + " (PermissiveX509TrustManager):";
-        }
+    private static final class PermissiveX509TrustManager extends Object implements X509TrustManager {
+        private static final String logContext = "PermissiveX509TrustManager:";
 
         public void checkClientTrusted(X509Certificate[] chain,
                 String authType) throws CertificateException {
@@ -1362,18 +1454,17 @@ final class TDSChannel {
      * This class implements an X509TrustManager that hostname for validation.
      *
      * This validates the subject name in the certificate with the host name
+     *
+     * Like PermissiveX509TrustManager, the trust manager may live in a shared SSL context, so it holds no state of the channel that created it.
      */
-    private final class HostNameOverrideX509TrustManager extends Object implements X509TrustManager {
-        private final Logger logger;
+    private static final class HostNameOverrideX509TrustManager extends Object implements X509TrustManager {
         private final String logContext;
         private final X509TrustManager defaultTrustManager;
         private String hostName;
 
-        HostNameOverrideX509TrustManager(TDSChannel tdsChannel,
-                X509TrustManager tm,
+        HostNameOverrideX509TrustManager(X509TrustManager tm,
                 String hostName) {
-            this.logger = tdsChannel.getLogger();
-            this.logContext = tdsChannel.toString() + " (HostNameOverrideX509TrustManager):";
+            this.logContext = "HostNameOverrideX509TrustManager (" + hostName + "):";
             defaultTrustManager = tm;
             // canonical name is in lower case so convert this to lowercase too.
             this.hostName = hostName.toLowerCase();
@@ -1603,130 +1694,174 @@ final class TDSChannel {
                     TDS.ENCRYPT_ON == con.getNegotiatedEncryptionLevel() || // Full SSL
                     TDS.ENCRYPT_REQ == con.getNegotiatedEncryptionLevel();   // Full SSL
 
-            // If we requested login only SSL or full SSL without server certificate validation,
-            // then we'll "validate" the server certificate using a naive TrustManager that trusts
-            // everything it sees.
-            TrustManager[] tm = null;
-            if (TDS.ENCRYPT_OFF == con.getRequestedEncryptionLevel()
-                    || (TDS.ENCRYPT_ON == con.getRequestedEncryptionLevel() && con.trustServerCertificate())) {
-                if (logger.isLoggable(Level.FINER))
-                    logger.finer(toString() + " SSL handshake will trust any certificate");
+            boolean trustAllCertificates = TDS.ENCRYPT_OFF == con.getRequestedEncryptionLevel()
+                    || (TDS.ENCRYPT_ON == con.getRequestedEncryptionLevel() && con.trustServerCertificate());
 
-                tm = new TrustManager[] {new PermissiveX509TrustManager(this)};
+            // Connections with the same server and trust settings share an SSL context, so that they
+            // can resume the TLS sessions that it caches instead of performing full handshakes.
+            // A context with trust material that is loaded from a trust store specified for the
+            // connection is not shared: every connection must load the trust store with its own
+            // password, and the file may have changed since the last connection.
+            boolean isSharedContext = trustAllCertificates || (null == trustStoreFileName && null == trustStorePassword);
+            String sslContextKey = null;
+            SSLContext sslContext = null;
+            if (isSharedContext) {
+                sslContextKey = TLSSessionCache.getKey(host, port, hostNameInCertificate, trustAllCertificates, trustStoreType, isFips, fipsProvider);
+                sslContext = TLSSessionCache.getInstance().get(sslContextKey);
             }
 
-            // Otherwise, we'll validate the certificate using a real TrustManager obtained
-            // from the a security provider that is capable of validating X.509 certificates.
-            else {
+            if (null != sslContext) {
                 if (logger.isLoggable(Level.FINER))
-                    logger.finer(toString() + " SSL handshake will validate server certificate");
-
-                KeyStore ks = null;
-
-                // If we are using the system default trustStore and trustStorePassword
-                // then we can skip all of the KeyStore loading logic below.
-                // The security provider's implementation takes care of everything for us.
-                if (null == trustStoreFileName && null == trustStorePassword) {
+                    logger.finer(toString() + " Reusing cached SSL context");
+            }
+            else {
+                // If we requested login only SSL or full SSL without server certificate validation,
+                // then we'll "validate" the server certificate using a naive TrustManager that trusts
+                // everything it sees.
+                TrustManager[] tm = null;
+                if (trustAllCertificates) {
                     if (logger.isLoggable(Level.FINER))
-                        logger.finer(toString() + " Using system default trust store and password");
+                        logger.finer(toString() + " SSL handshake will trust any certificate");
+
+                    tm = new TrustManager[] {new PermissiveX509TrustManager()};
                 }
 
-                // Otherwise either the trustStore, trustStorePassword, or both was specified.
-                // In that case, we need to load up a KeyStore ourselves.
+                // Otherwise, we'll validate the certificate using a real TrustManager obtained
+                // from the a security provider that is capable of validating X.509 certificates.
                 else {
-                    // First, obtain an interface to a KeyStore that can load trust material
-                    // stored in Java Key Store (JKS) format.
-                    if (logger.isLoggable(Level.FINEST))
-                        logger.finest(toString() + " Finding key store interface");
+                    if (logger.isLoggable(Level.FINER))
+                        logger.finer(toString() + " SSL handshake will validate server certificate");
 
-                    if (isFips) {
-                        ks = KeyStore.getInstance(trustStoreType, fipsProvider);
+                    KeyStore ks = null;
+
+                    // If we are using the system default trustStore and trustStorePassword
+                    // then we can skip all of the KeyStore loading logic below.
+                    // The security provider's implementation takes care of everything for us.
+                    if (null == trustStoreFileName && null == trustStorePassword) {
+                        if (logger.isLoggable(Level.FINER))
+                            logger.finer(toString() + " Using system default trust store and password");
                     }
+
+                    // Otherwise either the trustStore, trustStorePassword, or both was specified.
+                    // In that case, we need to load up a KeyStore ourselves.
                     else {
-                        ks = KeyStore.getInstance(trustStoreType);
-                    }
-                    ksProvider = ks.getProvider();
+                        // First, obtain an interface to a KeyStore that can load trust material
+                        // stored in Java Key Store (JKS) format.
+                        if (logger.isLoggable(Level.FINEST))
+                            logger.finest(toString() + " Finding key store interface");
+
+                        if (isFips) {
+                            ks = KeyStore.getInstance(trustStoreType, fipsProvider);
+                        }
+                        else {
+                            ks = KeyStore.getInstance(trustStoreType);
+                        }
+                        ksProvider = ks.getProvider();
 
-                    // Next, load up the trust store file from the specified location.
-                    // Note: This function returns a null InputStream if the trust store cannot
-                    // be loaded. This is by design. See the method comment and documentation
-                    // for KeyStore.load for details.
-                    InputStream is = loadTrustStore(trustStoreFileName);
+                        // Next, load up the trust store file from the specified location.
+                        // Note: This function returns a null InputStream if the trust store cannot
+                        // be loaded. This is by design. See the method comment and documentation
+                        // for KeyStore.load for details.
+                        InputStream is = loadTrustStore(trustStoreFileName);
 
-                    // Finally, load the KeyStore with the trust material (if any) from the
-                    // InputStream and close the stream.
-                    if (logger.isLoggable(Level.FINEST))
-                        logger.finest(toString() + " Loading key store");
+                        // Finally, load the KeyStore with the trust material (if any) from the
+                        // InputStream and close the stream.
+                        if (logger.isLoggable(Level.FINEST))
+                            logger.finest(toString() + " Loading key store");
 
-                    try {
-                        ks.load(is, (null == trustStorePassword) ? null : trustStorePassword.toCharArray());
-                    }
-                    finally {
-                        // We are done with the trustStorePassword (if set). Clear it for better security.
-                        con.activeConnectionProperties.remove(SQLServerDriverStringProperty.TRUST_STORE_PASSWORD.toString());
-
-                        // We are also done with the trust store input stream.
-                        if (null != is) {
-                            try {
-                                is.close();
-                            }
-                            catch (IOException e) {
-                                if (logger.isLoggable(Level.FINE))
-                                    logger.fine(toString() + " Ignoring error closing trust material InputStream...");
+                        try {
+                            ks.load(is, (null == trustStorePassword) ? null : trustStorePassword.toCharArray());
+                        }
+                        finally {
+                            // We are done with the trustStorePassword (if set). Clear it for better security.
+                            con.activeConnectionProperties.remove(SQLServerDriverStringProperty.TRUST_STORE_PASSWORD.toString());
+
+                            // We are also done with the trust store input stream.
+                            if (null != is) {
+                                try {
+                                    is.close();
+                                }
+                                catch (IOException e) {
+                                    if (logger.isLoggable(Level.FINE))
+                                        logger.fine(toString() + " Ignoring error closing trust material InputStream...");
+                                }
                             }
                         }
                     }
-                }
 
-                // Either we now have a KeyStore populated with trust material or we are using the
-                // default source of trust material (cacerts). Either way, we are now ready to
-                // use a TrustManagerFactory to create a TrustManager that uses the trust material
-                // to validate the server certificate.
+                    // Either we now have a KeyStore populated with trust material or we are using the
+                    // default source of trust material (cacerts). Either way, we are now ready to
+                    // use a TrustManagerFactory to create a TrustManager that uses the trust material
+                    // to validate the server certificate.
 
-                // Next step is to get a TrustManagerFactory that can produce TrustManagers
-                // that understands X.509 certificates.
-                TrustManagerFactory tmf = null;
+                    // Next step is to get a TrustManagerFactory that can produce TrustManagers
+                    // that understands X.509 certificates.
+                    TrustManagerFactory tmf = null;
 
-                if (logger.isLoggable(Level.FINEST))
-                    logger.finest(toString() + " Locating X.509 trust manager factory");
+                    if (logger.isLoggable(Level.FINEST))
+                        logger.finest(toString() + " Locating X.509 trust manager factory");
 
-                tmfDefaultAlgorithm = TrustManagerFactory.getDefaultAlgorithm();
-                tmf = TrustManagerFactory.getInstance(tmfDefaultAlgorithm);
-                tmfProvider = tmf.getProvider();
+                    tmfDefaultAlgorithm = TrustManagerFactory.getDefaultAlgorithm();
+                    tmf = TrustManagerFactory.getInstance(tmfDefaultAlgorithm);
+                    tmfProvider = tmf.getProvider();
 
-                // Tell the TrustManagerFactory to give us TrustManagers that we can use to
-                // validate the server certificate using the trust material in the KeyStore.
-                if (logger.isLoggable(Level.FINEST))
-                    logger.finest(toString() + " Getting trust manager");
+                    // Tell the TrustManagerFactory to give us TrustManagers that we can use to
+                    // validate the server certificate using the trust material in the KeyStore.
+                    if (logger.isLoggable(Level.FINEST))
+                        logger.finest(toString() + " Getting trust manager");
 
-                tmf.init(ks);
-                tm = tmf.getTrustManagers();
+                    tmf.init(ks);
+                    tm = tmf.getTrustManagers();
 
-                // if the host name in cert provided use it or use the host name Only if it is not FIPS
-                if (!isFips) {
-                    if (null != hostNameInCertificate) {
-                        tm = new TrustManager[] {new HostNameOverrideX509TrustManager(this, (X509TrustManager) tm[0], hostNameInCertificate)};
-                    }
-                    else {
-                        tm = new TrustManager[] {new HostNameOverrideX509TrustManager(this, (X509TrustManager) tm[0], host)};
+                    // if the host name in cert provided use it or use the host name Only if it is not FIPS
+                    if (!isFips) {
+                        if (null != hostNameInCertificate) {
+                            tm = new TrustManager[] {new HostNameOverrideX509TrustManager((X509TrustManager) tm[0], hostNameInCertificate)};
+                        }
+                        else {
+                            tm = new TrustManager[] {new HostNameOverrideX509TrustManager((X509TrustManager) tm[0], host)};
+                        }
                     }
-                }
-            } // end if (!con.trustServerCertificate())
+                } // end if (!con.trustServerCertificate())
 
-            // Now, with a real or fake TrustManager in hand, get a context for creating a
-            // SSL sockets through a SSL socket factory. We require at least TLS support.
-            SSLContext sslContext = null;
+                // Now, with a real or fake TrustManager in hand, get a context for creating a
+                // SSL sockets through a SSL socket factory. We require at least TLS support.
+                if (logger.isLoggable(Level.FINEST))
+                    logger.finest(toString() + " Getting TLS or better SSL context");
 
-            if (logger.isLoggable(Level.FINEST))
-                logger.finest(toString() + " Getting TLS or better SSL context");
+                sslContext = SSLContext.getInstance("TLS");
+                sslContextProvider = sslContext.getProvider();
+
+                if (logger.isLoggable(Level.FINEST))
+                    logger.finest(toString() + " Initializing SSL context");
 
-            sslContext = SSLContext.getInstance("TLS");
-            sslContextProvider = sslContext.getProvider();
+                sslContext.init(null, tm, null);
 
-            if (logger.isLoggable(Level.FINEST))
-                logger.finest(toString() + " Initializing SSL context");
+                if (isSharedContext)
+                    TLSSessionCache.getInstance().put(sslContextKey, sslContext);
+            }
+
+            // With the NIO transport, TLS records are wrapped and unwrapped by an SSLEngine
+            // directly over the socket channel rather than through an SSLSocket.
+            if (null != socketChannel) {
+                enableSocketChannel();
 
-            sslContext.init(null, tm, null);
+                if (logger.isLoggable(Level.FINER))
+                    logger.finer(toString() + " Starting SSLEngine handshake");
+
+                SSLEngine sslEngine = sslContext.createSSLEngine(host, port);
+                SSLEngineTransport transport = new SSLEngineTransport(this, sslEngine);
+                long handshakeStartTime = System.currentTimeMillis();
+                handshakeState = SSLHandhsakeState.SSL_HANDHSAKE_STARTED;
+                transport.handshake();
+                handshakeState = SSLHandhsakeState.SSL_HANDHSAKE_COMPLETE;
+                logHandshake(sslEngine.getSession(), handshakeStartTime);
+                sslEngineTransport = transport;
+
+                if (logger.isLoggable(Level.FINER))
+                    logger.finer(toString() + " SSL enabled");
+                return;
+            }
 
             // Got the SSL context. Now create an SSL socket over our own proxy socket
             // which we can toggle between TDS-encapsulated and raw communications.
@@ -1744,9 +1879,11 @@ final class TDSChannel {
                 logger.finer(toString() + " Starting SSL handshake");
 
             // TLS 1.2 intermittent exception happens here.
+            long handshakeStartTime = System.currentTimeMillis();
             handshakeState = SSLHandhsakeState.SSL_HANDHSAKE_STARTED;
             sslSocket.startHandshake();
             handshakeState = SSLHandhsakeState.SSL_HANDHSAKE_COMPLETE;
+            logHandshake(sslSocket.getSession(), handshakeStartTime);
 
             // After SSL handshake is complete, rewire proxy socket to use raw TCP/IP streams ...
             if (logger.isLoggable(Level.FINEST))
@@ -1813,6 +1950,19 @@ final class TDSChannel {
         }
     }
 
+    /**
+     * Records whether a completed SSL handshake resumed a session from the SSL context's session cache. A resumed session was created before the
+     * handshake started.
+     */
+    private void logHandshake(SSLSession session,
+            long handshakeStartTime) {
+        boolean resumed = session.getCreationTime() < handshakeStartTime;
+        TLSSessionCache.getInstance().handshakeCompleted(resumed);
+
+        if (logger.isLoggable(Level.FINER))
+            logger.finer(toString() + (resumed ? " Resumed" : " Negotiated new") + " SSL session; " + TLSSessionCache.getInstance());
+    }
+
     /**
      * Validate FIPS if fips set as true
      * 
@@ -1973,6 +2123,12 @@ final class TDSChannel {
             int offset,
             int length) throws SQLServerException {
         try {
+            if (null != sslEngineTransport)
+                return sslEngineTransport.read(data, offset, length);
+
+            if (isSocketChannelEnabled)
+                return readChannel(data, offset, length);
+
             return inputStream.read(data, offset, length);
         }
         catch (IOException e) {
@@ -1990,11 +2146,115 @@ final class TDSChannel {
         }
     }
 
+    /**
+     * Reads from the socket channel through the direct read buffer, refilling the buffer with as much data as the socket has available when it is
+     * empty.
+     */
+    private int readChannel(byte[] data,
+            int offset,
+            int length) throws IOException {
+        if (!channelReadBuffer.hasRemaining()) {
+            channelReadBuffer.clear();
+            int bytesRead = readSocketChannel(channelReadBuffer);
+            channelReadBuffer.flip();
+
+            if (bytesRead < 0)
+                return -1;
+        }
+
+        int bytesToCopy = Math.min(length, channelReadBuffer.remaining());
+        channelReadBuffer.get(data, offset, bytesToCopy);
+        return bytesToCopy;
+    }
+
+    /**
+     * Reads whatever the socket channel has available into the buffer, waiting up to the socket timeout for data to arrive. Data already read
+     * into the channel read buffer is returned first.
+     *
+     * @return the number of bytes read, or -1 at end of stream
+     */
+    final int readChannel(ByteBuffer buffer) throws IOException {
+        if (channelReadBuffer.hasRemaining()) {
+            int bytesToCopy = Math.min(buffer.remaining(), channelReadBuffer.remaining());
+            ByteBuffer slice = channelReadBuffer.slice();
+            slice.limit(bytesToCopy);
+            buffer.put(slice);
+            channelReadBuffer.position(channelReadBuffer.position() + bytesToCopy);
+            return bytesToCopy;
+        }
+
+        return readSocketChannel(buffer);
+    }
+
+    private int readSocketChannel(ByteBuffer buffer) throws IOException {
+        int bytesRead;
+        while (0 == (bytesRead = socketChannel.read(buffer))) {
+            if (!waitForChannel(readSelector, con.getSocketTimeoutMilliseconds()))
+                throw new SocketTimeoutException(SQLServerException.getErrString("R_readTimedOut"));
+        }
+        return bytesRead;
+    }
+
+    final void writeChannel(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (0 == socketChannel.write(buffer))
+                waitForChannel(writeSelector, 0);
+        }
+    }
+
+    /**
+     * Waits until the socket channel is ready for the operation registered with the given selector.
+     *
+     * @return false if the wait timed out
+     */
+    private boolean waitForChannel(Selector selector,
+            int timeoutMillis) throws IOException {
+        int numReady = selector.select(timeoutMillis);
+        selector.selectedKeys().clear();
+        return numReady > 0 || 0 == timeoutMillis;
+    }
+
     final void write(byte[] data,
             int offset,
             int length) throws SQLServerException {
         try {
-            outputStream.write(data, offset, length);
+            if (null != sslEngineTransport)
+                sslEngineTransport.write(ByteBuffer.wrap(data, offset, length));
+            else if (isSocketChannelEnabled)
+                writeChannel(ByteBuffer.wrap(data, offset, length));
+            else
+                outputStream.write(data, offset, length);
+        }
+        catch (IOException e) {
+            if (logger.isLoggable(Level.FINER))
+                logger.finer(toString() + " write failed:" + e.getMessage());
+
+            con.terminate(SQLServerException.DRIVER_ERROR_IO_FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the remaining bytes of a packet buffer, which may be a direct buffer when SocketChannel I/O is enabled.
+     */
+    final void write(ByteBuffer buffer) throws SQLServerException {
+        if (!isSocketChannelEnabled && !buffer.hasArray()) {
+            byte[] data = new byte[buffer.remaining()];
+            buffer.get(data);
+            write(data, 0, data.length);
+            return;
+        }
+
+        try {
+            if (null != sslEngineTransport) {
+                sslEngineTransport.write(buffer);
+            }
+            else if (isSocketChannelEnabled) {
+                writeChannel(buffer);
+            }
+            else {
+                outputStream.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                buffer.position(buffer.limit());
+            }
         }
         catch (IOException e) {
             if (logger.isLoggable(Level.FINER))
@@ -2005,6 +2265,9 @@ final class TDSChannel {
     }
 
     final void flush() throws SQLServerException {
+        if (isSocketChannelEnabled)
+            return;
+
         try {
             outputStream.flush();
         }
@@ -2017,9 +2280,23 @@ final class TDSChannel {
     }
 
     final void close() {
+        if (logger.isLoggable(Level.FINER))
+            logger.finer(this.toString() + ": " + packetPool.toString());
+
         if (null != sslSocket)
             disableSSL();
 
+        if (isSocketChannelEnabled) {
+            try {
+                readSelector.close();
+                writeSelector.close();
+            }
+            catch (IOException e) {
+                if (logger.isLoggable(Level.FINE))
+                    logger.log(Level.FINE, this.toString() + ": Ignored error closing selectors", e);
+            }
+        }
+
         if (null != inputStream) {
             if (logger.isLoggable(Level.FINEST))
                 logger.finest(this.toString() + ": Closing inputStream...");
@@ -2592,11 +2869,18 @@ final class SocketFinder {
         assert timeoutInMilliSeconds != 0 : "timeout cannot be zero";
         if (addr.isUnresolved())
             throw new java.net.UnknownHostException();
-        selectedSocket = new Socket();
+        selectedSocket = newSocket();
         selectedSocket.connect(addr, timeoutInMilliSeconds);
         return selectedSocket;
     }
 
+    /**
+     * Creates an unconnected socket, backed by a SocketChannel when the connection uses the NIO transport.
+     */
+    private Socket newSocket() throws IOException {
+        return conn.getNioTransport() ? SocketChannel.open().socket() : new Socket();
+    }
+
     private void findSocketUsingThreading(LinkedList<Inet6Address> inetAddrs,
             int portNumber,
             int timeoutInMilliSeconds) throws IOException, InterruptedException {
@@ -2611,7 +2895,7 @@ final class SocketFinder {
             // create a socket, inetSocketAddress and a corresponding socketConnector per inetAddress
             noOfSpawnedThreads = inetAddrs.size();
             for (InetAddress inetAddress : inetAddrs) {
-                Socket s = new Socket();
+                Socket s = newSocket();
                 sockets.add(s);
 
                 InetSocketAddress inetSocketAddress = new InetSocketAddress(inetAddress, portNumber);
@@ -2996,6 +3280,10 @@ final class TDSWriter {
     // security reasons.
     private boolean dataIsLoggable = true;
 
+    // Packet logging is decided once for the life of the channel. When it is off, values are written
+    // only to the staging buffer and no log buffer is allocated.
+    private final boolean isLoggingPackets;
+
     void setDataLoggable(boolean value) {
         dataIsLoggable = value;
     }
@@ -3030,6 +3318,20 @@ final class TDSWriter {
     // the channel buffers.
     private byte valueBytes[] = new byte[256];
 
+    // Scratch arrays and encoder reused by the streamed value writes (writeStream, writeReader and
+    // writeNonUnicodeReader), allocated on first use.
+    private byte[] streamByteBuffer = null;
+    private char[] streamCharBuffer = null;
+    private CharsetEncoder streamEncoder = null;
+
+    // Date and time parts of the temporal values sent as RPC parameters, reused for every value
+    // written through this writer. See DTV.SendByRPCOp.sendTemporalWithoutCalendar.
+    private final TemporalParts temporalParts = new TemporalParts();
+
+    final TemporalParts getTemporalParts() {
+        return temporalParts;
+    }
+
     // Monotonically increasing packet number associated with the current message
     private volatile int packetNum = 0;
 
@@ -3060,13 +3362,14 @@ final class TDSWriter {
             SQLServerConnection con) {
         this.tdsChannel = tdsChannel;
         this.con = con;
+        this.isLoggingPackets = tdsChannel.isLoggingPackets();
         traceID = "TDSWriter@" + Integer.toHexString(hashCode()) + " (" + con.toString() + ")";
     }
 
     // TDS message start/end operations
 
     void preparePacket() throws SQLServerException {
-        if (tdsChannel.isLoggingPackets()) {
+        if (isLoggingPackets) {
             Arrays.fill(logBuffer.array(), (byte) 0xFE);
             logBuffer.clear();
         }
@@ -3136,11 +3439,14 @@ final class TDSWriter {
         // If the TDS packet size has changed since the last request
         // (which should really only happen after the login packet)
         // then allocate new buffers that are the correct size.
+        // Packets written through a socket channel are staged in direct buffers.
         int negotiatedPacketSize = con.getTDSPacketSize();
-        if (currentPacketSize != negotiatedPacketSize) {
-            socketBuffer = ByteBuffer.allocate(negotiatedPacketSize).order(ByteOrder.LITTLE_ENDIAN);
-            stagingBuffer = ByteBuffer.allocate(negotiatedPacketSize).order(ByteOrder.LITTLE_ENDIAN);
-            logBuffer = ByteBuffer.allocate(negotiatedPacketSize).order(ByteOrder.LITTLE_ENDIAN);
+        boolean useDirectBuffers = tdsChannel.isSocketChannelEnabled();
+        if (currentPacketSize != negotiatedPacketSize || socketBuffer.isDirect() != useDirectBuffers) {
+            socketBuffer = allocatePacketBuffer(negotiatedPacketSize, useDirectBuffers);
+            stagingBuffer = allocatePacketBuffer(negotiatedPacketSize, useDirectBuffers);
+            if (isLoggingPackets)
+                logBuffer = ByteBuffer.allocate(negotiatedPacketSize).order(ByteOrder.LITTLE_ENDIAN);
             currentPacketSize = negotiatedPacketSize;
         }
 
@@ -3151,6 +3457,11 @@ final class TDSWriter {
         writeMessageHeader();
     }
 
+    private static ByteBuffer allocatePacketBuffer(int size,
+            boolean direct) {
+        return (direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
     final void endMessage() throws SQLServerException {
         if (logger.isLoggable(Level.FINEST))
             logger.finest(toString() + " Finishing TDS message");
@@ -3183,7 +3494,7 @@ final class TDSWriter {
     void writeByte(byte value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 1) {
             stagingBuffer.put(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.put(value);
                 else
@@ -3199,7 +3510,7 @@ final class TDSWriter {
     void writeChar(char value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 2) {
             stagingBuffer.putChar(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putChar(value);
                 else
@@ -3215,7 +3526,7 @@ final class TDSWriter {
     void writeShort(short value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 2) {
             stagingBuffer.putShort(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putShort(value);
                 else
@@ -3231,7 +3542,7 @@ final class TDSWriter {
     void writeInt(int value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 4) {
             stagingBuffer.putInt(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putInt(value);
                 else
@@ -3254,7 +3565,7 @@ final class TDSWriter {
         if (false) // stagingBuffer.remaining() >= 4)
         {
             stagingBuffer.putFloat(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putFloat(value);
                 else
@@ -3275,7 +3586,7 @@ final class TDSWriter {
     void writeDouble(double value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 8) {
             stagingBuffer.putDouble(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putDouble(value);
                 else
@@ -3626,7 +3937,7 @@ final class TDSWriter {
     void writeLong(long value) throws SQLServerException {
         if (stagingBuffer.remaining() >= 8) {
             stagingBuffer.putLong(value);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.putLong(value);
                 else
@@ -3669,7 +3980,7 @@ final class TDSWriter {
                 bytesToWrite = stagingBuffer.remaining();
 
             stagingBuffer.put(value, offset + bytesWritten, bytesToWrite);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.put(value, offset + bytesWritten, bytesToWrite);
                 else
@@ -3693,7 +4004,7 @@ final class TDSWriter {
         int remaining = stagingBuffer.remaining();
         if (remaining > 0) {
             stagingBuffer.put(value, 0, remaining);
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 if (dataIsLoggable)
                     logBuffer.put(value, 0, remaining);
                 else
@@ -3706,7 +4017,7 @@ final class TDSWriter {
         // After swapping, the staging buffer should once again be empty, so the
         // remainder of the value can be written to it.
         stagingBuffer.put(value, remaining, valueLength - remaining);
-        if (tdsChannel.isLoggingPackets()) {
+        if (isLoggingPackets) {
             if (dataIsLoggable)
                 logBuffer.put(value, remaining, valueLength - remaining);
             else
@@ -3714,24 +4025,98 @@ final class TDSWriter {
         }
     }
 
+    /**
+     * Writes the characters of a String as UTF-16LE.
+     *
+     * Characters are put straight from the String into the staging buffer (which is little endian), as many at a time as fit in the current
+     * packet. Only a character that straddles two packets is written on its own.
+     */
     void writeString(String value) throws SQLServerException {
         int charsCopied = 0;
         int length = value.length();
         while (charsCopied < length) {
-            int bytesToCopy = 2 * (length - charsCopied);
+            int charsToCopy = Math.min(length - charsCopied, stagingBuffer.remaining() / 2);
+            if (0 == charsToCopy) {
+                writeChar(value.charAt(charsCopied++));
+                continue;
+            }
+
+            int end = charsCopied + charsToCopy;
+            for (int i = charsCopied; i < end; i++)
+                stagingBuffer.putChar(value.charAt(i));
+            if (isLoggingPackets) {
+                if (dataIsLoggable) {
+                    for (int i = charsCopied; i < end; i++)
+                        logBuffer.putChar(value.charAt(i));
+                }
+                else {
+                    logBuffer.position(logBuffer.position() + 2 * charsToCopy);
+                }
+            }
 
-            if (bytesToCopy > valueBytes.length)
-                bytesToCopy = valueBytes.length;
+            charsCopied = end;
+        }
+    }
 
-            int bytesCopied = 0;
-            while (bytesCopied < bytesToCopy) {
-                char ch = value.charAt(charsCopied++);
-                valueBytes[bytesCopied++] = (byte) ((ch >> 0) & 0xFF);
-                valueBytes[bytesCopied++] = (byte) ((ch >> 8) & 0xFF);
+    /**
+     * Writes characters as UTF-16LE, in the same way as writeString.
+     */
+    private void writeChars(char[] chars,
+            int offset,
+            int length) throws SQLServerException {
+        int charsCopied = 0;
+        while (charsCopied < length) {
+            int charsToCopy = Math.min(length - charsCopied, stagingBuffer.remaining() / 2);
+            if (0 == charsToCopy) {
+                writeChar(chars[offset + charsCopied++]);
+                continue;
+            }
+
+            int start = offset + charsCopied;
+            int end = start + charsToCopy;
+            for (int i = start; i < end; i++)
+                stagingBuffer.putChar(chars[i]);
+            if (isLoggingPackets) {
+                if (dataIsLoggable) {
+                    for (int i = start; i < end; i++)
+                        logBuffer.putChar(chars[i]);
+                }
+                else {
+                    logBuffer.position(logBuffer.position() + 2 * charsToCopy);
+                }
             }
 
-            writeBytes(valueBytes, 0, bytesCopied);
+            charsCopied += charsToCopy;
+        }
+    }
+
+    /**
+     * Returns the writer's scratch byte array for streamed values, growing it to at least the given length.
+     */
+    private byte[] getStreamByteBuffer(int minLength) {
+        if (null == streamByteBuffer || streamByteBuffer.length < minLength)
+            streamByteBuffer = new byte[minLength];
+        return streamByteBuffer;
+    }
+
+    /**
+     * Returns the writer's scratch char array for streamed values, growing it to at least the given length.
+     */
+    private char[] getStreamCharBuffer(int minLength) {
+        if (null == streamCharBuffer || streamCharBuffer.length < minLength)
+            streamCharBuffer = new char[minLength];
+        return streamCharBuffer;
+    }
+
+    /**
+     * Returns an encoder for the given charset, reusing the previous one when the charset is the same. Characters that cannot be encoded are
+     * replaced, as String.getBytes does.
+     */
+    private CharsetEncoder getStreamEncoder(Charset charSet) {
+        if (null == streamEncoder || !streamEncoder.charset().equals(charSet)) {
+            streamEncoder = charSet.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
         }
+        return streamEncoder.reset();
     }
 
     void writeStream(InputStream inputStream,
@@ -3740,7 +4125,7 @@ final class TDSWriter {
         assert DataTypes.UNKNOWN_STREAM_LENGTH == advertisedLength || advertisedLength >= 0;
 
         long actualLength = 0;
-        final byte[] streamByteBuffer = new byte[4 * currentPacketSize];
+        final byte[] streamByteBuffer = getStreamByteBuffer(4 * currentPacketSize);
         int bytesRead = 0;
         int bytesToWrite;
         do {
@@ -3797,17 +4182,19 @@ final class TDSWriter {
         assert DataTypes.UNKNOWN_STREAM_LENGTH == advertisedLength || advertisedLength >= 0;
 
         long actualLength = 0;
-        char[] streamCharBuffer = new char[currentPacketSize];
-        // The unicode version, writeReader() allocates a byte buffer that is 4 times the currentPacketSize, not sure why.
-        byte[] streamByteBuffer = new byte[currentPacketSize];
+        char[] streamCharBuffer = getStreamCharBuffer(currentPacketSize);
+        CharsetEncoder encoder = (null == charSet) ? null : getStreamEncoder(charSet);
+        byte[] streamByteBuffer = getStreamByteBuffer(
+                (null == encoder) ? streamCharBuffer.length : (int) Math.ceil(streamCharBuffer.length * (double) encoder.maxBytesPerChar()));
         int charsRead = 0;
         int charsToWrite;
+        int charsCarried = 0;
         int bytesToWrite;
         String streamString;
 
         do {
-            // Read in next chunk
-            for (charsToWrite = 0; -1 != charsRead && charsToWrite < streamCharBuffer.length; charsToWrite += charsRead) {
+            // Read in next chunk, after any characters carried over from the previous one
+            for (charsToWrite = charsCarried; -1 != charsRead && charsToWrite < streamCharBuffer.length; charsToWrite += charsRead) {
                 try {
                     charsRead = reader.read(streamCharBuffer, charsToWrite, streamCharBuffer.length - charsToWrite);
                 }
@@ -3833,30 +4220,43 @@ final class TDSWriter {
                 // This also writes the PLP_TERMINATOR token after all the data in the the stream are sent.
                 // The Do-While loop goes on one more time as charsToWrite is greater than 0 for the last chunk, and
                 // in this last round the only thing that is written is an int value of 0, which is the PLP Terminator token(0x00000000).
-                writeInt(charsToWrite);
-
-                for (int charsCopied = 0; charsCopied < charsToWrite; ++charsCopied) {
-                    if (null == charSet) {
+                if (null == encoder) {
+                    for (int charsCopied = 0; charsCopied < charsToWrite; ++charsCopied)
                         streamByteBuffer[charsCopied] = (byte) (streamCharBuffer[charsCopied] & 0xFF);
-                    }
-                    else {
-                        // encoding as per collation
-                        streamByteBuffer[charsCopied] = new String(streamCharBuffer[charsCopied] + "").getBytes(charSet)[0];
-                    }
+                    bytesToWrite = charsToWrite;
+                }
+                else if (0 == charsToWrite) {
+                    bytesToWrite = 0;
+                }
+                else {
+                    // encoding as per collation. The encoder keeps its state from chunk to chunk; a high surrogate
+                    // at the end of a chunk is left in the buffer and carried over to be encoded with its low surrogate.
+                    boolean endOfInput = -1 == charsRead;
+                    CharBuffer chars = CharBuffer.wrap(streamCharBuffer, 0, charsToWrite);
+                    ByteBuffer encodedBytes = ByteBuffer.wrap(streamByteBuffer);
+                    encoder.encode(chars, encodedBytes, endOfInput);
+                    if (endOfInput)
+                        encoder.flush(encodedBytes);
+                    bytesToWrite = encodedBytes.position();
+
+                    charsCarried = chars.remaining();
+                    System.arraycopy(streamCharBuffer, chars.position(), streamCharBuffer, 0, charsCarried);
                 }
-                writeBytes(streamByteBuffer, 0, charsToWrite);
+
+                writeInt(bytesToWrite);
+                writeBytes(streamByteBuffer, 0, bytesToWrite);
             }
             else {
                 bytesToWrite = charsToWrite;
                 if (0 != charsToWrite)
                     bytesToWrite = charsToWrite / 2;
 
-                streamString = new String(streamCharBuffer);
+                streamString = new String(streamCharBuffer, 0, charsToWrite);
                 byte[] bytes = ParameterUtils.HexToBin(streamString.trim());
                 writeInt(bytesToWrite);
                 writeBytes(bytes, 0, bytesToWrite);
             }
-            actualLength += charsToWrite;
+            actualLength += charsToWrite - charsCarried;
         }
         while (-1 != charsRead || charsToWrite > 0);
 
@@ -3879,8 +4279,7 @@ final class TDSWriter {
         assert DataTypes.UNKNOWN_STREAM_LENGTH == advertisedLength || advertisedLength >= 0;
 
         long actualLength = 0;
-        char[] streamCharBuffer = new char[2 * currentPacketSize];
-        byte[] streamByteBuffer = new byte[4 * currentPacketSize];
+        char[] streamCharBuffer = getStreamCharBuffer(2 * currentPacketSize);
         int charsRead = 0;
         int charsToWrite;
         do {
@@ -3910,17 +4309,8 @@ final class TDSWriter {
             if (writeChunkSizes)
                 writeInt(2 * charsToWrite);
 
-            // Convert from Unicode characters to bytes
-            //
-            // Note: The following inlined code is much faster than the equivalent
-            // call to (new String(streamCharBuffer)).getBytes("UTF-16LE") because it
-            // saves a conversion to String and use of Charset in that conversion.
-            for (int charsCopied = 0; charsCopied < charsToWrite; ++charsCopied) {
-                streamByteBuffer[2 * charsCopied] = (byte) ((streamCharBuffer[charsCopied] >> 0) & 0xFF);
-                streamByteBuffer[2 * charsCopied + 1] = (byte) ((streamCharBuffer[charsCopied] >> 8) & 0xFF);
-            }
-
-            writeBytes(streamByteBuffer, 0, 2 * charsToWrite);
+            // Copy the characters into the packet buffers as UTF-16LE
+            writeChars(streamCharBuffer, 0, charsToWrite);
             actualLength += charsToWrite;
         }
         while (-1 != charsRead || charsToWrite > 0);
@@ -4046,7 +4436,7 @@ final class TDSWriter {
         stagingBuffer.put(TDS.PACKET_HEADER_WINDOW, (byte) 0); // Window (Reserved/Not used)
 
         // Write the header to the log buffer too if logging.
-        if (tdsChannel.isLoggingPackets()) {
+        if (isLoggingPackets) {
             logBuffer.put(TDS.PACKET_HEADER_MESSAGE_TYPE, tdsMessageType);
             logBuffer.put(TDS.PACKET_HEADER_MESSAGE_STATUS, (byte) tdsMessageStatus);
             logBuffer.put(TDS.PACKET_HEADER_MESSAGE_LENGTH, (byte) ((tdsMessageLength >> 8) & 0xFF));     // Note: message length is 16 bits,
@@ -4060,8 +4450,7 @@ final class TDSWriter {
 
     void flush(boolean atEOM) throws SQLServerException {
         // First, flush any data left in the socket buffer.
-        tdsChannel.write(socketBuffer.array(), socketBuffer.position(), socketBuffer.remaining());
-        socketBuffer.position(socketBuffer.limit());
+        tdsChannel.write(socketBuffer);
 
         // If there is data in the staging buffer that needs to be written
         // to the socket, the socket buffer is now empty, so swap buffers
@@ -4083,7 +4472,7 @@ final class TDSWriter {
 
             // If we are logging TDS packets then log the packet we're about
             // to send over the wire now.
-            if (tdsChannel.isLoggingPackets()) {
+            if (isLoggingPackets) {
                 tdsChannel.logPacket(logBuffer.array(), 0, socketBuffer.limit(),
                         this.toString() + " sending packet (" + socketBuffer.limit() + " bytes)");
             }
@@ -4093,8 +4482,7 @@ final class TDSWriter {
                 preparePacket();
 
             // Finally, start sending data from the new socket buffer.
-            tdsChannel.write(socketBuffer.array(), socketBuffer.position(), socketBuffer.remaining());
-            socketBuffer.position(socketBuffer.limit());
+            tdsChannel.write(socketBuffer);
         }
     }
 
@@ -5105,16 +5493,13 @@ final class TDSWriter {
         assert (subSecondNanos >= 0) && (subSecondNanos < Nanos.PER_SECOND) : "Invalid subNanoSeconds value: " + subSecondNanos;
         assert (cal != null) || (cal == null && subSecondNanos == 0) : "Invalid subNanoSeconds value when calendar is null: " + subSecondNanos;
 
-        writeRPCNameValType(sName, bOut, TDSType.DATETIMEN);
-        writeByte((byte) 8); // max length of datatype
-
         if (null == cal) {
+            writeRPCNameValType(sName, bOut, TDSType.DATETIMEN);
+            writeByte((byte) 8); // max length of datatype
             writeByte((byte) 0); // len of data bytes
             return;
         }
 
-        writeByte((byte) 8); // len of data bytes
-
         // We need to extract the Calendar's current date & time in terms
         // of the number of days since the SQL Base Date (1/1/1900) plus
         // the number of milliseconds since midnight in the current day.
@@ -5129,16 +5514,38 @@ final class TDSWriter {
         // are dealing with a Chinese Calendar implementation which does not
         // use the same value for Calendar.YEAR as the GregorianCalendar,
         // we cannot meaningfully compute a value relative to 1/1/1900.
+        writeRPCDateTime(sName, DDC.daysSinceBaseDate(cal.get(Calendar.YEAR), cal.get(Calendar.DAY_OF_YEAR), 1),
+                nanosSinceMidnight(cal, subSecondNanos), bOut);
+    }
+
+    /**
+     * Append a timestamp in RPC transmission format as a SQL Server DATETIME data type
+     * 
+     * @param sName
+     *            the optional parameter name
+     * @param daysIntoCE
+     *            the date, as a number of days since 1/1/0001 in a pure Gregorian calendar
+     * @param nanosSinceMidnight
+     *            the time, as a number of nanoseconds since midnight
+     * @param bOut
+     *            boolean true if the data value is being registered as an ouput parameter
+     *
+     */
+    void writeRPCDateTime(String sName,
+            int daysIntoCE,
+            long nanosSinceMidnight,
+            boolean bOut) throws SQLServerException {
+        assert (nanosSinceMidnight >= 0) && (nanosSinceMidnight < Nanos.PER_DAY) : "Invalid nanosSinceMidnight value: " + nanosSinceMidnight;
+
+        writeRPCNameValType(sName, bOut, TDSType.DATETIMEN);
+        writeByte((byte) 8); // max length of datatype
+        writeByte((byte) 8); // len of data bytes
 
         // First, figure out how many days there have been since the SQL Base Date.
-        // These are based on SQL Server algorithms
-        int daysSinceSQLBaseDate = DDC.daysSinceBaseDate(cal.get(Calendar.YEAR), cal.get(Calendar.DAY_OF_YEAR), TDS.BASE_YEAR_1900);
+        int daysSinceSQLBaseDate = daysIntoCE - TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900;
 
         // Next, figure out the number of milliseconds since midnight of the current day.
-        int millisSinceMidnight = (subSecondNanos + Nanos.PER_MILLISECOND / 2) / Nanos.PER_MILLISECOND + // Millis into the current second
-                1000 * cal.get(Calendar.SECOND) + // Seconds into the current minute
-                60 * 1000 * cal.get(Calendar.MINUTE) + // Minutes into the current hour
-                60 * 60 * 1000 * cal.get(Calendar.HOUR_OF_DAY); // Hours into the current day
+        int millisSinceMidnight = (int) ((nanosSinceMidnight + Nanos.PER_MILLISECOND / 2) / Nanos.PER_MILLISECOND);
 
         // The last millisecond of the current day is always rounded to the first millisecond
         // of the next day because DATETIME is only accurate to 1/300th of a second.
@@ -5201,9 +5608,30 @@ final class TDSWriter {
                 SSType.DATE);
     }
 
-    void writeEncryptedRPCTime(String sName,
-            GregorianCalendar localCalendar,
-            int subSecondNanos,
+    void writeRPCTime(String sName,
+            long nanosSinceMidnight,
+            int scale,
+            boolean bOut) throws SQLServerException {
+        writeRPCNameValType(sName, bOut, TDSType.TIMEN);
+        writeByte((byte) scale);
+        writeByte((byte) TDS.timeValueLength(scale));
+        writeScaledTemporal(0, // days into the CE (none for a time value)
+                nanosSinceMidnight, scale, SSType.TIME);
+    }
+
+    void writeRPCDate(String sName,
+            int daysIntoCE,
+            boolean bOut) throws SQLServerException {
+        writeRPCNameValType(sName, bOut, TDSType.DATEN);
+        writeByte((byte) TDS.DAYS_INTO_CE_LENGTH);
+        writeScaledTemporal(daysIntoCE, 0, // nanos since midnight (none for a date value)
+                0, // scale (dates are not scaled)
+                SSType.DATE);
+    }
+
+    void writeEncryptedRPCTime(String sName,
+            GregorianCalendar localCalendar,
+            int subSecondNanos,
             int scale,
             boolean bOut) throws SQLServerException {
         if (con.getSendTimeAsDatetime()) {
@@ -5306,14 +5734,9 @@ final class TDSWriter {
                 throw new SQLServerException(form.format(msgArgs), SQLState.DATA_EXCEPTION_DATETIME_FIELD_OVERFLOW, DriverError.NOT_SET, null);
             }
 
-            ByteBuffer days = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
-            days.putShort((short) daysSinceSQLBaseDate);
-            ByteBuffer seconds = ByteBuffer.allocate(2).order(ByteOrder.LITTLE_ENDIAN);
-            seconds.putShort((short) minutesSinceMidnight);
-
             byte[] value = new byte[4];
-            System.arraycopy(days.array(), 0, value, 0, 2);
-            System.arraycopy(seconds.array(), 0, value, 2, 2);
+            Util.writeShort((short) daysSinceSQLBaseDate, value, 0);
+            Util.writeShort((short) minutesSinceMidnight, value, 2);
             return SQLServerSecurityUtility.encryptWithKey(value, cryptoMeta, con);
         }
         else if (JDBCType.DATETIME == jdbcType) {
@@ -5332,14 +5755,10 @@ final class TDSWriter {
             }
 
             // Number of days since the SQL Server Base Date (January 1, 1900)
-            ByteBuffer days = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
-            days.putInt(daysSinceSQLBaseDate);
-            ByteBuffer seconds = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
-            seconds.putInt((3 * millisSinceMidnight + 5) / 10);
-
+            // and milliseconds since midnight (at a resolution of three hundredths of a second)
             byte[] value = new byte[8];
-            System.arraycopy(days.array(), 0, value, 0, 4);
-            System.arraycopy(seconds.array(), 0, value, 4, 4);
+            Util.writeInt(daysSinceSQLBaseDate, value, 0);
+            Util.writeInt((3 * millisSinceMidnight + 5) / 10, value, 4);
             return SQLServerSecurityUtility.encryptWithKey(value, cryptoMeta, con);
         }
 
@@ -5425,6 +5844,45 @@ final class TDSWriter {
         writeShort((short) minutesOffset);
     }
 
+    void writeRPCDateTime2(String sName,
+            int daysIntoCE,
+            long nanosSinceMidnight,
+            int scale,
+            boolean bOut) throws SQLServerException {
+        writeRPCNameValType(sName, bOut, TDSType.DATETIME2N);
+        writeByte((byte) scale);
+        writeByte((byte) TDS.datetime2ValueLength(scale));
+        writeScaledTemporal(daysIntoCE, nanosSinceMidnight, scale, SSType.DATETIME2);
+    }
+
+    void writeRPCDateTimeOffset(String sName,
+            int utcDaysIntoCE,
+            long utcNanosSinceMidnight,
+            int minutesOffset,
+            int scale,
+            boolean bOut) throws SQLServerException {
+        writeRPCNameValType(sName, bOut, TDSType.DATETIMEOFFSETN);
+        writeByte((byte) scale);
+        writeByte((byte) TDS.datetimeoffsetValueLength(scale));
+        writeScaledTemporal(utcDaysIntoCE, utcNanosSinceMidnight, scale, SSType.DATETIMEOFFSET);
+
+        writeShort((short) minutesOffset);
+    }
+
+    /**
+     * Returns the time of a Calendar value as a number of nanoseconds since midnight.
+     *
+     * @param cal
+     *            Calendar representing the value, except for any sub-second nanoseconds
+     * @param subSecondNanos
+     *            the sub-second nanoseconds (0 - 999,999,999)
+     */
+    private static long nanosSinceMidnight(GregorianCalendar cal,
+            int subSecondNanos) {
+        int secondsSinceMidnight = cal.get(Calendar.SECOND) + 60 * cal.get(Calendar.MINUTE) + 60 * 60 * cal.get(Calendar.HOUR_OF_DAY);
+        return (long) Nanos.PER_SECOND * secondsSinceMidnight + subSecondNanos;
+    }
+
     /**
      * Returns subSecondNanos rounded to the maximum precision supported. The maximum fractional scale is MAX_FRACTIONAL_SECONDS_SCALE(7). Eg1: if you
      * pass 456,790,123 the function would return 456,790,100 Eg2: if you pass 456,790,150 the function would return 456,790,200 Eg3: if you pass
@@ -5456,6 +5914,60 @@ final class TDSWriter {
             int subSecondNanos,
             int scale,
             SSType ssType) throws SQLServerException {
+        assert subSecondNanos >= 0;
+        assert subSecondNanos < Nanos.PER_SECOND;
+
+        int daysIntoCE = 0;
+
+        // For types with a date component, figure out the days into the Common Era
+        if (SSType.DATE == ssType || SSType.DATETIME2 == ssType || SSType.DATETIMEOFFSET == ssType) {
+            // Computation of the number of days into the Common Era assumes that
+            // the DAY_OF_YEAR field reflects a pure Gregorian calendar - one that
+            // uses Gregorian leap year rules across the entire range of dates.
+            //
+            // For the DAY_OF_YEAR field to accurately reflect pure Gregorian behavior,
+            // we need to use a pure Gregorian calendar for dates that are Julian dates
+            // under a standard Gregorian calendar and for (Gregorian) dates later than
+            // the cutover date in the cutover year.
+            if (cal.getTimeInMillis() < GregorianChange.STANDARD_CHANGE_DATE.getTime()
+                    || cal.getActualMaximum(Calendar.DAY_OF_YEAR) < TDS.DAYS_PER_YEAR) {
+                int year = cal.get(Calendar.YEAR);
+                int month = cal.get(Calendar.MONTH);
+                int date = cal.get(Calendar.DATE);
+
+                // Set the cutover as early as possible (pure Gregorian behavior)
+                cal.setGregorianChange(GregorianChange.PURE_CHANGE_DATE);
+
+                // Initialize the date field by field (preserving the "wall calendar" value)
+                cal.set(year, month, date);
+            }
+
+            daysIntoCE = DDC.daysSinceBaseDate(cal.get(Calendar.YEAR), cal.get(Calendar.DAY_OF_YEAR), 1);
+        }
+
+        writeScaledTemporal(daysIntoCE, nanosSinceMidnight(cal, subSecondNanos), scale, ssType);
+    }
+
+    /**
+     * Writes to the TDS channel a temporal value, given as its date and time parts, as an instance of one of the scaled temporal SQL types: DATE,
+     * TIME, DATETIME2, or DATETIMEOFFSET.
+     *
+     * @param daysIntoCE
+     *            the date, as a number of days since 1/1/0001 in a pure Gregorian calendar (ignored for TIME)
+     * @param nanosSinceMidnight
+     *            the time, as a number of nanoseconds since midnight (ignored for DATE)
+     * @param scale
+     *            the scale (in digits: 0 - 7) to use for the sub-second nanos component
+     * @param ssType
+     *            the SQL Server data type (DATE, TIME, DATETIME2, or DATETIMEOFFSET)
+     *
+     * @throws SQLServerException
+     *             if an I/O error occurs or if the value is not in the valid range
+     */
+    private void writeScaledTemporal(int daysIntoCE,
+            long nanosSinceMidnight,
+            int scale,
+            SSType ssType) throws SQLServerException {
 
         assert con.isKatmaiOrLater();
 
@@ -5464,12 +5976,12 @@ final class TDSWriter {
 
         // First, for types with a time component, write the scaled nanos since midnight
         if (SSType.TIME == ssType || SSType.DATETIME2 == ssType || SSType.DATETIMEOFFSET == ssType) {
-            assert subSecondNanos >= 0;
-            assert subSecondNanos < Nanos.PER_SECOND;
+            assert nanosSinceMidnight >= 0;
+            assert nanosSinceMidnight < Nanos.PER_DAY;
             assert scale >= 0;
             assert scale <= TDS.MAX_FRACTIONAL_SECONDS_SCALE;
 
-            int secondsSinceMidnight = cal.get(Calendar.SECOND) + 60 * cal.get(Calendar.MINUTE) + 60 * 60 * cal.get(Calendar.HOUR_OF_DAY);
+            int subSecondNanos = (int) (nanosSinceMidnight % Nanos.PER_SECOND);
 
             // Scale nanos since midnight to the desired scale, rounding the value as necessary
             long divisor = Nanos.PER_MAX_SCALE_INTERVAL * (long) Math.pow(10, TDS.MAX_FRACTIONAL_SECONDS_SCALE - scale);
@@ -5478,11 +5990,11 @@ final class TDSWriter {
             // indicated by the scale variable. So, for example, scaledNanos = 3 means 300 nanoseconds
             // at scale TDS.MAX_FRACTIONAL_SECONDS_SCALE, but 3000 nanoseconds at
             // TDS.MAX_FRACTIONAL_SECONDS_SCALE - 1
-            long scaledNanos = ((long) Nanos.PER_SECOND * secondsSinceMidnight + getRoundedSubSecondNanos(subSecondNanos) + divisor / 2) / divisor;
+            long scaledNanos = (nanosSinceMidnight - subSecondNanos + getRoundedSubSecondNanos(subSecondNanos) + divisor / 2) / divisor;
 
             // SQL Server rounding behavior indicates that it always rounds up unless
             // we are at the max value of the type(NOT every day), in which case it truncates.
-            // Side effect on Calendar date:
+            // Side effect on the date:
             // If rounding nanos to the specified scale rolls the value to the next day ...
             if (Nanos.PER_DAY / divisor == scaledNanos) {
 
@@ -5505,13 +6017,11 @@ final class TDSWriter {
                     // This case is very likely never hit by "real world" applications, but exists
                     // here as a security measure to ensure that such values don't result in a
                     // connection-closing TDS exception.
-                    cal.add(Calendar.SECOND, 1);
-
-                    if (cal.get(Calendar.YEAR) <= 9999) {
+                    if (daysIntoCE + 1 < DDC.daysSinceBaseDate(10000, 1, 1)) {
+                        ++daysIntoCE;
                         scaledNanos = 0;
                     }
                     else {
-                        cal.add(Calendar.SECOND, -1);
                         --scaledNanos;
                     }
                 }
@@ -5519,36 +6029,12 @@ final class TDSWriter {
 
             // Encode the scaled nanos to TDS
             int encodedLength = TDS.nanosSinceMidnightLength(scale);
-            byte[] encodedBytes = scaledNanosToEncodedBytes(scaledNanos, encodedLength);
-
-            writeBytes(encodedBytes);
+            for (int i = 0; i < encodedLength; i++)
+                writeByte((byte) ((scaledNanos >> (8 * i)) & 0xFF));
         }
 
         // Second, for types with a date component, write the days into the Common Era
         if (SSType.DATE == ssType || SSType.DATETIME2 == ssType || SSType.DATETIMEOFFSET == ssType) {
-            // Computation of the number of days into the Common Era assumes that
-            // the DAY_OF_YEAR field reflects a pure Gregorian calendar - one that
-            // uses Gregorian leap year rules across the entire range of dates.
-            //
-            // For the DAY_OF_YEAR field to accurately reflect pure Gregorian behavior,
-            // we need to use a pure Gregorian calendar for dates that are Julian dates
-            // under a standard Gregorian calendar and for (Gregorian) dates later than
-            // the cutover date in the cutover year.
-            if (cal.getTimeInMillis() < GregorianChange.STANDARD_CHANGE_DATE.getTime()
-                    || cal.getActualMaximum(Calendar.DAY_OF_YEAR) < TDS.DAYS_PER_YEAR) {
-                int year = cal.get(Calendar.YEAR);
-                int month = cal.get(Calendar.MONTH);
-                int date = cal.get(Calendar.DATE);
-
-                // Set the cutover as early as possible (pure Gregorian behavior)
-                cal.setGregorianChange(GregorianChange.PURE_CHANGE_DATE);
-
-                // Initialize the date field by field (preserving the "wall calendar" value)
-                cal.set(year, month, date);
-            }
-
-            int daysIntoCE = DDC.daysSinceBaseDate(cal.get(Calendar.YEAR), cal.get(Calendar.DAY_OF_YEAR), 1);
-
             // Last-ditch verification that the value is in the valid range for the
             // DATE/DATETIME2/DATETIMEOFFSET TDS data type (1/1/0001 to 12/31/9999).
             // If it's not, then throw an exception now so that statement execution
@@ -5560,11 +6046,9 @@ final class TDSWriter {
                 throw new SQLServerException(form.format(msgArgs), SQLState.DATA_EXCEPTION_DATETIME_FIELD_OVERFLOW, DriverError.NOT_SET, null);
             }
 
-            byte encodedBytes[] = new byte[3];
-            encodedBytes[0] = (byte) ((daysIntoCE >> 0) & 0xFF);
-            encodedBytes[1] = (byte) ((daysIntoCE >> 8) & 0xFF);
-            encodedBytes[2] = (byte) ((daysIntoCE >> 16) & 0xFF);
-            writeBytes(encodedBytes);
+            writeByte((byte) ((daysIntoCE >> 0) & 0xFF));
+            writeByte((byte) ((daysIntoCE >> 8) & 0xFF));
+            writeByte((byte) ((daysIntoCE >> 16) & 0xFF));
         }
     }
 
@@ -6026,6 +6510,9 @@ final class TDSPacket {
     int payloadLength;
     volatile TDSPacket next;
 
+    // Position of this packet in its response, as counted by the reader that read it.
+    int packetNum;
+
     final public String toString() {
         return "TDSPacket(SPID:" + Util.readUnsignedShortBigEndian(header, TDS.PACKET_HEADER_SPID) + " Seq:" + header[TDS.PACKET_HEADER_SEQUENCE_NUM]
                 + ")";
@@ -6042,15 +6529,90 @@ final class TDSPacket {
     }
 };
 
+/**
+ * TDSPacketPool recycles response packets for a TDS channel.
+ *
+ * A TDSReader returns a packet to the pool once it has moved past the packet and no TDSReaderMark can refer to it any more. Only packets whose
+ * payload matches the currently negotiated packet size are reused, and at most a fixed number of idle packets are retained. Packets that do not fit
+ * in the pool are simply left to GC, as they would be without the pool.
+ */
+final class TDSPacketPool {
+    private static final int MAX_IDLE_PACKETS = 16;
+
+    private final TDSPacket[] idlePackets = new TDSPacket[MAX_IDLE_PACKETS];
+    private int numIdlePackets = 0;
+
+    // Payload size of the packets currently handed out by the pool
+    private int packetSize = 0;
+
+    // Allocation counters, read through SQLServerConnection.getNumPacketsAllocated and related methods
+    private long numPacketsAllocated = 0;
+    private long numBytesAllocated = 0;
+    private long numPacketsReused = 0;
+
+    /**
+     * Returns a packet with a payload of the given size, reusing an idle packet when possible.
+     */
+    synchronized TDSPacket acquire(int size) {
+        if (size != packetSize) {
+            // Packet size was (re)negotiated. Idle packets are the wrong size now.
+            while (numIdlePackets > 0)
+                idlePackets[--numIdlePackets] = null;
+            packetSize = size;
+        }
+
+        if (numIdlePackets > 0) {
+            TDSPacket packet = idlePackets[--numIdlePackets];
+            idlePackets[numIdlePackets] = null;
+            ++numPacketsReused;
+            return packet;
+        }
+
+        ++numPacketsAllocated;
+        numBytesAllocated += size;
+        return new TDSPacket(size);
+    }
+
+    /**
+     * Returns a packet to the pool. The caller must not refer to the packet after releasing it.
+     */
+    synchronized void release(TDSPacket packet) {
+        if (packet.payload.length == packetSize && numIdlePackets < MAX_IDLE_PACKETS) {
+            packet.payloadLength = 0;
+            packet.next = null;
+            idlePackets[numIdlePackets++] = packet;
+        }
+    }
+
+    synchronized long getNumPacketsAllocated() {
+        return numPacketsAllocated;
+    }
+
+    synchronized long getNumBytesAllocated() {
+        return numBytesAllocated;
+    }
+
+    synchronized long getNumPacketsReused() {
+        return numPacketsReused;
+    }
+
+    public synchronized String toString() {
+        return "TDSPacketPool(allocated packets:" + numPacketsAllocated + " allocated bytes:" + numBytesAllocated + " reused packets:"
+                + numPacketsReused + " idle packets:" + numIdlePackets + ")";
+    }
+}
+
 /**
  * TDSReaderMark encapsulates a fixed position in the response data stream.
  *
  * Response data is quantized into a linked chain of packets. A mark refers to a specific location in a specific packet and relies on Java's reference
  * semantics to automatically keep all subsequent packets accessible until the mark is destroyed.
+ *
+ * A mark is only moved by TDSReader.mark(TDSReaderMark), on behalf of an owner that does not share it.
  */
 final class TDSReaderMark {
-    final TDSPacket packet;
-    final int payloadOffset;
+    TDSPacket packet;
+    int payloadOffset;
 
     TDSReaderMark(TDSPacket packet,
             int payloadOffset) {
@@ -6074,6 +6636,7 @@ final class TDSReader {
 
     private final TDSChannel tdsChannel;
     private final SQLServerConnection con;
+    private final TDSPacketPool packetPool;
 
     private final TDSCommand command;
 
@@ -6092,6 +6655,57 @@ final class TDSReader {
     private int packetNum = 0;
 
     private boolean isStreaming = true;
+
+    // Background read-ahead (readAheadPackets connection property). While the response is being
+    // processed, a pooled thread keeps up to readAheadPackets packets appended to the packet chain
+    // beyond the one being consumed. The read-ahead thread only fills packets: it stops at the end of
+    // each response message and leaves the handling of that end to the thread processing the response,
+    // which also reads any attention acknowledgement. When every pooled thread is busy, the thread
+    // processing the response simply reads its packets itself.
+    private static final int MAX_READ_AHEAD_THREADS = 2 * Runtime.getRuntime().availableProcessors();
+    private static final ThreadPoolExecutor readAheadExecutor = new ThreadPoolExecutor(0, MAX_READ_AHEAD_THREADS, 5, TimeUnit.SECONDS,
+            new SynchronousQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread t = new Thread(r, "mssql-jdbc TDS read-ahead");
+                    t.setDaemon(true);
+                    return t;
+                }
+            });
+
+    private final int readAheadPackets;
+    private volatile int consumedPacketNum = 0;
+    private final AtomicBoolean isReadingAhead = new AtomicBoolean(false);
+
+    // Whether the last packet read from the channel ended a response message, and whether the
+    // read-ahead thread read that packet without the end of the message having been handled yet.
+    // Both are guarded by the reader's monitor.
+    private boolean isMessageEnded = false;
+    private boolean isEOMPending = false;
+
+    private final Runnable readAheadTask = new Runnable() {
+        public void run() {
+            try {
+                while (readAheadPacket())
+                    ;
+            }
+            catch (SQLServerException e) {
+                // The connection is terminated by the failed read. The thread processing the
+                // response reports the failure when it next reads.
+                if (logger.isLoggable(Level.FINER))
+                    logger.finer(TDSReader.this.toString() + " read-ahead stopped: " + e.getMessage());
+            }
+            finally {
+                isReadingAhead.set(false);
+            }
+        }
+    };
+
+    // Earliest packet that a TDSReaderMark may still refer to (null if there are no marks),
+    // and the number of the last packet that those marks can reach. Packets outside that
+    // range are returned to the channel's packet pool as soon as the reader moves past them.
+    private TDSPacket firstMarkedPacket = null;
+    private int lastMarkedPacketNum = 0;
     private boolean useColumnEncryption = false;
     private boolean serverSupportsColumnEncryption = false;
 
@@ -6107,7 +6721,9 @@ final class TDSReader {
             TDSCommand command) {
         this.tdsChannel = tdsChannel;
         this.con = con;
+        this.packetPool = tdsChannel.getPacketPool();
         this.command = command; // may be null
+        this.readAheadPackets = (null == command) ? 0 : con.getReadAheadPackets();
         // if the logging level is not detailed than fine or more we will not have proper readerids.
         if (logger.isLoggable(Level.FINE))
             traceID = "TDSReader@" + nextReaderID() + " (" + con.toString() + ")";
@@ -6167,8 +6783,15 @@ final class TDSReader {
         // If no buffered packets are left then maybe we can read one...
         // This action must be synchronized against against another thread calling
         // readAllPackets() to read in ALL of the remaining packets of the current response.
-        if (null == consumedPacket.next) {
-            readPacket();
+        // With read-ahead, the lock is also taken to see the packets appended by the read-ahead thread.
+        if (null == consumedPacket.next || readAheadPackets > 0) {
+            synchronized (this) {
+                onReadAheadEOM();
+
+                // The read-ahead thread may have appended the packet while we waited.
+                if (null == consumedPacket.next)
+                    readPacket();
+            }
 
             if (null == consumedPacket.next)
                 return false;
@@ -6183,12 +6806,66 @@ final class TDSReader {
                 logger.finest(toString() + " Moving to next packet -- unlinking consumed packet");
 
             consumedPacket.next = null;
+
+            // Recycle the consumed packet unless an outstanding mark may still refer to it.
+            if (null == firstMarkedPacket || consumedPacket.packetNum > lastMarkedPacketNum)
+                packetPool.release(consumedPacket);
         }
         currentPacket = nextPacket;
         payloadOffset = 0;
+
+        if (readAheadPackets > 0) {
+            consumedPacketNum = nextPacket.packetNum;
+            startReadAhead();
+        }
         return true;
     }
 
+    /**
+     * Starts reading packets ahead of the consumer on a background thread, unless that is already happening.
+     */
+    private void startReadAhead() {
+        if (isReadingAhead.compareAndSet(false, true)) {
+            try {
+                readAheadExecutor.execute(readAheadTask);
+            }
+            catch (RejectedExecutionException e) {
+                isReadingAhead.set(false);
+            }
+        }
+    }
+
+    /**
+     * Reads one packet ahead of the consumer if the read-ahead limit has not been reached and the current response message is not yet complete.
+     *
+     * @return true if a packet was read
+     */
+    private synchronized boolean readAheadPacket() throws SQLServerException {
+        if (packetNum - consumedPacketNum >= readAheadPackets || isMessageEnded)
+            return false;
+
+        return readPacket(true);
+    }
+
+    /**
+     * Handles the end of a response message whose last packet was read by the read-ahead thread. Must be called by the thread processing the
+     * response, with the reader's monitor held.
+     */
+    private void onReadAheadEOM() throws SQLServerException {
+        if (isEOMPending) {
+            isEOMPending = false;
+            onResponseEOM();
+        }
+    }
+
+    private void onResponseEOM() throws SQLServerException {
+        ++tdsChannel.numMsgsRcvd;
+
+        // Notify the command (if any) that we've reached the end of the response.
+        if (null != command)
+            command.onResponseEOM();
+    }
+
     /**
      * Reads the next packet of the TDS channel.
      *
@@ -6196,6 +6873,7 @@ final class TDSReader {
      * that is trying to buffer it with TDSCommand.detach().
      */
     synchronized final boolean readPacket() throws SQLServerException {
+        onReadAheadEOM();
         if (null != command && !command.readingResponse())
             return false;
 
@@ -6205,7 +6883,16 @@ final class TDSReader {
         assert tdsChannel.numMsgsRcvd < tdsChannel.numMsgsSent : "numMsgsRcvd:" + tdsChannel.numMsgsRcvd + " should be less than numMsgsSent:"
                 + tdsChannel.numMsgsSent;
 
-        TDSPacket newPacket = new TDSPacket(con.getTDSPacketSize());
+        return readPacket(false);
+    }
+
+    /**
+     * Reads a packet from the TDS channel. The read-ahead thread leaves the handling of the end of a response message to the thread processing the
+     * response, as it must not touch the state of the command.
+     */
+    private boolean readPacket(boolean isReadAhead) throws SQLServerException {
+
+        TDSPacket newPacket = packetPool.acquire(con.getTDSPacketSize());
 
         // First, read the packet header.
         for (int headerBytesRead = 0; headerBytesRead < TDS.PACKET_HEADER_SIZE;) {
@@ -6252,7 +6939,7 @@ final class TDSReader {
             payloadBytesRead += bytesRead;
         }
 
-        ++packetNum;
+        newPacket.packetNum = ++packetNum;
 
         lastPacket.next = newPacket;
         lastPacket = newPacket;
@@ -6267,21 +6954,47 @@ final class TDSReader {
         // If end of message, then bump the count of messages received and disable
         // interrupts. If an interrupt happened prior to disabling, then expect
         // to read the attention ack packet as well.
-        if (newPacket.isEOM()) {
-            ++tdsChannel.numMsgsRcvd;
-
-            // Notify the command (if any) that we've reached the end of the response.
-            if (null != command)
-                command.onResponseEOM();
+        boolean isEOM = newPacket.isEOM();
+        isMessageEnded = isEOM;
+        if (isEOM) {
+            if (isReadAhead)
+                isEOMPending = true;
+            else
+                onResponseEOM();
+        }
+        else if (readAheadPackets > 0) {
+            startReadAhead();
         }
 
         return true;
     }
 
     final TDSReaderMark mark() {
-        TDSReaderMark mark = new TDSReaderMark(currentPacket, payloadOffset);
+        return mark(null);
+    }
+
+    /**
+     * Marks the current position, moving the specified mark there rather than allocating a new one if it is not null.
+     *
+     * The caller must own the specified mark: nothing else may reset to it afterwards expecting its previous position.
+     */
+    final TDSReaderMark mark(TDSReaderMark reusableMark) {
+        TDSReaderMark mark;
+        if (null == reusableMark) {
+            mark = new TDSReaderMark(currentPacket, payloadOffset);
+        }
+        else {
+            mark = reusableMark;
+            mark.packet = currentPacket;
+            mark.payloadOffset = payloadOffset;
+        }
         isStreaming = false;
 
+        // The mark holds onto the current packet and every packet after it.
+        if (null == firstMarkedPacket)
+            firstMarkedPacket = currentPacket;
+        lastMarkedPacketNum = Integer.MAX_VALUE;
+
         if (logger.isLoggable(Level.FINEST))
             logger.finest(this.toString() + ": Buffering from: " + mark.toString());
 
@@ -6298,6 +7011,30 @@ final class TDSReader {
 
     final void stream() {
         isStreaming = true;
+
+        // Packets are unlinked as they are consumed from here on, so existing
+        // marks can no longer reach past the current packet.
+        if (null != firstMarkedPacket)
+            lastMarkedPacketNum = currentPacket.packetNum;
+    }
+
+    /**
+     * Resumes streaming after the caller has dropped every mark it holds, such as at a row boundary in a forward-only result set.
+     *
+     * Packets that the reader has already moved past are returned to the packet pool. None of the marks taken so far may be reset to after this
+     * call.
+     */
+    final void discardMarks() {
+        TDSPacket packet = firstMarkedPacket;
+        while (null != packet && packet != currentPacket && packet.packetNum <= lastMarkedPacketNum) {
+            TDSPacket nextPacket = packet.next;
+            packet.next = null;
+            packetPool.release(packet);
+            packet = nextPacket;
+        }
+
+        firstMarkedPacket = null;
+        isStreaming = true;
     }
 
     /**
@@ -6379,12 +7116,33 @@ final class TDSReader {
         return Util.readUnsignedShort(readWrappedBytes(2), 0);
     }
 
+    /**
+     * Reads a UTF-16LE string of the given number of characters, decoding straight from the packet payloads.
+     */
     final String readUnicodeString(int length) throws SQLServerException {
-        int byteLength = 2 * length;
-        byte bytes[] = new byte[byteLength];
-        readBytes(bytes, 0, byteLength);
-        return Util.readUnicodeString(bytes, 0, byteLength, con);
+        char chars[] = new char[length];
+        int charsRead = 0;
+        while (charsRead < length) {
+            if (!ensurePayload())
+                throwInvalidTDS();
+
+            // Decode as many whole characters as the current packet holds...
+            int charsToRead = Math.min(length - charsRead, (currentPacket.payloadLength - payloadOffset) / 2);
+            if (charsToRead > 0) {
+                byte payload[] = currentPacket.payload;
+                int offset = payloadOffset;
+                for (int charsEnd = charsRead + charsToRead; charsRead < charsEnd; offset += 2)
+                    chars[charsRead++] = (char) ((payload[offset] & 0xFF) | ((payload[offset + 1] & 0xFF) << 8));
+                payloadOffset = offset;
+            }
+
+            // ... and read a character that straddles two packets on its own.
+            else {
+                chars[charsRead++] = readChar();
+            }
+        }
 
+        return new String(chars);
     }
 
     final char readChar() throws SQLServerException {
@@ -6646,13 +7404,73 @@ final class TDSReader {
                 typeInfo.getScale());
     }
 
-    private int readDaysIntoCE() throws SQLServerException {
-        byte value[] = new byte[TDS.DAYS_INTO_CE_LENGTH];
-        readBytes(value, 0, value.length);
+    /**
+     * Reads the date and time parts of a DATETIME, SMALLDATETIME, DATE, TIME, DATETIME2 or DATETIMEOFFSET value without converting them to a Java
+     * type.
+     */
+    final void readTemporalParts(int valueLength,
+            TypeInfo typeInfo,
+            TemporalParts parts) throws SQLServerException {
+        switch (typeInfo.getSSType()) {
+            case DATETIME:
+            case SMALLDATETIME: {
+                int daysSinceSQLBaseDate;
+                int msecSinceMidnight;
+                switch (valueLength) {
+                    case 8:
+                        daysSinceSQLBaseDate = readInt();
+                        msecSinceMidnight = (readInt() * 10 + 1) / 3; // Convert to msec (1 tick = 1 300th of a sec = 3 msec)
+                        break;
+                    case 4:
+                        daysSinceSQLBaseDate = readUnsignedShort();
+                        msecSinceMidnight = readUnsignedShort() * 60 * 1000; // Convert to msec (1 tick = 1 min = 60,000 msec)
+                        break;
+                    default:
+                        throwInvalidTDS();
+                        return;
+                }
+                parts.set(TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900 + daysSinceSQLBaseDate, msecSinceMidnight * (long) Nanos.PER_MILLISECOND, 0, false);
+                break;
+            }
+
+            case DATE:
+                if (TDS.DAYS_INTO_CE_LENGTH != valueLength)
+                    throwInvalidTDS();
+                parts.set(readDaysIntoCE(), 0, 0, false);
+                break;
+
+            case TIME:
+                if (TDS.timeValueLength(typeInfo.getScale()) != valueLength)
+                    throwInvalidTDS();
+                parts.set(TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900, readNanosSinceMidnight(typeInfo.getScale()), 0, false);
+                break;
 
+            case DATETIME2: {
+                if (TDS.datetime2ValueLength(typeInfo.getScale()) != valueLength)
+                    throwInvalidTDS();
+                long localNanosSinceMidnight = readNanosSinceMidnight(typeInfo.getScale());
+                parts.set(readDaysIntoCE(), localNanosSinceMidnight, 0, false);
+                break;
+            }
+
+            case DATETIMEOFFSET: {
+                if (TDS.datetimeoffsetValueLength(typeInfo.getScale()) != valueLength)
+                    throwInvalidTDS();
+                long utcNanosSinceMidnight = readNanosSinceMidnight(typeInfo.getScale());
+                int utcDaysIntoCE = readDaysIntoCE();
+                parts.set(utcDaysIntoCE, utcNanosSinceMidnight, readShort(), true);
+                break;
+            }
+
+            default:
+                throw new AssertionError("Unexpected SSType: " + typeInfo.getSSType());
+        }
+    }
+
+    private int readDaysIntoCE() throws SQLServerException {
         int daysIntoCE = 0;
-        for (int i = 0; i < value.length; i++)
-            daysIntoCE |= ((value[i] & 0xFF) << (8 * i));
+        for (int i = 0; i < TDS.DAYS_INTO_CE_LENGTH; i++)
+            daysIntoCE |= (readUnsignedByte() << (8 * i));
 
         // Theoretically should never encounter a value that is outside of the valid date range
         if (daysIntoCE < 0)
@@ -6669,12 +7487,10 @@ final class TDSReader {
     private long readNanosSinceMidnight(int scale) throws SQLServerException {
         assert 0 <= scale && scale <= TDS.MAX_FRACTIONAL_SECONDS_SCALE;
 
-        byte value[] = new byte[TDS.nanosSinceMidnightLength(scale)];
-        readBytes(value, 0, value.length);
-
+        int length = TDS.nanosSinceMidnightLength(scale);
         long hundredNanosSinceMidnight = 0;
-        for (int i = 0; i < value.length; i++)
-            hundredNanosSinceMidnight |= (value[i] & 0xFFL) << (8 * i);
+        for (int i = 0; i < length; i++)
+            hundredNanosSinceMidnight |= (long) readUnsignedByte() << (8 * i);
 
         hundredNanosSinceMidnight *= SCALED_MULTIPLIERS[scale];
 
@@ -6815,17 +7631,97 @@ final class TDSReader {
     }
 }
 
+/**
+ * Driver-wide scheduler for command timeouts.
+ *
+ * Timeouts from all connections are armed on one small pool of daemon threads rather than a thread per command. Timeouts are scheduled with
+ * millisecond resolution and removed from the queue as soon as they are cancelled, so a command that completes in time leaves nothing behind.
+ */
+final class TimeoutScheduler {
+    // Firing a timeout interrupts a command, which may write an attention packet to the server.
+    // A second thread keeps one slow attention write from delaying every other timeout.
+    private static final int NUM_THREADS = 2;
+
+    private static final TimeoutScheduler instance = new TimeoutScheduler();
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    // Counters of the timeouts of the driver, read through SQLServerDriver.getNumTimeoutsArmed and related methods
+    private final AtomicLong numArmed = new AtomicLong();
+    private final AtomicLong numFired = new AtomicLong();
+    private final AtomicLong numCancelled = new AtomicLong();
+
+    private TimeoutScheduler() {
+        executor = new ScheduledThreadPoolExecutor(NUM_THREADS, new ThreadFactory() {
+            private final AtomicInteger threadNum = new AtomicInteger(0);
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "mssql-jdbc TimeoutScheduler " + threadNum.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+        executor.setRemoveOnCancelPolicy(true);
+    }
+
+    static TimeoutScheduler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Arms a timeout that runs the given task after the given number of milliseconds unless cancelled first.
+     */
+    ScheduledFuture<?> arm(Runnable task,
+            long timeoutMillis) {
+        numArmed.incrementAndGet();
+        return executor.schedule(task, timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels a timeout armed by this scheduler.
+     *
+     * @return true if the timeout was cancelled before it fired
+     */
+    boolean cancel(ScheduledFuture<?> timeout) {
+        if (timeout.cancel(false)) {
+            numCancelled.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Notes that a timeout armed by this scheduler has run out.
+     */
+    void fired() {
+        numFired.incrementAndGet();
+    }
+
+    long getNumArmed() {
+        return numArmed.get();
+    }
+
+    long getNumFired() {
+        return numFired.get();
+    }
+
+    long getNumCancelled() {
+        return numCancelled.get();
+    }
+}
+
 /**
  * Timer for use with Commands that support a timeout.
  *
  * Once started, the timer runs for the prescribed number of seconds unless stopped. If the timer runs out, it interrupts its associated Command with
- * a reason like "timed out".
+ * a reason like "timed out". Timers are armed on the driver-wide TimeoutScheduler.
  */
 final class TimeoutTimer implements Runnable {
     private final int timeoutSeconds;
     private final TDSCommand command;
-    private Thread timerThread;
-    private volatile boolean canceled = false;
+    private ScheduledFuture<?> timeout;
+    private volatile boolean expired = false;
 
     TimeoutTimer(int timeoutSeconds,
             TDSCommand command) {
@@ -6837,35 +7733,23 @@ final class TimeoutTimer implements Runnable {
     }
 
     final void start() {
-        timerThread = new Thread(this);
-        timerThread.setDaemon(true);
-        timerThread.start();
+        timeout = TimeoutScheduler.getInstance().arm(this, timeoutSeconds * 1000L);
     }
 
     final void stop() {
-        canceled = true;
-        timerThread.interrupt();
+        TimeoutScheduler.getInstance().cancel(timeout);
     }
 
-    public void run() {
-        int secondsRemaining = timeoutSeconds;
-        try {
-            // Poll every second while time is left on the timer.
-            // Return if/when the timer is canceled.
-            do {
-                if (canceled)
-                    return;
+    final boolean expired() {
+        return expired;
+    }
 
-                Thread.sleep(1000);
-            }
-            while (--secondsRemaining > 0);
-        }
-        catch (InterruptedException e) {
-            return;
-        }
+    public void run() {
+        expired = true;
+        TimeoutScheduler.getInstance().fired();
 
-        // If the timer wasn't canceled before it ran out of
-        // time then interrupt the registered command.
+        // The timer wasn't canceled before it ran out of
+        // time so interrupt the registered command.
         try {
             command.interrupt(SQLServerException.getErrString("R_queryTimedOut"));
         }
@@ -6920,6 +7804,13 @@ abstract class TDSCommand {
     private volatile TDSWriter tdsWriter;
     private volatile TDSReader tdsReader;
 
+    // Number of unprepare RPCs for discarded prepared statement handles that were written to the
+    // current request by prependDiscardedHandleUnprepares or writeDiscardedHandleUnprepares. Once
+    // the request is sent, startResponse removes the handles from the connection's queue. Their
+    // results precede the results of the command's own RPC in the response, and are consumed by
+    // startResponse.
+    private int numPrependedUnprepares = 0;
+
     // Lock to ensure atomicity when manipulating more than one of the following
     // shared interrupt state variables below.
     private final Object interruptLock = new Object();
@@ -7322,6 +8213,7 @@ abstract class TDSCommand {
         // Start this command's request message
         try {
             tdsWriter.startMessage(this, tdsMessageType);
+            numPrependedUnprepares = 0;
         }
         catch (SQLServerException e) {
             if (logger.isLoggable(Level.FINEST))
@@ -7375,6 +8267,11 @@ abstract class TDSCommand {
             throw e;
         }
 
+        // The request, with any unprepares of discarded handles, has been sent. Had it failed
+        // before this point, the handles would have stayed queued for a later request.
+        if (numPrependedUnprepares > 0)
+            tdsReader.getConnection().removeDiscardedHandles(numPrependedUnprepares);
+
         // If command execution is subject to timeout then start timing until
         // the server returns the first response packet.
         if (null != timeoutTimer) {
@@ -7416,8 +8313,64 @@ abstract class TDSCommand {
             }
         }
 
+        if (numPrependedUnprepares > 0)
+            processPrependedUnprepareResults();
+
         return tdsReader;
     }
+
+    /**
+     * Prepends the unprepares of the connection's discarded prepared statement handles to the RPC request that this command has just started, so
+     * that they cost no round trip of their own. Only prepared statement executions do this; their results are consumed by startResponse.
+     */
+    final void prependDiscardedHandleUnprepares() throws SQLServerException {
+        numPrependedUnprepares = tdsReader.getConnection().writeDiscardedHandleUnprepares(tdsWriter, true);
+    }
+
+    /**
+     * Writes the unprepares of the connection's discarded prepared statement handles as the whole of the RPC request that this command has just
+     * started. Their results are consumed by startResponse.
+     */
+    final void writeDiscardedHandleUnprepares() throws SQLServerException {
+        numPrependedUnprepares = tdsReader.getConnection().writeDiscardedHandleUnprepares(tdsWriter, false);
+    }
+
+    /**
+     * Consumes the results of the unprepare RPCs that were prepended to the request, up to and including the DONEPROC of the last one.
+     *
+     * Errors unpreparing the handles do not fail the command. They are added to the connection's warnings. An attention acknowledgement, or the end
+     * of the response, is left to the command's own response processing.
+     */
+    private void processPrependedUnprepareResults() throws SQLServerException {
+        final class UnprepareResultsHandler extends TDSTokenHandler {
+            UnprepareResultsHandler() {
+                super("unprepareDiscardedHandles");
+            }
+
+            boolean onError(TDSReader tdsReader) throws SQLServerException {
+                StreamError error = new StreamError();
+                error.setFromTDS(tdsReader);
+
+                if (logger.isLoggable(Level.FINE))
+                    logger.fine(TDSCommand.this + ": Error unpreparing discarded handle: " + error.getMessage());
+
+                tdsReader.getConnection().addWarning(error.getMessage());
+                return true;
+            }
+
+            boolean onDone(TDSReader tdsReader) throws SQLServerException {
+                int tokenType = tdsReader.peekTokenType();
+                if (TDS.TDS_DONE == tokenType)
+                    return false;
+
+                new StreamDone().setFromTDS(tdsReader);
+                return TDS.TDS_DONEPROC != tokenType || 0 < --numPrependedUnprepares;
+            }
+        }
+
+        TDSParser.parse(tdsReader, new UnprepareResultsHandler());
+        numPrependedUnprepares = 0;
+    }
 }
 
 /**
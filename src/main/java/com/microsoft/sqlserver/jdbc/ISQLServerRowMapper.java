@@ -0,0 +1,32 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ * 
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ * 
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * The ISQLServerRowMapper interface converts the current row of a result set to the object that an ISQLServerRowPublisher emits for it.
+ *
+ * @param <T>
+ *            the type of the objects that rows are converted to
+ */
+
+public interface ISQLServerRowMapper<T> {
+    /**
+     * Converts the current row of a result set. The mapper must not move the cursor of the result set.
+     * 
+     * @param rs
+     *            the result set, positioned on the row
+     * @return the object for the row
+     * @throws SQLException
+     *             if the row cannot be read
+     */
+    public T mapRow(ResultSet rs) throws SQLException;
+}
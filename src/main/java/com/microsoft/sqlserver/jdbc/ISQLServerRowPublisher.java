@@ -0,0 +1,32 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ * 
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ * 
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+/**
+ * The ISQLServerRowPublisher interface emits the rows of a result set to a subscriber as the subscriber requests them. It follows the Publisher
+ * contract of Reactive Streams.
+ * 
+ * Rows are read from the server only as they are requested, so a result set is never buffered by the driver when the statement uses adaptive
+ * response buffering. The rows are emitted on a driver thread, which is held only while the subscriber has unmet demand. The result set is closed
+ * when the publisher completes, fails or is cancelled.
+ *
+ * @param <T>
+ *            the type of the objects that rows are converted to
+ */
+
+public interface ISQLServerRowPublisher<T> {
+    /**
+     * Starts emitting rows to a subscriber. A result set can be consumed only once, so a publisher accepts one subscriber; other subscribers are
+     * failed with an IllegalStateException.
+     * 
+     * @param subscriber
+     *            the subscriber
+     */
+    public void subscribe(ISQLServerRowSubscriber<? super T> subscriber);
+}
@@ -0,0 +1,48 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ * 
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ * 
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+/**
+ * The ISQLServerRowSubscriber interface receives the rows that an ISQLServerRowPublisher emits. It follows the Subscriber contract of Reactive
+ * Streams: no row is emitted until the subscriber requests it through its subscription, and the methods are called one at a time.
+ *
+ * @param <T>
+ *            the type of the objects that rows are converted to
+ */
+
+public interface ISQLServerRowSubscriber<T> {
+    /**
+     * Called once, before any other method, with the subscription through which rows are requested.
+     * 
+     * @param subscription
+     *            the subscription
+     */
+    public void onSubscribe(ISQLServerRowSubscription subscription);
+
+    /**
+     * Called for each requested row.
+     * 
+     * @param row
+     *            the object that the row was converted to
+     */
+    public void onNext(T row);
+
+    /**
+     * Called when the execution, reading or conversion of a row fails. No other method is called afterwards.
+     * 
+     * @param t
+     *            the error
+     */
+    public void onError(Throwable t);
+
+    /**
+     * Called after the last row has been emitted. No other method is called afterwards.
+     */
+    public void onComplete();
+}
@@ -0,0 +1,29 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ * 
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ * 
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+/**
+ * The ISQLServerRowSubscription interface links an ISQLServerRowSubscriber to the publisher it subscribed to.
+ */
+
+public interface ISQLServerRowSubscription {
+    /**
+     * Requests more rows. The requests add up; Long.MAX_VALUE requests all the remaining rows. A request that is not positive fails the
+     * subscription with an IllegalArgumentException.
+     * 
+     * @param n
+     *            the number of rows
+     */
+    public void request(long n);
+
+    /**
+     * Stops emitting rows and closes the result set. Rows that are being emitted may still arrive.
+     */
+    public void cancel();
+}
@@ -78,6 +78,33 @@ final class Parameter {
         return (null != inputDTV) ? inputDTV.getJdbcType() : JDBCType.UNKNOWN;
     }
 
+    // The IN value as set by the application, and the Calendar it was set with, if any.
+    Object getSetterValue() {
+        return (null != inputDTV) ? inputDTV.getSetterValue() : null;
+    }
+
+    Calendar getSetterCalendar() {
+        return (null != inputDTV) ? inputDTV.getCalendar() : null;
+    }
+
+    /**
+     * Replaces a null IN value with a null of the given JDBC type, as setNull would. The DTV of the value may be shared with other rows of a batch,
+     * so a new one is created instead of changing its type.
+     */
+    void setNullInputValue(JDBCType jdbcType,
+            SQLServerConnection con) throws SQLServerException {
+        assert null != inputDTV && null == inputDTV.getSetterValue();
+
+        DTV newDTV = new DTV();
+        newDTV.setValue(con.getDatabaseCollation(), jdbcType, null, JavaType.OBJECT, null, null, null, con, false);
+
+        if (!con.sendStringParametersAsUnicode()) {
+            newDTV.sendStringParametersAsUnicode = false;
+        }
+
+        inputDTV = setterDTV = newDTV;
+    }
+
     /**
      * Used when sendStringParametersAsUnicode=true to derive the appropriate National Character Set JDBC type corresponding to the specified JDBC
      * type.
@@ -0,0 +1,135 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Driver-wide cache of the results of parsing the SQL text of statements.
+ *
+ * Translating the JDBC escape syntax and locating the parameter markers of a SQL string is done once per distinct string rather than once per
+ * statement. The translation depends only on the SQL text, so connections can share it. The cache is bounded; when it is full, the entries that
+ * were added first are evicted.
+ */
+final class ParsedSQLCache {
+    private static final ParsedSQLCache instance = new ParsedSQLCache();
+
+    private static final int MAX_ENTRIES = 10000;
+
+    /**
+     * The result of parsing the SQL text of a statement.
+     */
+    static final class ParsedSQL {
+        /** The SQL with the JDBC call and LIMIT escape syntax translated to T-SQL */
+        final String processedSQL;
+
+        /** The offsets of the parameter markers in processedSQL */
+        final int[] parameterPositions;
+
+        /** The name of the procedure called, or null if the SQL is not a procedure call */
+        final String procedureName;
+
+        /** Whether the procedure call has the return value syntax "? = call" */
+        final boolean bReturnValueSyntax;
+
+        private ParsedSQL(String processedSQL,
+                int[] parameterPositions,
+                String procedureName,
+                boolean bReturnValueSyntax) {
+            this.processedSQL = processedSQL;
+            this.parameterPositions = parameterPositions;
+            this.procedureName = procedureName;
+            this.bReturnValueSyntax = bReturnValueSyntax;
+        }
+    }
+
+    private final ConcurrentHashMap<String, ParsedSQL> entries = new ConcurrentHashMap<String, ParsedSQL>();
+
+    // The keys of the entries, in the order in which they were added
+    private final ConcurrentLinkedQueue<String> keys = new ConcurrentLinkedQueue<String>();
+    private final AtomicInteger numEntries = new AtomicInteger(0);
+
+    // Counters read through SQLServerDriver.getNumParsedSQLCacheHits and related methods
+    private final AtomicLong numHits = new AtomicLong();
+    private final AtomicLong numMisses = new AtomicLong();
+    private final AtomicLong numEvictions = new AtomicLong();
+
+    private ParsedSQLCache() {
+    }
+
+    static ParsedSQLCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the parsed form of the user's SQL, parsing it if it is not cached.
+     */
+    ParsedSQL parse(String sql) throws SQLServerException {
+        ParsedSQL parsedSQL = entries.get(sql);
+        if (null != parsedSQL) {
+            numHits.incrementAndGet();
+            return parsedSQL;
+        }
+
+        numMisses.incrementAndGet();
+
+        JDBCSyntaxTranslator translator = new JDBCSyntaxTranslator();
+        String processedSQL = translator.translate(sql);
+        parsedSQL = new ParsedSQL(processedSQL, findParameterPositions(processedSQL), translator.getProcedureName(),
+                translator.hasReturnValueSyntax());
+
+        if (null == entries.putIfAbsent(sql, parsedSQL)) {
+            keys.add(sql);
+            if (numEntries.incrementAndGet() > MAX_ENTRIES) {
+                String eldestKey = keys.poll();
+                if (null != eldestKey) {
+                    entries.remove(eldestKey);
+                    numEntries.decrementAndGet();
+                    numEvictions.incrementAndGet();
+                }
+            }
+        }
+
+        return parsedSQL;
+    }
+
+    private static int[] findParameterPositions(String sql) {
+        int nParams = 0;
+        int offset = -1;
+        while ((offset = ParameterUtils.scanSQLForChar('?', sql, ++offset)) < sql.length())
+            ++nParams;
+
+        int[] parameterPositions = new int[nParams];
+        offset = -1;
+        for (int i = 0; i < nParams; i++)
+            parameterPositions[i] = offset = ParameterUtils.scanSQLForChar('?', sql, ++offset);
+
+        return parameterPositions;
+    }
+
+    long getNumHits() {
+        return numHits.get();
+    }
+
+    long getNumMisses() {
+        return numMisses.get();
+    }
+
+    long getNumEvictions() {
+        return numEvictions.get();
+    }
+
+    public String toString() {
+        return "ParsedSQLCache entries:" + numEntries.get() + " hits:" + numHits.get() + " misses:" + numMisses.get() + " evictions:"
+                + numEvictions.get();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-connection cache of server prepared statement handles.
+ *
+ * A prepared statement that is closed hands its sp_prepexec handle back to its connection's cache instead of unpreparing it, and a statement
+ * prepared later on the same connection with the same SQL, parameter type definitions and database reuses the handle through sp_execute instead of
+ * preparing the statement again. A handle is removed from the cache while a statement uses it, so no two statements ever share one. The cache is
+ * bounded; when it is full, the least recently used handle is evicted and must be unprepared by the caller.
+ */
+final class PreparedStatementHandleCache {
+    private final int maxSize;
+
+    // Handles by key, in access order
+    private final LinkedHashMap<String, Integer> handles = new LinkedHashMap<String, Integer>(16, 0.75f, true);
+
+    private final AtomicLong numHits = new AtomicLong();
+    private final AtomicLong numMisses = new AtomicLong();
+    private final AtomicLong numEvictions = new AtomicLong();
+
+    PreparedStatementHandleCache(int maxSize) {
+        assert maxSize > 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Builds the cache key of a statement. A handle is only valid for the exact SQL and type definitions it was prepared with, and its object names
+     * were resolved in the database that was current at the time.
+     */
+    static String getKey(String catalog,
+            String preparedSQL,
+            String preparedTypeDefinitions) {
+        return catalog + ";" + preparedTypeDefinitions + ";" + preparedSQL;
+    }
+
+    /**
+     * Removes and returns the cached handle for the key.
+     *
+     * @return the handle, or 0 if there is none
+     */
+    synchronized int checkOut(String key) {
+        Integer handle = handles.remove(key);
+        if (null == handle) {
+            numMisses.incrementAndGet();
+            return 0;
+        }
+
+        numHits.incrementAndGet();
+        return handle.intValue();
+    }
+
+    /**
+     * Returns a handle to the cache.
+     *
+     * @return a handle that the caller must unprepare, either the least recently used handle evicted to make room or, if the key is already cached,
+     *         the given handle itself; or 0 if there is none
+     */
+    synchronized int checkIn(String key,
+            int handle) {
+        assert 0 != handle;
+        if (handles.containsKey(key))
+            return handle;
+
+        handles.put(key, Integer.valueOf(handle));
+        if (handles.size() <= maxSize)
+            return 0;
+
+        Iterator<Map.Entry<String, Integer>> eldest = handles.entrySet().iterator();
+        int evictedHandle = eldest.next().getValue().intValue();
+        eldest.remove();
+        numEvictions.incrementAndGet();
+        return evictedHandle;
+    }
+
+    synchronized int size() {
+        return handles.size();
+    }
+
+    long getNumHits() {
+        return numHits.get();
+    }
+
+    long getNumMisses() {
+        return numMisses.get();
+    }
+
+    long getNumEvictions() {
+        return numEvictions.get();
+    }
+
+    public String toString() {
+        return "PreparedStatementHandleCache size:" + size() + " hits:" + numHits.get() + " misses:" + numMisses.get() + " evictions:"
+                + numEvictions.get();
+    }
+}
@@ -242,71 +242,10 @@ public class SQLServerBulkCopy implements java.lang.AutoCloseable {
     private int srcColumnCount;
 
     /*
-     * Timer for the bulk copy operation. The other timeout timers in the TDS layer only measure the response of the first packet from SQL Server.
+     * Timer for the bulk copy operation, armed on the driver-wide TimeoutScheduler. Unlike the timeout of other commands, which only measures the
+     * response of the first packet from SQL Server, it covers the whole operation.
      */
-    private final class BulkTimeoutTimer implements Runnable {
-        private final int timeoutSeconds;
-        private int secondsRemaining;
-        private final TDSCommand command;
-        private Thread timerThread;
-        private volatile boolean canceled = false;
-
-        BulkTimeoutTimer(int timeoutSeconds,
-                TDSCommand command) {
-            assert timeoutSeconds > 0;
-            assert null != command;
-
-            this.timeoutSeconds = timeoutSeconds;
-            this.secondsRemaining = timeoutSeconds;
-            this.command = command;
-        }
-
-        final void start() {
-            timerThread = new Thread(this);
-            timerThread.setDaemon(true);
-            timerThread.start();
-        }
-
-        final void stop() {
-            canceled = true;
-            timerThread.interrupt();
-        }
-
-        final boolean expired() {
-            return (secondsRemaining <= 0);
-        }
-
-        public void run() {
-            try {
-                // Poll every second while time is left on the timer.
-                // Return if/when the timer is canceled.
-                do {
-                    if (canceled)
-                        return;
-
-                    Thread.sleep(1000);
-                }
-                while (--secondsRemaining > 0);
-            }
-            catch (InterruptedException e) {
-                return;
-            }
-
-            // If the timer wasn't canceled before it ran out of
-            // time then interrupt the registered command.
-            try {
-                command.interrupt(SQLServerException.getErrString("R_queryTimedOut"));
-            }
-            catch (SQLServerException e) {
-                // Unfortunately, there's nothing we can do if we
-                // fail to time out the request. There is no way
-                // to report back what happened.
-                command.log(Level.FINE, "Command could not be timed out. Reason: " + e.getMessage());
-            }
-        }
-    }
-
-    private BulkTimeoutTimer timeoutTimer = null;
+    private TimeoutTimer timeoutTimer = null;
 
     /**
      * Initializes a new instance of the SQLServerBulkCopy class using the specified open instance of SQLServerConnection.
@@ -683,7 +622,7 @@ public class SQLServerBulkCopy implements java.lang.AutoCloseable {
             InsertBulk() {
                 super("InsertBulk", 0);
                 int timeoutSeconds = copyOptions.getBulkCopyTimeout();
-                timeoutTimer = (timeoutSeconds > 0) ? (new BulkTimeoutTimer(timeoutSeconds, this)) : null;
+                timeoutTimer = (timeoutSeconds > 0) ? (new TimeoutTimer(timeoutSeconds, this)) : null;
             }
 
             final boolean doExecute() throws SQLServerException {
@@ -1200,7 +1139,7 @@ public class SQLServerBulkCopy implements java.lang.AutoCloseable {
      * Helper method that throws a timeout exception if the cause of the exception was that the query was cancelled
      */
     private void checkForTimeoutException(SQLException e,
-            BulkTimeoutTimer timeoutTimer) throws SQLServerException {
+            TimeoutTimer timeoutTimer) throws SQLServerException {
         if ((null != e.getSQLState()) && (e.getSQLState().equals(SQLState.STATEMENT_CANCELED.getSQLStateCode())) && timeoutTimer.expired()) {
             // If SQLServerBulkCopy is managing the transaction, a rollback is needed.
             if (copyOptions.isUseInternalTransaction()) {
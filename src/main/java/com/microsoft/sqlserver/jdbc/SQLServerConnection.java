@@ -39,11 +39,13 @@ import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -228,6 +230,12 @@ public class SQLServerConnection implements ISQLServerConnection {
         return transparentNetworkIPResolution;
     }
 
+    private boolean nioTransport = SQLServerDriverBooleanProperty.NIO_TRANSPORT.getDefaultValue();
+
+    final boolean getNioTransport() {
+        return nioTransport;
+    }
+
     private ApplicationIntent applicationIntent = null;
 
     final ApplicationIntent getApplicationIntent() {
@@ -259,6 +267,202 @@ public class SQLServerConnection implements ISQLServerConnection {
         return socketTimeoutMilliseconds;
     }
 
+    private int readAheadPackets = SQLServerDriverIntProperty.READ_AHEAD_PACKETS.getDefaultValue();
+
+    final int getReadAheadPackets() {
+        return readAheadPackets;
+    }
+
+    private int statementPoolingCacheSize = SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.getDefaultValue();
+
+    // The cache of server prepared statement handles; null if statement pooling is disabled
+    private PreparedStatementHandleCache preparedStatementHandleCache = null;
+
+    final PreparedStatementHandleCache getPreparedStatementHandleCache() {
+        return preparedStatementHandleCache;
+    }
+
+    /**
+     * Returns the key of a prepared statement in the prepared statement handle cache.
+     */
+    final String getPreparedStatementHandleCacheKey(String preparedSQL,
+            String preparedTypeDefinitions) {
+        return PreparedStatementHandleCache.getKey(sCatalog, preparedSQL, preparedTypeDefinitions);
+    }
+
+    private int prepareThreshold = SQLServerDriverIntProperty.PREPARE_THRESHOLD.getDefaultValue();
+
+    // The number of times that each of the most recently executed statements has been executed
+    // without being prepared, while the prepare threshold is in effect
+    private static final int MAX_UNPREPARED_EXECUTION_COUNTS = 1000;
+
+    private final Map<String, Integer> unpreparedExecutionCounts = new LinkedHashMap<String, Integer>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > MAX_UNPREPARED_EXECUTION_COUNTS;
+        }
+    };
+
+    /**
+     * Determines whether a statement should be prepared on this execution, or executed with sp_executesql because it has not yet been executed
+     * prepareThreshold times. Counts the execution in the latter case.
+     * 
+     * @param preparedSQL
+     *            the SQL of the statement, with parameter markers replaced
+     * @return true if the statement should be prepared
+     */
+    final boolean shouldPrepare(String preparedSQL) {
+        if (0 == prepareThreshold)
+            return true;
+
+        synchronized (unpreparedExecutionCounts) {
+            Integer count = unpreparedExecutionCounts.get(preparedSQL);
+            int numExecutions = (null == count) ? 0 : count.intValue();
+            if (numExecutions >= prepareThreshold)
+                return true;
+
+            unpreparedExecutionCounts.put(preparedSQL, Integer.valueOf(numExecutions + 1));
+            return false;
+        }
+    }
+
+    private int statementBatchChunkSize = SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.getDefaultValue();
+
+    final int getStatementBatchChunkSize() {
+        return statementBatchChunkSize;
+    }
+
+    // Created on first use, behind the JDBC 4.2 check: its executions are CompletableFutures, which a Java 7 runtime does not have.
+    private AsyncStatementExecutor asyncStatementExecutor = null;
+
+    final synchronized AsyncStatementExecutor getAsyncStatementExecutor() {
+        DriverJDBCVersion.checkSupportsJDBC42();
+        if (null == asyncStatementExecutor)
+            asyncStatementExecutor = new AsyncStatementExecutor();
+        return asyncStatementExecutor;
+    }
+
+    private boolean useBulkCopyForBatchInsert = SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.getDefaultValue();
+
+    final boolean getUseBulkCopyForBatchInsert() {
+        return useBulkCopyForBatchInsert;
+    }
+
+    private boolean normalizeBatchParameterTypes = SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.getDefaultValue();
+
+    final boolean getNormalizeBatchParameterTypes() {
+        return normalizeBatchParameterTypes;
+    }
+
+    /**
+     * A prepared statement handle that is no longer used by any statement.
+     */
+    private static final class DiscardedPreparedHandle {
+        final int handle;
+        final boolean isCursorHandle;
+
+        DiscardedPreparedHandle(int handle,
+                boolean isCursorHandle) {
+            this.handle = handle;
+            this.isCursorHandle = isCursorHandle;
+        }
+    }
+
+    // Discarded prepared statement handles are not unprepared right away. Instead, the unprepare RPCs are
+    // prepended to the next prepared statement execution on the connection, so that closing a prepared
+    // statement costs no round trip of its own. If this many handles accumulate first, they are unprepared
+    // all at once.
+    private static final int DISCARDED_PREPARED_HANDLE_THRESHOLD = 10;
+
+    private final ConcurrentLinkedQueue<DiscardedPreparedHandle> discardedPreparedHandles = new ConcurrentLinkedQueue<DiscardedPreparedHandle>();
+    private final AtomicInteger numDiscardedPreparedHandles = new AtomicInteger(0);
+
+    /**
+     * Queues a prepared statement handle to be unprepared with the next prepared statement execution.
+     */
+    final void discardPreparedHandle(int handle,
+            boolean isCursorHandle) {
+        if (connectionlogger.isLoggable(Level.FINER))
+            connectionlogger.finer(toString() + " Discarding PreparedHandle:" + handle);
+
+        discardedPreparedHandles.add(new DiscardedPreparedHandle(handle, isCursorHandle));
+        if (numDiscardedPreparedHandles.incrementAndGet() >= DISCARDED_PREPARED_HANDLE_THRESHOLD)
+            unprepareDiscardedHandles();
+    }
+
+    /**
+     * Writes an unprepare RPC for each discarded prepared statement handle to an RPC request.
+     *
+     * The handles stay queued until the request has been sent, when the command removes them with removeDiscardedHandles, so that they are not lost
+     * if the request fails first. Commands run one at a time, so the handles written are still at the head of the queue then.
+     *
+     * @param isPrepended
+     *            true if the unprepares start a request and are each followed by an RPC batch delimiter, false if they make up the whole request
+     * @return the number of RPCs written
+     */
+    final int writeDiscardedHandleUnprepares(TDSWriter tdsWriter,
+            boolean isPrepended) throws SQLServerException {
+        int numUnprepares = 0;
+        for (DiscardedPreparedHandle discardedHandle : discardedPreparedHandles) {
+            if (!isPrepended && 0 < numUnprepares)
+                tdsWriter.writeByte((byte) 0xFF); // RPC batch delimiter
+            writeUnprepareRPC(tdsWriter, discardedHandle);
+            if (isPrepended)
+                tdsWriter.writeByte((byte) 0xFF); // RPC batch delimiter
+            ++numUnprepares;
+        }
+        return numUnprepares;
+    }
+
+    /**
+     * Removes the given number of discarded prepared statement handles, whose unprepares have been sent, from the head of the queue.
+     */
+    final void removeDiscardedHandles(int numHandles) {
+        for (int i = 0; i < numHandles && null != discardedPreparedHandles.poll(); i++)
+            numDiscardedPreparedHandles.decrementAndGet();
+    }
+
+    private static void writeUnprepareRPC(TDSWriter tdsWriter,
+            DiscardedPreparedHandle discardedHandle) throws SQLServerException {
+        tdsWriter.writeShort((short) 0xFFFF); // procedure name length -> use ProcIDs
+        tdsWriter.writeShort(discardedHandle.isCursorHandle ? TDS.PROCID_SP_CURSORUNPREPARE : TDS.PROCID_SP_UNPREPARE);
+        tdsWriter.writeByte((byte) 0);  // RPC procedure option 1
+        tdsWriter.writeByte((byte) 0);  // RPC procedure option 2
+        tdsWriter.writeRPCInt(null, new Integer(discardedHandle.handle), false);
+    }
+
+    /**
+     * Unprepares all of the discarded prepared statement handles in a single request.
+     */
+    private void unprepareDiscardedHandles() {
+        final class UnprepareDiscardedHandles extends UninterruptableTDSCommand {
+            UnprepareDiscardedHandles() {
+                super("unprepareDiscardedHandles");
+            }
+
+            final boolean doExecute() throws SQLServerException {
+                if (discardedPreparedHandles.isEmpty())
+                    return true; // Already unprepared with another request
+
+                startRequest(TDS.PKT_RPC);
+                writeDiscardedHandleUnprepares();
+                TDSParser.parse(startResponse(), getLogContext());
+                return true;
+            }
+        }
+
+        // Any failure is caught, logged, and ignored.
+        try {
+            executeCommand(new UnprepareDiscardedHandles());
+        }
+        catch (SQLServerException e) {
+            if (connectionlogger.isLoggable(Level.FINER))
+                connectionlogger.log(Level.FINER, toString() + " Error (ignored) unpreparing discarded prepared handles", e);
+        }
+    }
+
     private boolean sendTimeAsDatetime = SQLServerDriverBooleanProperty.SEND_TIME_AS_DATETIME.getDefaultValue();
 
     /**
@@ -747,6 +951,64 @@ public class SQLServerConnection implements ISQLServerConnection {
             return traceID;
     }
 
+    /**
+     * Returns the number of response packets that this connection has allocated. Once a response is streamed, packets are reused rather than
+     * allocated, so this number stays small.
+     *
+     * @return the number of response packets allocated
+     */
+    public long getNumPacketsAllocated() {
+        TDSChannel channel = tdsChannel;
+        return (null == channel) ? 0 : channel.getPacketPool().getNumPacketsAllocated();
+    }
+
+    /**
+     * Returns the number of payload bytes of the response packets that this connection has allocated.
+     *
+     * @return the number of bytes allocated for response packets
+     */
+    public long getNumPacketBytesAllocated() {
+        TDSChannel channel = tdsChannel;
+        return (null == channel) ? 0 : channel.getPacketPool().getNumBytesAllocated();
+    }
+
+    /**
+     * Returns the number of times that this connection has reused a response packet instead of allocating one.
+     *
+     * @return the number of response packets reused
+     */
+    public long getNumPacketsReused() {
+        TDSChannel channel = tdsChannel;
+        return (null == channel) ? 0 : channel.getPacketPool().getNumPacketsReused();
+    }
+
+    /**
+     * Returns the number of prepared statements that reused a server prepared statement handle cached by this connection.
+     *
+     * @return the number of prepared statement handle cache hits, or 0 if statement pooling is disabled
+     */
+    public long getNumPreparedStatementHandleCacheHits() {
+        return (null == preparedStatementHandleCache) ? 0 : preparedStatementHandleCache.getNumHits();
+    }
+
+    /**
+     * Returns the number of prepared statements that found no cached server prepared statement handle and had to be prepared.
+     *
+     * @return the number of prepared statement handle cache misses, or 0 if statement pooling is disabled
+     */
+    public long getNumPreparedStatementHandleCacheMisses() {
+        return (null == preparedStatementHandleCache) ? 0 : preparedStatementHandleCache.getNumMisses();
+    }
+
+    /**
+     * Returns the number of server prepared statement handles that were evicted from the full cache of this connection and unprepared.
+     *
+     * @return the number of prepared statement handle cache evictions, or 0 if statement pooling is disabled
+     */
+    public long getNumPreparedStatementHandleCacheEvictions() {
+        return (null == preparedStatementHandleCache) ? 0 : preparedStatementHandleCache.getNumEvictions();
+    }
+
     /**
      * Throw a not implemeneted exception.
      * 
@@ -1126,6 +1388,14 @@ public class SQLServerConnection implements ISQLServerConnection {
 
             trustServerCertificate = booleanPropertyOn(sPropKey, sPropValue);
 
+            sPropKey = SQLServerDriverBooleanProperty.NIO_TRANSPORT.toString();
+            sPropValue = activeConnectionProperties.getProperty(sPropKey);
+            if (sPropValue == null) {
+                sPropValue = Boolean.toString(SQLServerDriverBooleanProperty.NIO_TRANSPORT.getDefaultValue());
+                activeConnectionProperties.setProperty(sPropKey, sPropValue);
+            }
+            nioTransport = booleanPropertyOn(sPropKey, sPropValue);
+
             sPropKey = SQLServerDriverStringProperty.SELECT_METHOD.toString();
             sPropValue = activeConnectionProperties.getProperty(sPropKey);
             if (sPropValue == null)
@@ -1170,12 +1440,30 @@ public class SQLServerConnection implements ISQLServerConnection {
 
             sPropKey = SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.toString();
             sPropValue = activeConnectionProperties.getProperty(sPropKey);
-            if (sPropValue != null) // if the user does not set it, it is ok but if set the value can only be true
-                if (false == booleanPropertyOn(sPropKey, sPropValue)) {
-                    MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invaliddisableStatementPooling"));
-                    Object[] msgArgs = {new String(sPropValue)};
-                    SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
-                }
+            if (sPropValue == null) {
+                sPropValue = Boolean.toString(SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.getDefaultValue());
+                activeConnectionProperties.setProperty(sPropKey, sPropValue);
+            }
+
+            boolean disableStatementPooling = booleanPropertyOn(sPropKey, sPropValue);
+
+            sPropKey = SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.toString();
+            sPropValue = activeConnectionProperties.getProperty(sPropKey);
+            if (sPropValue == null) {
+                sPropValue = Boolean.toString(SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.getDefaultValue());
+                activeConnectionProperties.setProperty(sPropKey, sPropValue);
+            }
+
+            useBulkCopyForBatchInsert = booleanPropertyOn(sPropKey, sPropValue);
+
+            sPropKey = SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.toString();
+            sPropValue = activeConnectionProperties.getProperty(sPropKey);
+            if (sPropValue == null) {
+                sPropValue = Boolean.toString(SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.getDefaultValue());
+                activeConnectionProperties.setProperty(sPropKey, sPropValue);
+            }
+
+            normalizeBatchParameterTypes = booleanPropertyOn(sPropKey, sPropValue);
 
             sPropKey = SQLServerDriverBooleanProperty.INTEGRATED_SECURITY.toString();
             sPropValue = activeConnectionProperties.getProperty(sPropKey);
@@ -1406,6 +1694,89 @@ public class SQLServerConnection implements ISQLServerConnection {
                 }
             }
 
+            sPropKey = SQLServerDriverIntProperty.READ_AHEAD_PACKETS.toString();
+            if (activeConnectionProperties.getProperty(sPropKey) != null && activeConnectionProperties.getProperty(sPropKey).length() > 0) {
+                try {
+                    int n = (new Integer(activeConnectionProperties.getProperty(sPropKey))).intValue();
+                    if (n >= 0) {
+                        readAheadPackets = n;
+                    }
+                    else {
+                        MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidReadAheadPackets"));
+                        Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                        SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                    }
+                }
+                catch (NumberFormatException e) {
+                    MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidReadAheadPackets"));
+                    Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                    SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                }
+            }
+
+            sPropKey = SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.toString();
+            if (activeConnectionProperties.getProperty(sPropKey) != null && activeConnectionProperties.getProperty(sPropKey).length() > 0) {
+                try {
+                    int n = (new Integer(activeConnectionProperties.getProperty(sPropKey))).intValue();
+                    if (n >= 0) {
+                        statementPoolingCacheSize = n;
+                    }
+                    else {
+                        MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidStatementPoolingCacheSize"));
+                        Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                        SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                    }
+                }
+                catch (NumberFormatException e) {
+                    MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidStatementPoolingCacheSize"));
+                    Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                    SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                }
+            }
+
+            sPropKey = SQLServerDriverIntProperty.PREPARE_THRESHOLD.toString();
+            if (activeConnectionProperties.getProperty(sPropKey) != null && activeConnectionProperties.getProperty(sPropKey).length() > 0) {
+                try {
+                    int n = (new Integer(activeConnectionProperties.getProperty(sPropKey))).intValue();
+                    if (n >= 0) {
+                        prepareThreshold = n;
+                    }
+                    else {
+                        MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidPrepareThreshold"));
+                        Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                        SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                    }
+                }
+                catch (NumberFormatException e) {
+                    MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidPrepareThreshold"));
+                    Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                    SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                }
+            }
+
+            sPropKey = SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.toString();
+            if (activeConnectionProperties.getProperty(sPropKey) != null && activeConnectionProperties.getProperty(sPropKey).length() > 0) {
+                try {
+                    int n = (new Integer(activeConnectionProperties.getProperty(sPropKey))).intValue();
+                    if (n >= 0) {
+                        statementBatchChunkSize = n;
+                    }
+                    else {
+                        MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidStatementBatchChunkSize"));
+                        Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                        SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                    }
+                }
+                catch (NumberFormatException e) {
+                    MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidStatementBatchChunkSize"));
+                    Object[] msgArgs = {activeConnectionProperties.getProperty(sPropKey)};
+                    SQLServerException.makeFromDriverError(this, this, form.format(msgArgs), null, false);
+                }
+            }
+
+            if (!disableStatementPooling && statementPoolingCacheSize > 0)
+                preparedStatementHandleCache = new PreparedStatementHandleCache(statementPoolingCacheSize);
+
             FailoverInfo fo = null;
             String databaseNameProperty = SQLServerDriverStringProperty.DATABASE_NAME.toString();
             String serverNameProperty = SQLServerDriverStringProperty.SERVER_NAME.toString();
@@ -1917,6 +2288,9 @@ public class SQLServerConnection implements ISQLServerConnection {
         if (TDS.ENCRYPT_NOT_SUP != negotiatedEncryptionLevel) {
             tdsChannel.enableSSL(serverInfo.getServerName(), serverInfo.getPortNumber());
         }
+        else {
+            tdsChannel.enableSocketChannel();
+        }
 
         // We have successfully connected, now do the login. logon takes seconds timeout
         executeCommand(new LogonCommand());
@@ -2623,6 +2997,10 @@ public class SQLServerConnection implements ISQLServerConnection {
         if (null != tdsChannel) {
             tdsChannel.close();
         }
+
+        if (null != preparedStatementHandleCache && connectionlogger.isLoggable(Level.FINER))
+            connectionlogger.finer(toString() + " " + preparedStatementHandleCache);
+
         loggerExternal.exiting(getClassNameLogging(), "close");
     }
 
@@ -2740,7 +3118,7 @@ public class SQLServerConnection implements ISQLServerConnection {
     }
 
     // Any changes to SQLWarnings should be synchronized.
-    private void addWarning(String warningString) {
+    void addWarning(String warningString) {
         synchronized (warningSynchronization) {
             SQLWarning warning = new SQLWarning(warningString);
 
@@ -4849,12 +5227,15 @@ public class SQLServerConnection implements ISQLServerConnection {
      * 
      * @param sql
      *            the user's SQL
+     * @param paramPositions
+     *            the offsets of the parameter markers in the user's SQL
      * @throws SQLServerException
      * @return the returned syntax
      */
     static final char[] OUT = {' ', 'O', 'U', 'T'};
 
     /* L0 */ String replaceParameterMarkers(String sqlSrc,
+            int[] paramPositions,
             Parameter[] params,
             boolean isReturnValueSyntax) throws SQLServerException {
         final int MAX_PARAM_NAME_LEN = 6;
@@ -4865,7 +5246,7 @@ public class SQLServerConnection implements ISQLServerConnection {
 
         int paramIndex = 0;
         while (true) {
-            int srcEnd = ParameterUtils.scanSQLForChar('?', sqlSrc, srcBegin);
+            int srcEnd = (paramIndex < paramPositions.length) ? paramPositions[paramIndex] : sqlSrc.length();
             sqlSrc.getChars(srcBegin, srcEnd, sqlDst, dstBegin);
             dstBegin += srcEnd - srcBegin;
 
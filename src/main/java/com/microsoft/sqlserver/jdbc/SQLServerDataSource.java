@@ -575,6 +575,19 @@ public class SQLServerDataSource implements ISQLServerDataSource, DataSource, ja
         return getStringProperty(connectionProps, SQLServerDriverStringProperty.FIPS_PROVIDER.toString(), null);
     }
 
+    // If nioTransport is set to true, the driver exchanges TDS packets over a java.nio
+    // SocketChannel using direct buffers instead of the socket's streams. Encrypted traffic
+    // is wrapped and unwrapped by an SSLEngine rather than an SSL socket.
+    // Note that interrupting a thread blocked in channel I/O closes the connection.
+    public void setNioTransport(boolean nioTransport) {
+        setBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.NIO_TRANSPORT.toString(), nioTransport);
+    }
+
+    public boolean getNioTransport() {
+        return getBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.NIO_TRANSPORT.toString(),
+                SQLServerDriverBooleanProperty.NIO_TRANSPORT.getDefaultValue());
+    }
+
     // The URL property is exposed for backwards compatibility reasons. Also, several
     // Java Application servers expect a setURL function on the DataSource and set it
     // by default (JBoss and WebLogic).
@@ -651,6 +664,83 @@ public class SQLServerDataSource implements ISQLServerDataSource, DataSource, ja
         return getIntProperty(connectionProps, SQLServerDriverIntProperty.SOCKET_TIMEOUT.toString(), defaultTimeOut);
     }
 
+    // readAheadPackets is the number of response packets that a background thread may read
+    // ahead of the application while it processes a result. 0, the default, disables read-ahead.
+    public void setReadAheadPackets(int readAheadPackets) {
+        setIntProperty(connectionProps, SQLServerDriverIntProperty.READ_AHEAD_PACKETS.toString(), readAheadPackets);
+    }
+
+    public int getReadAheadPackets() {
+        return getIntProperty(connectionProps, SQLServerDriverIntProperty.READ_AHEAD_PACKETS.toString(),
+                SQLServerDriverIntProperty.READ_AHEAD_PACKETS.getDefaultValue());
+    }
+
+    // disableStatementPooling turns off the caching of server prepared statement handles. It is true by default.
+    public void setDisableStatementPooling(boolean disableStatementPooling) {
+        setBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.toString(), disableStatementPooling);
+    }
+
+    public boolean getDisableStatementPooling() {
+        return getBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.toString(),
+                SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.getDefaultValue());
+    }
+
+    // statementPoolingCacheSize is the maximum number of prepared statement handles that a connection
+    // keeps for reuse when statement pooling is enabled.
+    public void setStatementPoolingCacheSize(int statementPoolingCacheSize) {
+        setIntProperty(connectionProps, SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.toString(), statementPoolingCacheSize);
+    }
+
+    public int getStatementPoolingCacheSize() {
+        return getIntProperty(connectionProps, SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.toString(),
+                SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.getDefaultValue());
+    }
+
+    // prepareThreshold is the number of times that the SQL of a prepared statement is executed on a
+    // connection with sp_executesql before it is prepared. 0, the default, prepares it on first execution.
+    public void setPrepareThreshold(int prepareThreshold) {
+        setIntProperty(connectionProps, SQLServerDriverIntProperty.PREPARE_THRESHOLD.toString(), prepareThreshold);
+    }
+
+    public int getPrepareThreshold() {
+        return getIntProperty(connectionProps, SQLServerDriverIntProperty.PREPARE_THRESHOLD.toString(),
+                SQLServerDriverIntProperty.PREPARE_THRESHOLD.getDefaultValue());
+    }
+
+    // statementBatchChunkSize is the maximum number of statements of a Statement batch that are sent
+    // to the server in one request. 0, the default, sends the whole batch in one request.
+    public void setStatementBatchChunkSize(int statementBatchChunkSize) {
+        setIntProperty(connectionProps, SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.toString(), statementBatchChunkSize);
+    }
+
+    public int getStatementBatchChunkSize() {
+        return getIntProperty(connectionProps, SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.toString(),
+                SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.getDefaultValue());
+    }
+
+    // useBulkCopyForBatchInsert executes the batches of prepared statements that insert a row of
+    // parameter values into a table with bulk copy instead of one RPC per row. The rows of such a batch
+    // are inserted all or none. It is false by default.
+    public void setUseBulkCopyForBatchInsert(boolean useBulkCopyForBatchInsert) {
+        setBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.toString(), useBulkCopyForBatchInsert);
+    }
+
+    public boolean getUseBulkCopyForBatchInsert() {
+        return getBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.toString(),
+                SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.getDefaultValue());
+    }
+
+    // normalizeBatchParameterTypes declares the parameters of prepared statement batches with types
+    // that fit every row of the batch, so that a batch is not reprepared part way. It is false by default.
+    public void setNormalizeBatchParameterTypes(boolean normalizeBatchParameterTypes) {
+        setBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.toString(), normalizeBatchParameterTypes);
+    }
+
+    public boolean getNormalizeBatchParameterTypes() {
+        return getBooleanProperty(connectionProps, SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.toString(),
+                SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.getDefaultValue());
+    }
+
     // responseBuffering controls the driver's buffering of responses from SQL Server.
     // Possible values are:
     //
@@ -238,12 +238,16 @@ enum SQLServerDriverStringProperty
 }
 
 enum SQLServerDriverIntProperty {
-	PACKET_SIZE    ("packetSize",      TDS.DEFAULT_PACKET_SIZE),			
-	LOCK_TIMEOUT   ("lockTimeout",     -1),
-	LOGIN_TIMEOUT  ("loginTimeout",    15),
-	QUERY_TIMEOUT  ("queryTimeout",    -1),
-	PORT_NUMBER    ("portNumber",      1433),
-	SOCKET_TIMEOUT ("socketTimeout",   0);
+	PACKET_SIZE                       ("packetSize",                     TDS.DEFAULT_PACKET_SIZE),
+	LOCK_TIMEOUT                      ("lockTimeout",                    -1),
+	LOGIN_TIMEOUT                     ("loginTimeout",                   15),
+	QUERY_TIMEOUT                     ("queryTimeout",                   -1),
+	PORT_NUMBER                       ("portNumber",                     1433),
+	SOCKET_TIMEOUT                    ("socketTimeout",                  0),
+	READ_AHEAD_PACKETS                ("readAheadPackets",               0),
+	STATEMENT_POOLING_CACHE_SIZE      ("statementPoolingCacheSize",      10),
+	PREPARE_THRESHOLD                 ("prepareThreshold",               0),
+	STATEMENT_BATCH_CHUNK_SIZE        ("statementBatchChunkSize",        0);
 
     private String name;
     private int defaultValue;
@@ -276,7 +280,10 @@ enum SQLServerDriverBooleanProperty
 	TRANSPARENT_NETWORK_IP_RESOLUTION  ("TransparentNetworkIPResolution",  true),
 	TRUST_SERVER_CERTIFICATE           ("trustServerCertificate",          false),
 	XOPEN_STATES                       ("xopenStates",                     false),
-	FIPS                               ("fips",                            false);
+	FIPS                               ("fips",                            false),
+	NIO_TRANSPORT                      ("nioTransport",                    false),
+	USE_BULK_COPY_FOR_BATCH_INSERT     ("useBulkCopyForBatchInsert",       false),
+	NORMALIZE_BATCH_PARAMETER_TYPES    ("normalizeBatchParameterTypes",    false);
 
     private String name;
     private boolean defaultValue;
@@ -309,7 +316,7 @@ public final class SQLServerDriver implements java.sql.Driver {
     	new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.APPLICATION_NAME.toString(),    					SQLServerDriverStringProperty.APPLICATION_NAME.getDefaultValue(), 										false,		null),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.COLUMN_ENCRYPTION.toString(),            			SQLServerDriverStringProperty.COLUMN_ENCRYPTION.getDefaultValue(),       								false,      new String[] {ColumnEncryptionSetting.Disabled.toString(), ColumnEncryptionSetting.Enabled.toString()}),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.DATABASE_NAME.toString(),       					SQLServerDriverStringProperty.DATABASE_NAME.getDefaultValue(),       									false,    	null),                        
-        new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.toString(), 			Boolean.toString(SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.getDefaultValue()),       	false,      new String[] {"true"}),
+        new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.toString(), 			Boolean.toString(SQLServerDriverBooleanProperty.DISABLE_STATEMENT_POOLING.getDefaultValue()),       	false,      TRUE_FALSE),
         new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.ENCRYPT.toString(),                      		Boolean.toString(SQLServerDriverBooleanProperty.ENCRYPT.getDefaultValue()),      						false,      TRUE_FALSE),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.FAILOVER_PARTNER.toString(),              		SQLServerDriverStringProperty.FAILOVER_PARTNER.getDefaultValue(),           							false,      null),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.HOSTNAME_IN_CERTIFICATE.toString(),       		SQLServerDriverStringProperty.HOSTNAME_IN_CERTIFICATE.getDefaultValue(),           						false,      null),
@@ -338,6 +345,8 @@ public final class SQLServerDriver implements java.sql.Driver {
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.TRUST_STORE.toString(),                    		SQLServerDriverStringProperty.TRUST_STORE.getDefaultValue(),           									false,      null),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.TRUST_STORE_PASSWORD.toString(),            		SQLServerDriverStringProperty.TRUST_STORE_PASSWORD.getDefaultValue(),           						false,      null),
         new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.SEND_TIME_AS_DATETIME.toString(),            	Boolean.toString(SQLServerDriverBooleanProperty.SEND_TIME_AS_DATETIME.getDefaultValue()),       		false,      TRUE_FALSE),
+        new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.toString(),       Boolean.toString(SQLServerDriverBooleanProperty.USE_BULK_COPY_FOR_BATCH_INSERT.getDefaultValue()),      false,      TRUE_FALSE),
+        new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.toString(),      Boolean.toString(SQLServerDriverBooleanProperty.NORMALIZE_BATCH_PARAMETER_TYPES.getDefaultValue()),     false,      TRUE_FALSE),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.USER.toString(),                          		SQLServerDriverStringProperty.USER.getDefaultValue(),           										true,       null),
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.WORKSTATION_ID.toString(),                 		SQLServerDriverStringProperty.WORKSTATION_ID.getDefaultValue(), 										false, 		null),
         new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.XOPEN_STATES.toString(),                   		Boolean.toString(SQLServerDriverBooleanProperty.XOPEN_STATES.getDefaultValue()),      					false,      TRUE_FALSE),
@@ -346,6 +355,11 @@ public final class SQLServerDriver implements java.sql.Driver {
         new SQLServerDriverPropertyInfo(SQLServerDriverStringProperty.FIPS_PROVIDER.toString(), 						SQLServerDriverStringProperty.FIPS_PROVIDER.getDefaultValue(), 											false, 		null),
         new SQLServerDriverPropertyInfo(SQLServerDriverIntProperty.SOCKET_TIMEOUT.toString(),                   		Integer.toString(SQLServerDriverIntProperty.SOCKET_TIMEOUT.getDefaultValue()),         					false,      null),
         new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.FIPS.toString(),                                 Boolean.toString(SQLServerDriverBooleanProperty.FIPS.getDefaultValue()),                                false,      TRUE_FALSE),
+        new SQLServerDriverPropertyInfo(SQLServerDriverBooleanProperty.NIO_TRANSPORT.toString(),                        Boolean.toString(SQLServerDriverBooleanProperty.NIO_TRANSPORT.getDefaultValue()),                       false,      TRUE_FALSE),
+        new SQLServerDriverPropertyInfo(SQLServerDriverIntProperty.READ_AHEAD_PACKETS.toString(),                       Integer.toString(SQLServerDriverIntProperty.READ_AHEAD_PACKETS.getDefaultValue()),                      false,      null),
+        new SQLServerDriverPropertyInfo(SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.toString(),             Integer.toString(SQLServerDriverIntProperty.STATEMENT_POOLING_CACHE_SIZE.getDefaultValue()),            false,      null),
+        new SQLServerDriverPropertyInfo(SQLServerDriverIntProperty.PREPARE_THRESHOLD.toString(),                        Integer.toString(SQLServerDriverIntProperty.PREPARE_THRESHOLD.getDefaultValue()),                       false,      null),
+        new SQLServerDriverPropertyInfo(SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.toString(),               Integer.toString(SQLServerDriverIntProperty.STATEMENT_BATCH_CHUNK_SIZE.getDefaultValue()),              false,      null),
             };
 
     // Properties that can only be set by using Properties.
@@ -609,6 +623,129 @@ public final class SQLServerDriver implements java.sql.Driver {
         return SQLJdbcVersion.minor;
     }
 
+    /**
+     * Returns the number of query and bulk copy timeouts that the driver has armed. Timeouts are armed on a driver-wide scheduler rather than on a
+     * thread of their own.
+     *
+     * @return the number of timeouts armed
+     */
+    public static long getNumTimeoutsArmed() {
+        return TimeoutScheduler.getInstance().getNumArmed();
+    }
+
+    /**
+     * Returns the number of query and bulk copy timeouts that ran out and interrupted their command.
+     *
+     * @return the number of timeouts fired
+     */
+    public static long getNumTimeoutsFired() {
+        return TimeoutScheduler.getInstance().getNumFired();
+    }
+
+    /**
+     * Returns the number of query and bulk copy timeouts that were cancelled because their command completed in time.
+     *
+     * @return the number of timeouts cancelled
+     */
+    public static long getNumTimeoutsCancelled() {
+        return TimeoutScheduler.getInstance().getNumCancelled();
+    }
+
+    /**
+     * Returns the number of encrypted connections that found a cached SSL context for their server and trust settings.
+     *
+     * @return the number of SSL context cache hits
+     */
+    public static long getNumSSLContextCacheHits() {
+        return TLSSessionCache.getInstance().getNumHits();
+    }
+
+    /**
+     * Returns the number of encrypted connections that had to create an SSL context because none was cached for their server and trust settings.
+     *
+     * @return the number of SSL context cache misses
+     */
+    public static long getNumSSLContextCacheMisses() {
+        return TLSSessionCache.getInstance().getNumMisses();
+    }
+
+    /**
+     * Returns the number of SSL handshakes that resumed a TLS session cached by an earlier connection.
+     *
+     * @return the number of resumed handshakes
+     */
+    public static long getNumResumedSSLHandshakes() {
+        return TLSSessionCache.getInstance().getNumResumedHandshakes();
+    }
+
+    /**
+     * Returns the number of SSL handshakes that negotiated a new TLS session.
+     *
+     * @return the number of full handshakes
+     */
+    public static long getNumFullSSLHandshakes() {
+        return TLSSessionCache.getInstance().getNumFullHandshakes();
+    }
+
+    /**
+     * Returns the number of statements whose SQL text was found already parsed in the driver-wide parsed SQL cache.
+     *
+     * @return the number of parsed SQL cache hits
+     */
+    public static long getNumParsedSQLCacheHits() {
+        return ParsedSQLCache.getInstance().getNumHits();
+    }
+
+    /**
+     * Returns the number of statements whose SQL text had to be parsed because it was not in the parsed SQL cache.
+     *
+     * @return the number of parsed SQL cache misses
+     */
+    public static long getNumParsedSQLCacheMisses() {
+        return ParsedSQLCache.getInstance().getNumMisses();
+    }
+
+    /**
+     * Returns the number of entries evicted from the full parsed SQL cache.
+     *
+     * @return the number of parsed SQL cache evictions
+     */
+    public static long getNumParsedSQLCacheEvictions() {
+        return ParsedSQLCache.getInstance().getNumEvictions();
+    }
+
+    /**
+     * Sets the maximum number of driver threads that run the asynchronous statement executions and row publishers of all connections. A connection
+     * uses one thread at a time, and only while it has executions pending. When every thread is busy, connections wait for a thread in turn. The
+     * default is 64.
+     *
+     * @param maxThreads
+     *            the maximum number of threads, at least 1
+     * @throws SQLServerException
+     *             if maxThreads is less than 1
+     */
+    public static void setMaxAsyncExecutionThreads(int maxThreads) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+        loggerExternal.entering(SQLServerDriver.class.getName(), "setMaxAsyncExecutionThreads", maxThreads);
+        if (maxThreads < 1) {
+            MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidMaxAsyncExecutionThreads"));
+            Object[] msgArgs = {maxThreads};
+            SQLServerException.makeFromDriverError(null, null, form.format(msgArgs), null, false);
+        }
+        AsyncStatementExecutor.setMaxThreads(maxThreads);
+        loggerExternal.exiting(SQLServerDriver.class.getName(), "setMaxAsyncExecutionThreads");
+    }
+
+    /**
+     * Returns the maximum number of driver threads that run asynchronous statement executions.
+     *
+     * @return the maximum number of threads
+     */
+    public static int getMaxAsyncExecutionThreads() {
+        DriverJDBCVersion.checkSupportsJDBC42();
+        return AsyncStatementExecutor.getMaxThreads();
+    }
+
     public Logger getParentLogger() throws SQLFeatureNotSupportedException {
         DriverJDBCVersion.checkSupportsJDBC41();
 
@@ -22,10 +22,12 @@ import java.sql.SQLXML;
 import java.sql.Statement;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Level;
 
 /**
@@ -60,6 +62,9 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
     /** The users SQL statement text */
     final String userSQL;
 
+    /** The offsets of the parameter markers in userSQL */
+    final int[] userSQLParamPositions;
+
     /** SQL statement with expanded parameter tokens */
     private String preparedSQL;
 
@@ -87,9 +92,22 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
     /** The prepared statement handle returned by the server */
     private int prepStmtHandle = 0;
 
+    /**
+     * The key of the prepared statement handle in the connection's handle cache, if the handle was prepared by sp_prepexec and may be handed back to
+     * the cache when the statement is closed
+     */
+    private String prepStmtHandleCacheKey = null;
+
     /** Flag set to true when statement execution is expected to return the prepared statement handle */
     private boolean expectPrepStmtHandle = false;
 
+    /**
+     * The database and query with which the statement last looked for identity columns among the columns that a batch inserts into, and whether it
+     * found one. Later batches that insert into the same columns of the same table reuse the answer instead of querying again.
+     */
+    private String identityColumnQueryKey = null;
+    private boolean insertsIntoIdentityColumn = false;
+
     // Internal function used in tracing
     String getClassNameInternal() {
         return "SQLServerPreparedStatement";
@@ -120,17 +138,17 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         stmtPoolable = true;
         sqlCommand = sql;
 
-        JDBCSyntaxTranslator translator = new JDBCSyntaxTranslator();
-        sql = translator.translate(sql);
-        procedureName = translator.getProcedureName(); // may return null
-        bReturnValueSyntax = translator.hasReturnValueSyntax();
+        ParsedSQLCache.ParsedSQL parsedSQL = ParsedSQLCache.getInstance().parse(sql);
+        procedureName = parsedSQL.procedureName; // may return null
+        bReturnValueSyntax = parsedSQL.bReturnValueSyntax;
 
-        userSQL = sql;
-        initParams(userSQL);
+        userSQL = parsedSQL.processedSQL;
+        userSQLParamPositions = parsedSQL.parameterPositions;
+        initParams(userSQLParamPositions.length);
     }
 
     /**
-     * Close the prepared statement's prepared handle.
+     * Close the prepared statement's prepared handle, handing it back to the connection's handle cache if it can be reused, or else discarding it.
      */
     private void closePreparedHandle() {
         if (0 == prepStmtHandle)
@@ -142,41 +160,28 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         if (connection.isSessionUnAvailable()) {
             if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
                 getStatementLogger().finer(this + ": Not closing PreparedHandle:" + prepStmtHandle + "; connection is already closed.");
+            return;
         }
-        else {
-            if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
-                getStatementLogger().finer(this + ": Closing PreparedHandle:" + prepStmtHandle);
-
-            final class PreparedHandleClose extends UninterruptableTDSCommand {
-                PreparedHandleClose() {
-                    super("closePreparedHandle");
-                }
-
-                final boolean doExecute() throws SQLServerException {
-                    TDSWriter tdsWriter = startRequest(TDS.PKT_RPC);
-                    tdsWriter.writeShort((short) 0xFFFF); // procedure name length -> use ProcIDs
-                    tdsWriter.writeShort(executedSqlDirectly ? TDS.PROCID_SP_UNPREPARE : TDS.PROCID_SP_CURSORUNPREPARE);
-                    tdsWriter.writeByte((byte) 0);  // RPC procedure option 1
-                    tdsWriter.writeByte((byte) 0);  // RPC procedure option 2
-                    tdsWriter.writeRPCInt(null, new Integer(prepStmtHandle), false);
-                    prepStmtHandle = 0;
-                    TDSParser.parse(startResponse(), getLogContext());
-                    return true;
-                }
-            }
-
-            // Try to close the server cursor. Any failure is caught, logged, and ignored.
-            try {
-                executeCommand(new PreparedHandleClose());
-            }
-            catch (SQLServerException e) {
-                if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
-                    getStatementLogger().log(Level.FINER, this + ": Error (ignored) closing PreparedHandle:" + prepStmtHandle, e);
-            }
 
+        int handleToClose = prepStmtHandle;
+        boolean isCursorHandle = !executedSqlDirectly;
+        PreparedStatementHandleCache handleCache = connection.getPreparedStatementHandleCache();
+        if (null != handleCache && null != prepStmtHandleCacheKey) {
             if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
-                getStatementLogger().finer(this + ": Closed PreparedHandle:" + prepStmtHandle);
+                getStatementLogger().finer(this + ": Caching PreparedHandle:" + prepStmtHandle);
+
+            // The cache may give back a handle that it has no room for
+            handleToClose = handleCache.checkIn(prepStmtHandleCacheKey, prepStmtHandle);
+            isCursorHandle = false;
+            prepStmtHandle = 0;
+            prepStmtHandleCacheKey = null;
+            if (0 == handleToClose)
+                return;
         }
+
+        // The handle is unprepared with the connection's next request
+        connection.discardPreparedHandle(handleToClose, isCursorHandle);
+        prepStmtHandle = 0;
     }
 
     /**
@@ -199,17 +204,10 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
     /**
      * Intialize the statement parameters.
      * 
-     * @param sql
+     * @param nParams
+     *            the number of parameter placeholders in the SQL string
      */
-    /* L0 */ final void initParams(String sql) {
-        int nParams = 0;
-
-        // Figure out the expected number of parameters by counting the
-        // parameter placeholders in the SQL string.
-        int offset = -1;
-        while ((offset = ParameterUtils.scanSQLForChar('?', sql, ++offset)) < sql.length())
-            ++nParams;
-
+    /* L0 */ final void initParams(int nParams) {
         inOutParam = new Parameter[nParams];
         for (int i = 0; i < nParams; i++) {
             inOutParam[i] = new Parameter(Util.shouldHonorAEForParameters(stmtColumnEncriptionSetting, connection));
@@ -234,14 +232,24 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
      */
     private boolean buildPreparedStrings(Parameter[] params,
             boolean renewDefinition) throws SQLServerException {
-        String newTypeDefinitions = buildParamTypeDefinitions(params, renewDefinition);
+        return buildPreparedStrings(params, renewDefinition, null);
+    }
+
+    /**
+     * Determines whether the statement needs to be reprepared, declaring the parameters for which batchTypeDefinitions has an entry with that type
+     * definition instead of their own.
+     */
+    private boolean buildPreparedStrings(Parameter[] params,
+            boolean renewDefinition,
+            String[] batchTypeDefinitions) throws SQLServerException {
+        String newTypeDefinitions = buildParamTypeDefinitions(params, renewDefinition, batchTypeDefinitions);
         if (null != preparedTypeDefinitions && newTypeDefinitions.equals(preparedTypeDefinitions))
             return false;
 
         preparedTypeDefinitions = newTypeDefinitions;
 
         /* Replace the parameter marker '?' with the param numbers @p1, @p2 etc */
-        preparedSQL = connection.replaceParameterMarkers(userSQL, params, bReturnValueSyntax);
+        preparedSQL = connection.replaceParameterMarkers(userSQL, userSQLParamPositions, params, bReturnValueSyntax);
         if (bRequestedGeneratedKeys)
             preparedSQL = preparedSQL + identityQuery;
 
@@ -255,12 +263,15 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
      *            the statement parameters
      * @param renewDefinition
      *            True if renewing parameter definition, False otherwise
+     * @param batchTypeDefinitions
+     *            the type definitions shared by all rows of a batch, or null
      * @throws SQLServerException
      *             when an error occurs.
      * @return the required data type defintions.
      */
     private String buildParamTypeDefinitions(Parameter[] params,
-            boolean renewDefinition) throws SQLServerException {
+            boolean renewDefinition,
+            String[] batchTypeDefinitions) throws SQLServerException {
         StringBuilder sb = new StringBuilder();
         int nCols = params.length;
         char cParamName[] = new char[10];
@@ -285,6 +296,9 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
                 SQLServerException.makeFromDriverError(connection, this, form.format(msgArgs), null, false);
             }
 
+            if (null != batchTypeDefinitions && null != batchTypeDefinitions[i])
+                typeDefinition = batchTypeDefinitions[i];
+
             sb.append(typeDefinition);
 
             if (params[i].isOutput())
@@ -373,6 +387,98 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         return null != resultSet;
     }
 
+    /**
+     * Executes the SQL statement in this PreparedStatement object, which may be any kind of SQL statement, on a driver thread. See
+     * {@link SQLServerStatement#executeAsync(String)}.
+     *
+     * @return A CompletableFuture that is completed with true if the first result is a ResultSet object, or false if it is an update count or
+     *         there are no results.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<Boolean> executeAsync() throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeAsync");
+        checkClosed();
+        CompletableFuture<Boolean> future = submitAsync(new AsyncStatementExecutor.Task<Boolean>() {
+            public Boolean execute() throws SQLException {
+                return Boolean.valueOf(SQLServerPreparedStatement.this.execute());
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeAsync", future);
+        return future;
+    }
+
+    /**
+     * Executes the SQL query in this PreparedStatement object on a driver thread. See {@link SQLServerStatement#executeQueryAsync(String)}.
+     *
+     * @return A CompletableFuture that is completed with the ResultSet object that contains the data produced by the query.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync() throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeQueryAsync");
+        checkClosed();
+        CompletableFuture<ResultSet> future = submitAsync(new AsyncStatementExecutor.Task<ResultSet>() {
+            public ResultSet execute() throws SQLException {
+                return executeQuery();
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeQueryAsync", future);
+        return future;
+    }
+
+    /**
+     * Executes the SQL statement in this PreparedStatement object, which must be an SQL Data Manipulation Language (DML) statement or an SQL
+     * statement that returns nothing, on a driver thread. See {@link SQLServerStatement#executeAsync(String)}.
+     *
+     * @return A CompletableFuture that is completed with the row count, or 0 for SQL statements that return nothing.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<Integer> executeUpdateAsync() throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeUpdateAsync");
+        checkClosed();
+        CompletableFuture<Integer> future = submitAsync(new AsyncStatementExecutor.Task<Integer>() {
+            public Integer execute() throws SQLException {
+                return Integer.valueOf(executeUpdate());
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeUpdateAsync", future);
+        return future;
+    }
+
+    /**
+     * Returns a publisher of the rows of the SQL query in this PreparedStatement object. See
+     * {@link SQLServerStatement#executeQueryPublisher(String, ISQLServerRowMapper)}.
+     *
+     * @param <T>
+     *            the type of the objects that rows are converted to
+     * @param mapper
+     *            converts each row to the object that is emitted for it
+     * @return The publisher.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public <T> ISQLServerRowPublisher<T> executeQueryPublisher(ISQLServerRowMapper<T> mapper) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeQueryPublisher");
+        checkClosed();
+        ISQLServerRowPublisher<T> publisher = new SQLServerRowPublisher<T>(this, new AsyncStatementExecutor.Task<ResultSet>() {
+            public ResultSet execute() throws SQLException {
+                return executeQuery();
+            }
+        }, mapper);
+        loggerExternal.exiting(getClassNameLogging(), "executeQueryPublisher", publisher);
+        return publisher;
+    }
+
     private final class PrepStmtExecCmd extends TDSCommand {
         private final SQLServerPreparedStatement stmt;
 
@@ -428,6 +534,7 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         // Start the request and detach the response reader so that we can
         // continue using it after we return.
         TDSWriter tdsWriter = command.startRequest(TDS.PKT_RPC);
+        command.prependDiscardedHandleUnprepares();
 
         doPrepExec(tdsWriter, inOutParam, hasNewTypeDefinitions);
 
@@ -505,6 +612,7 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         executedSqlDirectly = false;
         expectCursorOutParams = true;
         outParamIndexAdjustment = 7;
+        prepStmtHandleCacheKey = null;
 
         tdsWriter.writeShort((short) 0xFFFF); // procedure name length -> use ProcIDs
         tdsWriter.writeShort(TDS.PROCID_SP_CURSORPREPEXEC);
@@ -547,6 +655,8 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         executedSqlDirectly = true;
         expectCursorOutParams = false;
         outParamIndexAdjustment = 3;
+        prepStmtHandleCacheKey = (null == connection.getPreparedStatementHandleCache()) ? null
+                : connection.getPreparedStatementHandleCacheKey(preparedSQL, preparedTypeDefinitions);
 
         tdsWriter.writeShort((short) 0xFFFF); // procedure name length -> use ProcIDs
         tdsWriter.writeShort(TDS.PROCID_SP_PREPEXEC);
@@ -616,6 +726,27 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         tdsWriter.writeRPCInt(null, new Integer(prepStmtHandle), false);
     }
 
+    private void buildExecSQLParams(TDSWriter tdsWriter) throws SQLServerException {
+        if (getStatementLogger().isLoggable(java.util.logging.Level.FINE))
+            getStatementLogger().fine(toString() + ": calling sp_executesql: SQL:" + preparedSQL);
+
+        expectPrepStmtHandle = false;
+        executedSqlDirectly = true;
+        expectCursorOutParams = false;
+        outParamIndexAdjustment = 2;
+
+        tdsWriter.writeShort((short) 0xFFFF); // procedure name length -> use ProcIDs
+        tdsWriter.writeShort(TDS.PROCID_SP_EXECUTESQL);
+        tdsWriter.writeByte((byte) 0);  // RPC procedure option 1
+        tdsWriter.writeByte((byte) 0);  // RPC procedure option 2
+
+        // <stmt> IN
+        tdsWriter.writeRPCStringUnicode(preparedSQL);
+
+        // <formal parameter defn> IN
+        tdsWriter.writeRPCStringUnicode((preparedTypeDefinitions.length() > 0) ? preparedTypeDefinitions : null);
+    }
+
     private void getParameterEncryptionMetadata(Parameter[] params) throws SQLServerException {
         /*
          * The parameter list is created from the data types provided by the user for the parameters. the data types do not need to be the same as in
@@ -762,6 +893,22 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
             boolean hasNewTypeDefinitions) throws SQLServerException {
         boolean needsPrepare = hasNewTypeDefinitions || 0 == prepStmtHandle;
 
+        if (0 == prepStmtHandle && !isCursorable(executeMethod)) {
+            // A statement without a handle of its own may reuse one that was prepared
+            // by an earlier statement on the connection with the same SQL.
+            if (reuseCachedPreparedHandle()) {
+                needsPrepare = false;
+            }
+
+            // Statements that have not been executed often enough yet to be worth
+            // preparing are executed without a handle.
+            else if (!connection.shouldPrepare(preparedSQL)) {
+                buildExecSQLParams(tdsWriter);
+                sendParamsByRPC(tdsWriter, params);
+                return false;
+            }
+        }
+
         if (needsPrepare) {
             if (isCursorable(executeMethod))
                 buildServerCursorPrepExecParams(tdsWriter);
@@ -779,6 +926,29 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         return needsPrepare;
     }
 
+    /**
+     * Take a prepared handle for the current SQL and type definitions from the connection's handle cache.
+     * 
+     * @return true if a cached handle was found
+     */
+    private boolean reuseCachedPreparedHandle() {
+        PreparedStatementHandleCache handleCache = connection.getPreparedStatementHandleCache();
+        if (null == handleCache)
+            return false;
+
+        String key = connection.getPreparedStatementHandleCacheKey(preparedSQL, preparedTypeDefinitions);
+        int handle = handleCache.checkOut(key);
+        if (0 == handle)
+            return false;
+
+        if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
+            getStatementLogger().finer(toString() + ": Reusing cached PreparedHandle:" + handle);
+
+        prepStmtHandle = handle;
+        prepStmtHandleCacheKey = key;
+        return true;
+    }
+
     /* L0 */ public final java.sql.ResultSetMetaData getMetaData() throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getMetaData");
         checkClosed();
@@ -814,7 +984,7 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
     /* L0 */ private ResultSet buildExecuteMetaData() throws SQLServerException {
         String fmtSQL = sqlCommand;
         if (fmtSQL.indexOf(LEFT_CURLY_BRACKET) >= 0) {
-            fmtSQL = (new JDBCSyntaxTranslator()).translate(fmtSQL);
+            fmtSQL = ParsedSQLCache.getInstance().parse(fmtSQL).processedSQL;
         }
 
         ResultSet emptyResultSet = null;
@@ -2224,7 +2394,8 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
 
                 PrepStmtBatchExecCmd batchCommand = new PrepStmtBatchExecCmd(this);
 
-                executeStatement(batchCommand);
+                if (!executeBatchWithBulkCopy(batchCommand))
+                    executeStatement(batchCommand);
 
                 updateCounts = new int[batchCommand.updateCounts.length];
                 for (int i = 0; i < batchCommand.updateCounts.length; ++i)
@@ -2282,7 +2453,8 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
 
                 PrepStmtBatchExecCmd batchCommand = new PrepStmtBatchExecCmd(this);
 
-                executeStatement(batchCommand);
+                if (!executeBatchWithBulkCopy(batchCommand))
+                    executeStatement(batchCommand);
 
                 updateCounts = new long[batchCommand.updateCounts.length];
 
@@ -2302,6 +2474,97 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         return updateCounts;
     }
 
+    /**
+     * Executes the batch with bulk copy instead of the batch command if the connection is configured to and the statement inserts a single row of
+     * eligible parameter values into a table. Records the update counts and any error in the batch command, as executing it would.
+     *
+     * Unlike the batch command, which inserts each row with its own statement, bulk copy inserts all of the rows with a single statement. If any row
+     * fails, no row is inserted, and every row is reported as EXECUTE_FAILED.
+     *
+     * @return true if the batch was executed with bulk copy
+     */
+    private boolean executeBatchWithBulkCopy(PrepStmtBatchExecCmd batchCommand) throws SQLServerException {
+        // Bulk copy returns no generated keys and only accepts plain connections, and encrypted values must be encrypted by the statement.
+        if (!connection.getUseBulkCopyForBatchInsert() || bRequestedGeneratedKeys || this instanceof SQLServerCallableStatement
+                || SQLServerConnection.class != connection.getClass() || Util.shouldHonorAEForParameters(stmtColumnEncriptionSetting, connection))
+            return false;
+
+        BatchInsertBulkRecord bulkRecord = BatchInsertBulkRecord.create(userSQL, batchParamValues);
+        if (null == bulkRecord)
+            return false;
+
+        // Bulk copy either generates new values for an identity column or, keeping the values, inserts them where
+        // the statement fails unless IDENTITY_INSERT is on. Inserts into identity columns are left to the statement.
+        try {
+            if (insertsIntoIdentityColumn(bulkRecord))
+                return false;
+        }
+        catch (SQLServerException e) {
+            if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
+                getStatementLogger().finer(toString() + ": Not executing batch with bulk copy; reading the columns failed: " + e.getMessage());
+            return false;
+        }
+
+        if (getStatementLogger().isLoggable(java.util.logging.Level.FINER))
+            getStatementLogger().finer(toString() + ": Executing batch of " + bulkRecord.getRowCount() + " rows with bulk copy");
+
+        batchCommand.updateCounts = new long[bulkRecord.getRowCount()];
+        SQLServerBulkCopy bulkCopy = new SQLServerBulkCopy(connection);
+        try {
+            // Insert the rows as the statement would: with constraints and triggers, and without substituting defaults for nulls.
+            // The default batch size of 0 sends every row in one bulk load statement, so the rows are inserted all or none.
+            SQLServerBulkCopyOptions copyOptions = new SQLServerBulkCopyOptions();
+            copyOptions.setCheckConstraints(true);
+            copyOptions.setFireTriggers(true);
+            copyOptions.setKeepNulls(true);
+            copyOptions.setBulkCopyTimeout(queryTimeout);
+            bulkCopy.setBulkCopyOptions(copyOptions);
+
+            bulkCopy.setDestinationTableName(bulkRecord.getTableName());
+            for (int column : bulkRecord.getColumnOrdinals())
+                bulkCopy.addColumnMapping(column, bulkRecord.getColumnName(column));
+
+            bulkCopy.writeToServer(bulkRecord);
+            Arrays.fill(batchCommand.updateCounts, 1);
+        }
+        catch (SQLServerException e) {
+            Arrays.fill(batchCommand.updateCounts, Statement.EXECUTE_FAILED);
+            batchCommand.batchException = e;
+        }
+        finally {
+            bulkCopy.close();
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether any of the columns that the batch inserts into is an identity column. The answer is queried once for each database, table and
+     * column list that the statement inserts into.
+     */
+    private boolean insertsIntoIdentityColumn(BatchInsertBulkRecord bulkRecord) throws SQLServerException {
+        String query = "SELECT TOP 0 " + bulkRecord.getColumnList() + " FROM " + bulkRecord.getTableName();
+        String queryKey = connection.getCatalog() + ";" + query;
+        if (queryKey.equals(identityColumnQueryKey))
+            return insertsIntoIdentityColumn;
+
+        boolean foundIdentityColumn = false;
+        SQLServerStatement stmt = (SQLServerStatement) connection.createStatement();
+        try {
+            SQLServerResultSet rs = stmt.executeQueryInternal(query);
+            SQLServerResultSetMetaData metaData = (SQLServerResultSetMetaData) rs.getMetaData();
+            for (int column = 1; column <= metaData.getColumnCount() && !foundIdentityColumn; ++column)
+                foundIdentityColumn = metaData.isAutoIncrement(column);
+        }
+        finally {
+            stmt.close();
+        }
+
+        identityColumnQueryKey = queryKey;
+        insertsIntoIdentityColumn = foundIdentityColumn;
+        return foundIdentityColumn;
+    }
+
     private final class PrepStmtBatchExecCmd extends TDSCommand {
         private final SQLServerPreparedStatement stmt;
         SQLServerException batchException;
@@ -2323,6 +2586,114 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         }
     }
 
+    // The pairs of type definitions of string and binary values, the second of which is used if a batch has values of both
+    private static final String[][] WIDENED_TYPE_DEFINITIONS = {{"nvarchar(4000)", "nvarchar(max)"}, {"varchar(8000)", "varchar(max)"},
+            {"varbinary(8000)", "varbinary(max)"}};
+
+    private static final String DECIMAL_TYPE_DEFINITION_PREFIX = "decimal(" + SQLServerConnection.maxDecimalPrecision + ",";
+
+    /**
+     * Finds, for each parameter whose type definition differs between the rows of the batch, a type definition that fits the values of every row.
+     * Null values are first given the JDBC type of the parameter's first non-null value.
+     *
+     * @return the type definitions, with null entries for the parameters whose rows already agree or that have no common type definition
+     */
+    private String[] normalizeBatchTypeDefinitions() throws SQLServerException {
+        final int numParams = inOutParam.length;
+        String[] batchTypeDefinitions = new String[numParams];
+
+        for (int i = 0; i < numParams; i++) {
+            JDBCType valueJdbcType = null;
+            for (Parameter[] paramValues : batchParamValues) {
+                if (null != paramValues[i].getSetterValue()) {
+                    if (JDBCType.TVP != paramValues[i].getJdbcType())
+                        valueJdbcType = paramValues[i].getJdbcType();
+                    break;
+                }
+            }
+
+            String batchTypeDefinition = null;
+            boolean typeDefinitionsDiffer = false;
+            int maxIntegerDigits = 0;
+            for (Parameter[] paramValues : batchParamValues) {
+                Parameter param = paramValues[i];
+                if (null != valueJdbcType && null == param.getSetterValue() && JDBCType.UNKNOWN != param.getJdbcType()
+                        && JDBCType.TVP != param.getJdbcType() && valueJdbcType != param.getJdbcType())
+                    param.setNullInputValue(valueJdbcType, connection);
+
+                String typeDefinition = param.getTypeDefinition(connection, resultsReader());
+                if (null == typeDefinition) {
+                    // The value is not set; executing the batch reports it.
+                    typeDefinitionsDiffer = false;
+                    break;
+                }
+
+                if (typeDefinition.startsWith(DECIMAL_TYPE_DEFINITION_PREFIX))
+                    maxIntegerDigits = Math.max(maxIntegerDigits, getDecimalIntegerDigits(param.getSetterValue(), typeDefinition));
+
+                if (null == batchTypeDefinition) {
+                    batchTypeDefinition = typeDefinition;
+                }
+                else if (!batchTypeDefinition.equals(typeDefinition)) {
+                    typeDefinitionsDiffer = true;
+                    batchTypeDefinition = getWiderTypeDefinition(batchTypeDefinition, typeDefinition);
+                    if (null == batchTypeDefinition)
+                        break;
+                }
+            }
+
+            // A decimal with the largest scale must still have room for the largest integer part of every row.
+            if (typeDefinitionsDiffer && null != batchTypeDefinition && batchTypeDefinition.startsWith(DECIMAL_TYPE_DEFINITION_PREFIX)
+                    && maxIntegerDigits + getDecimalScale(batchTypeDefinition) > SQLServerConnection.maxDecimalPrecision)
+                batchTypeDefinition = null;
+
+            if (typeDefinitionsDiffer)
+                batchTypeDefinitions[i] = batchTypeDefinition;
+        }
+
+        return batchTypeDefinitions;
+    }
+
+    /**
+     * Returns the number of digits before the decimal point of a decimal value, or all those its type definition allows if the value is not a
+     * BigDecimal.
+     */
+    private static int getDecimalIntegerDigits(Object value,
+            String typeDefinition) {
+        if (null == value)
+            return 0;
+
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return Math.max(decimal.precision() - decimal.scale(), 0);
+        }
+
+        return SQLServerConnection.maxDecimalPrecision - getDecimalScale(typeDefinition);
+    }
+
+    private static int getDecimalScale(String typeDefinition) {
+        return Integer.parseInt(typeDefinition.substring(DECIMAL_TYPE_DEFINITION_PREFIX.length(), typeDefinition.length() - 1));
+    }
+
+    /**
+     * Returns the type definition that fits the values of both type definitions, or null if there is none.
+     */
+    private static String getWiderTypeDefinition(String typeDefinition1,
+            String typeDefinition2) {
+        for (String[] widenedTypeDefinitions : WIDENED_TYPE_DEFINITIONS) {
+            if ((widenedTypeDefinitions[0].equals(typeDefinition1) || widenedTypeDefinitions[1].equals(typeDefinition1))
+                    && (widenedTypeDefinitions[0].equals(typeDefinition2) || widenedTypeDefinitions[1].equals(typeDefinition2)))
+                return widenedTypeDefinitions[1];
+        }
+
+        // decimal(38,s): the largest scale, which normalizeBatchTypeDefinitions checks against the integer parts of the values
+        if (typeDefinition1.startsWith(DECIMAL_TYPE_DEFINITION_PREFIX) && typeDefinition2.startsWith(DECIMAL_TYPE_DEFINITION_PREFIX)) {
+            return (getDecimalScale(typeDefinition1) >= getDecimalScale(typeDefinition2)) ? typeDefinition1 : typeDefinition2;
+        }
+
+        return null;
+    }
+
     final void doExecutePreparedStatementBatch(PrepStmtBatchExecCmd batchCommand) throws SQLServerException {
         executeMethod = EXECUTE_BATCH;
 
@@ -2346,6 +2717,11 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
         if (loggerExternal.isLoggable(Level.FINER) && Util.IsActivityTraceOn()) {
             loggerExternal.finer(toString() + " ActivityId: " + ActivityCorrelator.getNext().toString());
         }
+        // Declare the parameters with types that fit every row, if so configured, so that the batch is prepared once.
+        String[] batchTypeDefinitions = null;
+        if (connection.getNormalizeBatchParameterTypes() && !Util.shouldHonorAEForParameters(stmtColumnEncriptionSetting, connection))
+            batchTypeDefinitions = normalizeBatchTypeDefinitions();
+
         // Create the parameter array that we'll use for all the items in this batch.
         Parameter[] batchParam = new Parameter[inOutParam.length];
 
@@ -2357,7 +2733,7 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
             for (int i = 0; i < paramValues.length; i++)
                 batchParam[i] = paramValues[i];
 
-            boolean hasNewTypeDefinitions = buildPreparedStrings(batchParam, false);
+            boolean hasNewTypeDefinitions = buildPreparedStrings(batchParam, false, batchTypeDefinitions);
             // Get the encryption metadata for the first batch only.
             if ((0 == numBatchesExecuted) && (Util.shouldHonorAEForParameters(stmtColumnEncriptionSetting, connection)) && (0 < batchParam.length)
                     && !isInternalEncryptionQuery) {
@@ -2387,6 +2763,7 @@ public class SQLServerPreparedStatement extends SQLServerStatement implements IS
             else {
                 resetForReexecute();
                 tdsWriter = batchCommand.startRequest(TDS.PKT_RPC);
+                batchCommand.prependDiscardedHandleUnprepares();
             }
 
             // If we have to (re)prepare the statement then we must execute it so
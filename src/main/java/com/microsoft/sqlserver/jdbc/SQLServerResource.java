@@ -134,7 +134,6 @@ public final class SQLServerResource extends ListResourceBundle {
 				{"R_notConfiguredForIntegrated", "This driver is not configured for integrated authentication."},
 				{"R_failoverPartnerWithoutDB", "databaseName is required when using the failoverPartner connection property."},
 				{"R_invalidPartnerConfiguration", "The database {0} on server {1} is not configured for database mirroring."},
-				{"R_invaliddisableStatementPooling", "The disableStatementPooling value {0} is not valid."},
 				{"R_invalidselectMethod", "The selectMethod {0} is not valid."},
 				{"R_invalidpropertyValue", "The data type of connection property {0} is not valid. All the properties for this connection must be of String type."},
 				{"R_invalidArgument", "The argument {0} is not valid."},
@@ -165,7 +164,9 @@ public final class SQLServerResource extends ListResourceBundle {
 				{"R_multiSubnetFailoverPropertyDescription", "Indicates that the application is connecting to the Availability Group Listener of an Availability Group or Failover Cluster Instance."},
 				{"R_applicationNamePropertyDescription", "The application name for SQL Server profiling and logging tools."},
 				{"R_lastUpdateCountPropertyDescription", "Ensures that only the last update count is returned from an SQL statement passed to the server."},
-				{"R_disableStatementPoolingPropertyDescription", "Disables the statement pooling feature."},
+				{"R_useBulkCopyForBatchInsertPropertyDescription", "Executes batches of a prepared statement that inserts one row of parameter values into a table with bulk copy. The column names of the INSERT statement must match the names of the columns of the table. The rows of a batch are inserted all or none. Batches that insert into an identity column are not executed with bulk copy."},
+				{"R_normalizeBatchParameterTypesPropertyDescription", "Declares the parameters of a batch of a prepared statement with types that fit the values of every row, so that the batch is prepared once. Nulls take the type of the values of other rows, decimals the largest scale if every value still fits in 38 digits, and strings and binary values the max length if any row needs it. Other batches are sent as before."},
+				{"R_disableStatementPoolingPropertyDescription", "Disables the statement pooling feature. When statement pooling is enabled, the server handles of closed prepared statements are cached and reused by the connection."},
 				{"R_integratedSecurityPropertyDescription", "Indicates whether Windows authentication will be used to connect to SQL Server."},
 				{"R_authenticationSchemePropertyDescription", "The authentication scheme to be used for integrated authentication."},
 				{"R_lockTimeoutPropertyDescription", "The number of milliseconds to wait before the database reports a lock time-out."},
@@ -376,5 +377,18 @@ public final class SQLServerResource extends ListResourceBundle {
 				{"R_invalidFipsConfig", "Could not enable FIPS."},
 				{"R_invalidFipsEncryptConfig", "Could not enable FIPS due to either encrypt is not true or using trusted certificate settings."},
 				{"R_invalidFipsProviderConfig", "Could not enable FIPS due to invalid FIPSProvider or TrustStoreType."},
+				{"R_readTimedOut", "Read timed out"},
+				{"R_readAheadPacketsPropertyDescription", "The number of response packets that a background reader may read ahead of result set processing. 0 disables read-ahead."},
+				{"R_invalidReadAheadPackets", "The readAheadPackets {0} is not valid."},
+				{"R_statementPoolingCacheSizePropertyDescription", "The maximum number of prepared statement handles cached by a connection when statement pooling is enabled."},
+				{"R_invalidStatementPoolingCacheSize", "The statementPoolingCacheSize {0} is not valid."},
+				{"R_prepareThresholdPropertyDescription", "The number of times a prepared statement is executed with sp_executesql before it is prepared. 0 prepares statements on their first execution."},
+				{"R_invalidPrepareThreshold", "The prepareThreshold {0} is not valid."},
+				{"R_statementBatchChunkSizePropertyDescription", "The maximum number of statements of a Statement batch that are sent to the server in one request. 0 sends the whole batch in one request."},
+				{"R_invalidStatementBatchChunkSize", "The statementBatchChunkSize {0} is not valid."},
+				{"R_nioTransportPropertyDescription", "Determines whether TDS traffic is sent and received through a java.nio SocketChannel with direct buffers, using an SSLEngine for encryption."},
+				{"R_rowPublisherSubscribed", "The rows of the result set have already been subscribed to."},
+				{"R_invalidRowRequest", "The number of requested rows must be positive."},
+				{"R_invalidMaxAsyncExecutionThreads", "The maximum number of asynchronous execution threads {0} is not valid."},
     };
 }
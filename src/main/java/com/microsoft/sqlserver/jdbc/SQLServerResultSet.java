@@ -27,6 +27,9 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.text.MessageFormat;
 import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Locale;
+import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
@@ -169,6 +172,9 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     /** The current row's column values */
     private final Column[] columns;
 
+    /** Index of the column labels, built on the first lookup of a column by label */
+    private ColumnLabelIndex columnLabelIndex;
+
     // The CekTable retrieved from the COLMETADATA token for this resultset.
     private CekTable cekTable = null;
 
@@ -180,6 +186,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     final void setColumnName(int index,
             String name) {
         columns[index - 1].setColumnName(name);
+        columnLabelIndex = null;
     }
 
     /**
@@ -594,6 +601,33 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         loggerExternal.exiting(getClassNameLogging(), "close");
     }
 
+    /**
+     * Returns a publisher of the remaining rows of this result set. The rows are emitted on a driver thread, in turn with the asynchronous
+     * executions of the connection, and the result set is closed when the publisher completes, fails or is cancelled. The result set must not be
+     * used until then.
+     * 
+     * @param <T>
+     *            the type of the objects that rows are converted to
+     * @param mapper
+     *            converts each row to the object that is emitted for it
+     * @return The publisher.
+     * @throws SQLServerException
+     *             If the result set is closed.
+     */
+    public <T> ISQLServerRowPublisher<T> publishRows(ISQLServerRowMapper<T> mapper) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "publishRows");
+        checkClosed();
+        ISQLServerRowPublisher<T> publisher = new SQLServerRowPublisher<T>(stmt, new AsyncStatementExecutor.Task<ResultSet>() {
+            public ResultSet execute() {
+                return SQLServerResultSet.this;
+            }
+        }, mapper);
+        loggerExternal.exiting(getClassNameLogging(), "publishRows", publisher);
+        return publisher;
+    }
+
     /**
      * Find a column index given a column name
      * 
@@ -605,6 +639,15 @@ public class SQLServerResultSet implements ISQLServerResultSet {
      */
     public int findColumn(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "findColumn", columnName);
+        int columnIndex = findColumnInternal(columnName);
+        loggerExternal.exiting(getClassNameLogging(), "findColumn", columnIndex);
+        return columnIndex;
+    }
+
+    /**
+     * Find a column index given a column name, without logging
+     */
+    final int findColumnInternal(String columnName) throws SQLServerException {
         checkClosed();
 
         // In order to be as accurate as possible when locating column name
@@ -625,26 +668,18 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         // database default locale when making comparisons, this would produce
         // inconsistent results on different clients or different servers.
 
-        // Search using case-sensitive, non-locale specific (binary) compare.
-        // If the user supplies a true match for the column name, we will find it here.
-        int i;
-        for (i = 0; i < columns.length; i++) {
-            if (columns[i].getColumnName().equals(columnName)) {
-                loggerExternal.exiting(getClassNameLogging(), "findColumn", i + 1);
-                return i + 1;
-            }
-        }
-
-        // Check for case-insensitive match using a non-locale aware method.
         // Per JDBC spec, 27.3 "The driver will do a case-insensitive search for
         // columnName in it's attempt to map it to the column's index".
-        // Use VM supplied String.equalsIgnoreCase to do the "case-insensitive search".
-        for (i = 0; i < columns.length; i++) {
-            if (columns[i].getColumnName().equalsIgnoreCase(columnName)) {
-                loggerExternal.exiting(getClassNameLogging(), "findColumn", i + 1);
-                return i + 1;
-            }
-        }
+        // ColumnLabelIndex does both searches with hash lookups. The index is built
+        // on first use and shared with the statement's other result sets that have
+        // the same columns.
+        if (null == columnLabelIndex)
+            columnLabelIndex = stmt.getColumnLabelIndex(columns);
+
+        int columnIndex = columnLabelIndex.find(columnName);
+        if (0 != columnIndex)
+            return columnIndex;
+
         MessageFormat form = new MessageFormat(SQLServerException.getErrString("R_invalidColumnName"));
         Object[] msgArgs = {columnName};
         SQLServerException.makeFromDriverError(stmt.connection, stmt, form.format(msgArgs), "07009", false);
@@ -1640,6 +1675,11 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         // We do have a fetch buffer. So discard the current row in the fetch buffer and ...
         discardCurrentRow();
 
+        // A forward only client cursor never goes back to a previous row, so none of
+        // the marks taken while reading that row are needed any more.
+        if (isForwardOnly() && 0 == serverCursorId)
+            tdsReader.discardMarks();
+
         // ... scan for the next row.
         // If we didn't find one, then we're done.
         RowType fetchBufferCurrentRowType = RowType.UNKNOWN;
@@ -1923,6 +1963,90 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         return o;
     }
 
+    /**
+     * Returns the value of a column converted to an integral jdbc type, widened to long, or 0 if it is null. BIT and BOOLEAN values are 1 or 0.
+     * Fixed-length numeric values are decoded from the response without creating objects.
+     */
+    private long getLongValue(int columnIndex,
+            JDBCType jdbcType) throws SQLServerException {
+        Column column = getterGetColumn(columnIndex);
+        if (column.hasPrimitiveValue()) {
+            long value = column.getLong(jdbcType, tdsReader);
+            lastValueWasNull = column.isNull();
+            return value;
+        }
+
+        Object o = column.getValue(jdbcType, null, null, tdsReader);
+        lastValueWasNull = (null == o);
+        if (null == o)
+            return 0;
+        if (o instanceof Boolean)
+            return ((Boolean) o).booleanValue() ? 1 : 0;
+        return ((Number) o).longValue();
+    }
+
+    /**
+     * Returns the value of a column converted to a floating point jdbc type, widened to double, or 0 if it is null. Fixed-length numeric values are
+     * decoded from the response without creating objects.
+     */
+    private double getDoubleValue(int columnIndex,
+            JDBCType jdbcType) throws SQLServerException {
+        Column column = getterGetColumn(columnIndex);
+        if (column.hasPrimitiveValue()) {
+            double value = column.getDouble(jdbcType, tdsReader);
+            lastValueWasNull = column.isNull();
+            return value;
+        }
+
+        Object o = column.getValue(jdbcType, null, null, tdsReader);
+        lastValueWasNull = (null == o);
+        return (null != o) ? ((Number) o).doubleValue() : 0;
+    }
+
+    /**
+     * Reads the date and time parts of the value of a column for conversion to a java.time type, checking that the value converts to a jdbc type.
+     * Temporal values are decoded from the response without a Calendar. Other values, such as encrypted ones, are converted to
+     * java.sql.Timestamp or DateTimeOffset and split into parts again.
+     *
+     * @return false if the value is null
+     */
+    final boolean getTemporalParts(int columnIndex,
+            JDBCType jdbcType,
+            TemporalParts parts) throws SQLServerException {
+        Column column = getterGetColumn(columnIndex);
+        if (column.hasTemporalValue()) {
+            lastValueWasNull = !column.getTemporalParts(jdbcType, tdsReader, parts);
+            return !lastValueWasNull;
+        }
+
+        TypeInfo typeInfo = (null != column.getCryptoMetadata()) ? column.getCryptoMetadata().getBaseTypeInfo() : column.getTypeInfo();
+        java.sql.Timestamp ts;
+        int minutesOffset = 0;
+        boolean isOffset = (SSType.DATETIMEOFFSET == typeInfo.getSSType() || JDBCType.DATETIMEOFFSET == jdbcType);
+        if (isOffset) {
+            microsoft.sql.DateTimeOffset dto = (microsoft.sql.DateTimeOffset) getValue(columnIndex, JDBCType.DATETIMEOFFSET);
+            ts = (null != dto) ? dto.getTimestamp() : null;
+            minutesOffset = (null != dto) ? dto.getMinutesOffset() : 0;
+        }
+        else {
+            if (!typeInfo.getSSType().convertsTo(jdbcType))
+                DataTypes.throwConversionError(typeInfo.getSSType().toString(), jdbcType.toString());
+            ts = (java.sql.Timestamp) getValue(columnIndex, JDBCType.TIMESTAMP);
+        }
+
+        if (null == ts)
+            return false;
+
+        // The fields of java.sql.Timestamp values are those of the server value in the default VM time zone, or in UTC
+        // for DATETIMEOFFSET values.
+        Calendar cal = new GregorianCalendar(isOffset ? UTC.timeZone : TimeZone.getDefault(), Locale.US);
+        cal.setTimeInMillis(ts.getTime());
+        int daysIntoCE = DDC.daysIntoCE(cal.get(Calendar.YEAR), cal.get(Calendar.MONTH) + 1, cal.get(Calendar.DATE));
+        long secondsSinceMidnight = (cal.get(Calendar.HOUR_OF_DAY) * 60 + cal.get(Calendar.MINUTE)) * 60 + cal.get(Calendar.SECOND);
+        parts.set(daysIntoCE, secondsSinceMidnight * Nanos.PER_SECOND + ts.getNanos(), minutesOffset, isOffset);
+        return true;
+    }
+
     private Object getStream(int columnIndex,
             StreamType streamType) throws SQLServerException {
         Object value = getValue(columnIndex, streamType.getJDBCType(),
@@ -1952,7 +2076,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.io.InputStream getAsciiStream(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getAsciiStream", columnName);
         checkClosed();
-        InputStream value = (InputStream) getStream(findColumn(columnName), StreamType.ASCII);
+        InputStream value = (InputStream) getStream(findColumnInternal(columnName), StreamType.ASCII);
         loggerExternal.exiting(getClassNameLogging(), "getAsciiStream", value);
         return value;
     }
@@ -1976,7 +2100,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "columnName", new Object[] {columnName, scale});
         checkClosed();
-        BigDecimal value = (BigDecimal) getValue(findColumn(columnName), JDBCType.DECIMAL);
+        BigDecimal value = (BigDecimal) getValue(findColumnInternal(columnName), JDBCType.DECIMAL);
         if (null != value)
             value = value.setScale(scale, BigDecimal.ROUND_DOWN);
         loggerExternal.exiting(getClassNameLogging(), "getBigDecimal", value);
@@ -1994,41 +2118,49 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.io.InputStream getBinaryStream(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getBinaryStream", columnName);
         checkClosed();
-        InputStream value = (InputStream) getStream(findColumn(columnName), StreamType.BINARY);
+        InputStream value = (InputStream) getStream(findColumnInternal(columnName), StreamType.BINARY);
         loggerExternal.exiting(getClassNameLogging(), "getBinaryStream", value);
         return value;
     }
 
     public boolean getBoolean(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getBoolean", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getBoolean", columnIndex);
         checkClosed();
-        Boolean value = (Boolean) getValue(columnIndex, JDBCType.BIT);
-        loggerExternal.exiting(getClassNameLogging(), "getBoolean", value);
-        return null != value ? value.booleanValue() : false;
+        boolean value = 0 != getLongValue(columnIndex, JDBCType.BIT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getBoolean", value);
+        return value;
     }
 
     public boolean getBoolean(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getBoolean", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getBoolean", columnName);
         checkClosed();
-        Boolean value = (Boolean) getValue(findColumn(columnName), JDBCType.BIT);
-        loggerExternal.exiting(getClassNameLogging(), "getBoolean", value);
-        return null != value ? value.booleanValue() : false;
+        boolean value = 0 != getLongValue(findColumnInternal(columnName), JDBCType.BIT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getBoolean", value);
+        return value;
     }
 
     public byte getByte(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getByte", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getByte", columnIndex);
         checkClosed();
-        Short value = (Short) getValue(columnIndex, JDBCType.TINYINT);
-        loggerExternal.exiting(getClassNameLogging(), "getByte", value);
-        return null != value ? value.byteValue() : 0;
+        byte value = (byte) getLongValue(columnIndex, JDBCType.TINYINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getByte", value);
+        return value;
     }
 
     public byte getByte(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getByte", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getByte", columnName);
         checkClosed();
-        Short value = (Short) getValue(findColumn(columnName), JDBCType.TINYINT);
-        loggerExternal.exiting(getClassNameLogging(), "getByte", value);
-        return null != value ? value.byteValue() : 0;
+        byte value = (byte) getLongValue(findColumnInternal(columnName), JDBCType.TINYINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getByte", value);
+        return value;
     }
 
     public byte[] getBytes(int columnIndex) throws SQLServerException {
@@ -2042,7 +2174,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public byte[] getBytes(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getBytes", columnName);
         checkClosed();
-        byte[] value = (byte[]) getValue(findColumn(columnName), JDBCType.BINARY);
+        byte[] value = (byte[]) getValue(findColumnInternal(columnName), JDBCType.BINARY);
         loggerExternal.exiting(getClassNameLogging(), "getBytes", value);
         return value;
     }
@@ -2058,7 +2190,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.sql.Date getDate(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getDate", columnName);
         checkClosed();
-        java.sql.Date value = (java.sql.Date) getValue(findColumn(columnName), JDBCType.DATE);
+        java.sql.Date value = (java.sql.Date) getValue(findColumnInternal(columnName), JDBCType.DATE);
         loggerExternal.exiting(getClassNameLogging(), "getDate", value);
         return value;
     }
@@ -2078,73 +2210,89 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "getDate", new Object[] {colName, cal});
         checkClosed();
-        java.sql.Date value = (java.sql.Date) getValue(findColumn(colName), JDBCType.DATE, cal);
+        java.sql.Date value = (java.sql.Date) getValue(findColumnInternal(colName), JDBCType.DATE, cal);
         loggerExternal.exiting(getClassNameLogging(), "getDate", value);
         return value;
     }
 
     public double getDouble(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getDouble", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getDouble", columnIndex);
         checkClosed();
-        Double value = (Double) getValue(columnIndex, JDBCType.DOUBLE);
-        loggerExternal.exiting(getClassNameLogging(), "getDouble", value);
-        return null != value ? value.doubleValue() : 0;
+        double value = getDoubleValue(columnIndex, JDBCType.DOUBLE);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getDouble", value);
+        return value;
     }
 
     public double getDouble(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getDouble", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getDouble", columnName);
         checkClosed();
-        Double value = (Double) getValue(findColumn(columnName), JDBCType.DOUBLE);
-        loggerExternal.exiting(getClassNameLogging(), "getDouble", value);
-        return null != value ? value.doubleValue() : 0;
+        double value = getDoubleValue(findColumnInternal(columnName), JDBCType.DOUBLE);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getDouble", value);
+        return value;
     }
 
     public float getFloat(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getFloat", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getFloat", columnIndex);
         checkClosed();
-        Float value = (Float) getValue(columnIndex, JDBCType.REAL);
-        loggerExternal.exiting(getClassNameLogging(), "getFloat", value);
-        return null != value ? value.floatValue() : 0;
+        float value = (float) getDoubleValue(columnIndex, JDBCType.REAL);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getFloat", value);
+        return value;
     }
 
     public float getFloat(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getFloat", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getFloat", columnName);
         checkClosed();
-        Float value = (Float) getValue(findColumn(columnName), JDBCType.REAL);
-        loggerExternal.exiting(getClassNameLogging(), "getFloat", value);
-        return null != value ? value.floatValue() : 0;
+        float value = (float) getDoubleValue(findColumnInternal(columnName), JDBCType.REAL);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getFloat", value);
+        return value;
     }
 
     public int getInt(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getInt", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getInt", columnIndex);
         checkClosed();
-        Integer value = (Integer) getValue(columnIndex, JDBCType.INTEGER);
-        loggerExternal.exiting(getClassNameLogging(), "getInt", value);
-        return null != value ? value.intValue() : 0;
+        int value = (int) getLongValue(columnIndex, JDBCType.INTEGER);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getInt", value);
+        return value;
     }
 
     public int getInt(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getInt", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getInt", columnName);
         checkClosed();
-        Integer value = (Integer) getValue(findColumn(columnName), JDBCType.INTEGER);
-        loggerExternal.exiting(getClassNameLogging(), "getInt", value);
-        return null != value ? value.intValue() : 0;
+        int value = (int) getLongValue(findColumnInternal(columnName), JDBCType.INTEGER);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getInt", value);
+        return value;
     }
 
     public long getLong(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getLong", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getLong", columnIndex);
         checkClosed();
-        Long value = (Long) getValue(columnIndex, JDBCType.BIGINT);
-        loggerExternal.exiting(getClassNameLogging(), "getLong", value);
-        return null != value ? value.longValue() : 0;
+        long value = getLongValue(columnIndex, JDBCType.BIGINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getLong", value);
+        return value;
     }
 
     public long getLong(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getLong", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getLong", columnName);
         checkClosed();
-        Long value = (Long) getValue(findColumn(columnName), JDBCType.BIGINT);
-        loggerExternal.exiting(getClassNameLogging(), "getLong", value);
-        return null != value ? value.longValue() : 0;
+        long value = getLongValue(findColumnInternal(columnName), JDBCType.BIGINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getLong", value);
+        return value;
     }
 
     public java.sql.ResultSetMetaData getMetaData() throws SQLServerException {
@@ -2175,7 +2323,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public Object getObject(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getObject", columnName);
         checkClosed();
-        Object value = getObject(findColumn(columnName));
+        Object value = getObject(findColumnInternal(columnName));
         loggerExternal.exiting(getClassNameLogging(), "getObject", value);
         return value;
     }
@@ -2189,19 +2337,23 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     }
 
     public short getShort(int columnIndex) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getShort", columnIndex);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getShort", columnIndex);
         checkClosed();
-        Short value = (Short) getValue(columnIndex, JDBCType.SMALLINT);
-        loggerExternal.exiting(getClassNameLogging(), "getShort", value);
-        return null != value ? value.shortValue() : 0;
+        short value = (short) getLongValue(columnIndex, JDBCType.SMALLINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getShort", value);
+        return value;
     }
 
     public short getShort(String columnName) throws SQLServerException {
-        loggerExternal.entering(getClassNameLogging(), "getShort", columnName);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getShort", columnName);
         checkClosed();
-        Short value = (Short) getValue(findColumn(columnName), JDBCType.SMALLINT);
-        loggerExternal.exiting(getClassNameLogging(), "getShort", value);
-        return null != value ? value.shortValue() : 0;
+        short value = (short) getLongValue(findColumnInternal(columnName), JDBCType.SMALLINT);
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.exiting(getClassNameLogging(), "getShort", value);
+        return value;
     }
 
     public String getString(int columnIndex) throws SQLServerException {
@@ -2222,7 +2374,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         checkClosed();
 
         String value = null;
-        Object objectValue = getValue(findColumn(columnName), JDBCType.CHAR);
+        Object objectValue = getValue(findColumnInternal(columnName), JDBCType.CHAR);
         if (null != objectValue) {
             value = objectValue.toString();
         }
@@ -2243,7 +2395,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         loggerExternal.entering(getClassNameLogging(), "getNString", columnLabel);
         DriverJDBCVersion.checkSupportsJDBC4();
         checkClosed();
-        String value = (String) getValue(findColumn(columnLabel), JDBCType.NCHAR);
+        String value = (String) getValue(findColumnInternal(columnLabel), JDBCType.NCHAR);
         loggerExternal.exiting(getClassNameLogging(), "getNString", value);
         return value;
     }
@@ -2279,7 +2431,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public String getUniqueIdentifier(String columnLabel) throws SQLException {
         loggerExternal.entering(getClassNameLogging(), "getUniqueIdentifier", columnLabel);
         checkClosed();
-        String value = (String) getValue(findColumn(columnLabel), JDBCType.GUID);
+        String value = (String) getValue(findColumnInternal(columnLabel), JDBCType.GUID);
         loggerExternal.exiting(getClassNameLogging(), "getUniqueIdentifier", value);
         return value;
     }
@@ -2295,7 +2447,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.sql.Time getTime(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getTime", columnName);
         checkClosed();
-        java.sql.Time value = (java.sql.Time) getValue(findColumn(columnName), JDBCType.TIME);
+        java.sql.Time value = (java.sql.Time) getValue(findColumnInternal(columnName), JDBCType.TIME);
         loggerExternal.exiting(getClassNameLogging(), "getTime", value);
         return value;
     }
@@ -2315,7 +2467,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "getTime", new Object[] {colName, cal});
         checkClosed();
-        java.sql.Time value = (java.sql.Time) getValue(findColumn(colName), JDBCType.TIME, cal);
+        java.sql.Time value = (java.sql.Time) getValue(findColumnInternal(colName), JDBCType.TIME, cal);
         loggerExternal.exiting(getClassNameLogging(), "getTime", value);
         return value;
     }
@@ -2331,7 +2483,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.sql.Timestamp getTimestamp(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getTimestamp", columnName);
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(columnName), JDBCType.TIMESTAMP);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(columnName), JDBCType.TIMESTAMP);
         loggerExternal.exiting(getClassNameLogging(), "getTimestamp", value);
         return value;
     }
@@ -2351,7 +2503,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "getTimestamp", new Object[] {colName, cal});
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(colName), JDBCType.TIMESTAMP, cal);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(colName), JDBCType.TIMESTAMP, cal);
         loggerExternal.exiting(getClassNameLogging(), "getTimestamp", value);
         return value;
     }
@@ -2387,7 +2539,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.sql.Timestamp getDateTime(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getDateTime", columnName);
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(columnName), JDBCType.TIMESTAMP);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(columnName), JDBCType.TIMESTAMP);
         loggerExternal.exiting(getClassNameLogging(), "getDateTime", value);
         return value;
     }
@@ -2434,7 +2586,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "getDateTime", new Object[] {colName, cal});
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(colName), JDBCType.TIMESTAMP, cal);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(colName), JDBCType.TIMESTAMP, cal);
         loggerExternal.exiting(getClassNameLogging(), "getDateTime", value);
         return value;
     }
@@ -2470,7 +2622,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.sql.Timestamp getSmallDateTime(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getSmallDateTime", columnName);
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(columnName), JDBCType.TIMESTAMP);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(columnName), JDBCType.TIMESTAMP);
         loggerExternal.exiting(getClassNameLogging(), "getSmallDateTime", value);
         return value;
     }
@@ -2512,7 +2664,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "getSmallDateTime", new Object[] {colName, cal});
         checkClosed();
-        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumn(colName), JDBCType.TIMESTAMP, cal);
+        java.sql.Timestamp value = (java.sql.Timestamp) getValue(findColumnInternal(colName), JDBCType.TIMESTAMP, cal);
         loggerExternal.exiting(getClassNameLogging(), "getSmallDateTime", value);
         return value;
     }
@@ -2540,7 +2692,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             throw new SQLServerException(SQLServerException.getErrString("R_notSupported"), SQLState.DATA_EXCEPTION_NOT_SPECIFIC, DriverError.NOT_SET,
                     null);
 
-        microsoft.sql.DateTimeOffset value = (microsoft.sql.DateTimeOffset) getValue(findColumn(columnName), JDBCType.DATETIMEOFFSET);
+        microsoft.sql.DateTimeOffset value = (microsoft.sql.DateTimeOffset) getValue(findColumnInternal(columnName), JDBCType.DATETIMEOFFSET);
         loggerExternal.exiting(getClassNameLogging(), "getDateTimeOffset", value);
         return value;
     }
@@ -2584,7 +2736,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public Blob getBlob(String colName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getBlob", colName);
         checkClosed();
-        Blob value = (Blob) getValue(findColumn(colName), JDBCType.BLOB);
+        Blob value = (Blob) getValue(findColumnInternal(colName), JDBCType.BLOB);
         loggerExternal.exiting(getClassNameLogging(), "getBlob", value);
         return value;
     }
@@ -2600,7 +2752,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public Clob getClob(String colName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getClob", colName);
         checkClosed();
-        Clob value = (Clob) getValue(findColumn(colName), JDBCType.CLOB);
+        Clob value = (Clob) getValue(findColumnInternal(colName), JDBCType.CLOB);
         loggerExternal.exiting(getClassNameLogging(), "getClob", value);
         return value;
     }
@@ -2618,7 +2770,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         DriverJDBCVersion.checkSupportsJDBC4();
         loggerExternal.entering(getClassNameLogging(), "getNClob", columnLabel);
         checkClosed();
-        NClob value = (NClob) getValue(findColumn(columnLabel), JDBCType.NCLOB);
+        NClob value = (NClob) getValue(findColumnInternal(columnLabel), JDBCType.NCLOB);
         loggerExternal.exiting(getClassNameLogging(), "getNClob", value);
         return value;
     }
@@ -2662,7 +2814,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public java.io.Reader getCharacterStream(String columnName) throws SQLServerException {
         checkClosed();
         loggerExternal.entering(getClassNameLogging(), "getCharacterStream", columnName);
-        Reader value = (Reader) getStream(findColumn(columnName), StreamType.CHARACTER);
+        Reader value = (Reader) getStream(findColumnInternal(columnName), StreamType.CHARACTER);
         loggerExternal.exiting(getClassNameLogging(), "getCharacterStream", value);
         return value;
     }
@@ -2680,7 +2832,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         DriverJDBCVersion.checkSupportsJDBC4();
         loggerExternal.entering(getClassNameLogging(), "getNCharacterStream", columnLabel);
         checkClosed();
-        Reader value = (Reader) getStream(findColumn(columnLabel), StreamType.NCHARACTER);
+        Reader value = (Reader) getStream(findColumnInternal(columnLabel), StreamType.NCHARACTER);
         loggerExternal.exiting(getClassNameLogging(), "getNCharacterStream", value);
         return value;
     }
@@ -2696,7 +2848,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public BigDecimal getBigDecimal(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getBigDecimal", columnName);
         checkClosed();
-        BigDecimal value = (BigDecimal) getValue(findColumn(columnName), JDBCType.DECIMAL);
+        BigDecimal value = (BigDecimal) getValue(findColumnInternal(columnName), JDBCType.DECIMAL);
         loggerExternal.exiting(getClassNameLogging(), "getBigDecimal", value);
         return value;
     }
@@ -2730,7 +2882,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public BigDecimal getMoney(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getMoney", columnName);
         checkClosed();
-        BigDecimal value = (BigDecimal) getValue(findColumn(columnName), JDBCType.DECIMAL);
+        BigDecimal value = (BigDecimal) getValue(findColumnInternal(columnName), JDBCType.DECIMAL);
         loggerExternal.exiting(getClassNameLogging(), "getMoney", value);
         return value;
     }
@@ -2764,7 +2916,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public BigDecimal getSmallMoney(String columnName) throws SQLServerException {
         loggerExternal.entering(getClassNameLogging(), "getSmallMoney", columnName);
         checkClosed();
-        BigDecimal value = (BigDecimal) getValue(findColumn(columnName), JDBCType.DECIMAL);
+        BigDecimal value = (BigDecimal) getValue(findColumnInternal(columnName), JDBCType.DECIMAL);
         loggerExternal.exiting(getClassNameLogging(), "getSmallMoney", value);
         return value;
     }
@@ -2794,7 +2946,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
     public SQLXML getSQLXML(String columnLabel) throws SQLException {
         DriverJDBCVersion.checkSupportsJDBC4();
         loggerExternal.entering(getClassNameLogging(), "getSQLXML", columnLabel);
-        SQLXML xml = getSQLXMLInternal(findColumn(columnLabel));
+        SQLXML xml = getSQLXMLInternal(findColumnInternal(columnLabel));
         loggerExternal.exiting(getClassNameLogging(), "getSQLXML", xml);
         return xml;
     }
@@ -3289,7 +3441,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "updateMoney", new Object[] {columnName, x});
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.MONEY, x, JavaType.BIGDECIMAL, false);
+        updateValue(findColumnInternal(columnName), JDBCType.MONEY, x, JavaType.BIGDECIMAL, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateMoney");
     }
@@ -3316,7 +3468,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "updateMoney", new Object[] {columnName, x, forceEncrypt});
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.MONEY, x, JavaType.BIGDECIMAL, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.MONEY, x, JavaType.BIGDECIMAL, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateMoney");
     }
@@ -3387,7 +3539,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "updateSmallMoney", new Object[] {columnName, x});
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLMONEY, x, JavaType.BIGDECIMAL, false);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLMONEY, x, JavaType.BIGDECIMAL, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateSmallMoney");
     }
@@ -3414,7 +3566,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "updateSmallMoney", new Object[] {columnName, x, forceEncrypt});
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLMONEY, x, JavaType.BIGDECIMAL, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLMONEY, x, JavaType.BIGDECIMAL, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateSmallMoney");
     }
@@ -3581,7 +3733,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
 
         DriverJDBCVersion.checkSupportsJDBC4();
         checkClosed();
-        updateValue(findColumn(columnLabel), JDBCType.NVARCHAR, nString, JavaType.STRING, false);
+        updateValue(findColumnInternal(columnLabel), JDBCType.NVARCHAR, nString, JavaType.STRING, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNString");
     }
@@ -3612,7 +3764,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
 
         DriverJDBCVersion.checkSupportsJDBC4();
         checkClosed();
-        updateValue(findColumn(columnLabel), JDBCType.NVARCHAR, nString, JavaType.STRING, forceEncrypt);
+        updateValue(findColumnInternal(columnLabel), JDBCType.NVARCHAR, nString, JavaType.STRING, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNString");
     }
@@ -4149,7 +4301,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateAsciiStream", new Object[] {columnLabel, x});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.ASCII, x, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.ASCII, x, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateAsciiStream");
     }
@@ -4161,7 +4313,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateAsciiStream", new Object[] {columnName, x, length});
 
         checkClosed();
-        updateStream(findColumn(columnName), StreamType.ASCII, x, JavaType.INPUTSTREAM, length);
+        updateStream(findColumnInternal(columnName), StreamType.ASCII, x, JavaType.INPUTSTREAM, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateAsciiStream");
     }
@@ -4174,7 +4326,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateAsciiStream", new Object[] {columnName, streamValue, length});
 
         checkClosed();
-        updateStream(findColumn(columnName), StreamType.ASCII, streamValue, JavaType.INPUTSTREAM, length);
+        updateStream(findColumnInternal(columnName), StreamType.ASCII, streamValue, JavaType.INPUTSTREAM, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateAsciiStream");
     }
@@ -4223,7 +4375,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBinaryStream", new Object[] {columnLabel, x});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.BINARY, x, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.BINARY, x, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBinaryStream");
     }
@@ -4235,7 +4387,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBinaryStream", new Object[] {columnName, streamValue, length});
 
         checkClosed();
-        updateStream(findColumn(columnName), StreamType.BINARY, streamValue, JavaType.INPUTSTREAM, length);
+        updateStream(findColumnInternal(columnName), StreamType.BINARY, streamValue, JavaType.INPUTSTREAM, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBinaryStream");
     }
@@ -4248,7 +4400,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBinaryStream", new Object[] {columnLabel, x, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.BINARY, x, JavaType.INPUTSTREAM, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.BINARY, x, JavaType.INPUTSTREAM, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBinaryStream");
     }
@@ -4297,7 +4449,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateCharacterStream", new Object[] {columnLabel, reader});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateCharacterStream");
     }
@@ -4309,7 +4461,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateCharacterStream", new Object[] {columnName, readerValue, length});
 
         checkClosed();
-        updateStream(findColumn(columnName), StreamType.CHARACTER, readerValue, JavaType.READER, length);
+        updateStream(findColumnInternal(columnName), StreamType.CHARACTER, readerValue, JavaType.READER, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateCharacterStream");
     }
@@ -4322,7 +4474,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateCharacterStream", new Object[] {columnLabel, reader, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNCharacterStream");
     }
@@ -4359,7 +4511,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateNCharacterStream", new Object[] {columnLabel, reader});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNCharacterStream");
     }
@@ -4372,7 +4524,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateNCharacterStream", new Object[] {columnLabel, reader, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNCharacterStream");
     }
@@ -4526,7 +4678,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         loggerExternal.entering(getClassNameLogging(), "updateNull", columnName);
 
         checkClosed();
-        int columnIndex = findColumn(columnName);
+        int columnIndex = findColumnInternal(columnName);
         updateValue(columnIndex, updaterGetColumn(columnIndex).getTypeInfo().getSSType().getJDBCType(), null, JavaType.OBJECT, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNull");
@@ -4538,7 +4690,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBoolean", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BIT, Boolean.valueOf(x), JavaType.BOOLEAN, false);
+        updateValue(findColumnInternal(columnName), JDBCType.BIT, Boolean.valueOf(x), JavaType.BOOLEAN, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBoolean");
     }
@@ -4566,7 +4718,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBoolean", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BIT, Boolean.valueOf(x), JavaType.BOOLEAN, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.BIT, Boolean.valueOf(x), JavaType.BOOLEAN, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBoolean");
     }
@@ -4577,7 +4729,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateByte", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BINARY, x, JavaType.BYTE, false);
+        updateValue(findColumnInternal(columnName), JDBCType.BINARY, x, JavaType.BYTE, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateByte");
     }
@@ -4606,7 +4758,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateByte", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BINARY, x, JavaType.BYTE, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.BINARY, x, JavaType.BYTE, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateByte");
     }
@@ -4617,7 +4769,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateShort", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLINT, Short.valueOf(x), JavaType.SHORT, false);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLINT, Short.valueOf(x), JavaType.SHORT, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateShort");
     }
@@ -4645,7 +4797,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateShort", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLINT, Short.valueOf(x), JavaType.SHORT, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLINT, Short.valueOf(x), JavaType.SHORT, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateShort");
     }
@@ -4656,7 +4808,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateInt", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.INTEGER, Integer.valueOf(x), JavaType.INTEGER, false);
+        updateValue(findColumnInternal(columnName), JDBCType.INTEGER, Integer.valueOf(x), JavaType.INTEGER, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateInt");
     }
@@ -4684,7 +4836,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateInt", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.INTEGER, Integer.valueOf(x), JavaType.INTEGER, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.INTEGER, Integer.valueOf(x), JavaType.INTEGER, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateInt");
     }
@@ -4695,7 +4847,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateLong", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BIGINT, Long.valueOf(x), JavaType.LONG, false);
+        updateValue(findColumnInternal(columnName), JDBCType.BIGINT, Long.valueOf(x), JavaType.LONG, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateLong");
     }
@@ -4723,7 +4875,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateLong", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BIGINT, Long.valueOf(x), JavaType.LONG, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.BIGINT, Long.valueOf(x), JavaType.LONG, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateLong");
     }
@@ -4734,7 +4886,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateFloat", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.REAL, Float.valueOf(x), JavaType.FLOAT, false);
+        updateValue(findColumnInternal(columnName), JDBCType.REAL, Float.valueOf(x), JavaType.FLOAT, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateFloat");
     }
@@ -4762,7 +4914,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateFloat", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.REAL, Float.valueOf(x), JavaType.FLOAT, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.REAL, Float.valueOf(x), JavaType.FLOAT, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateFloat");
     }
@@ -4773,7 +4925,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDouble", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DOUBLE, Double.valueOf(x), JavaType.DOUBLE, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DOUBLE, Double.valueOf(x), JavaType.DOUBLE, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDouble");
     }
@@ -4801,7 +4953,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDouble", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DOUBLE, Double.valueOf(x), JavaType.DOUBLE, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DOUBLE, Double.valueOf(x), JavaType.DOUBLE, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDouble");
     }
@@ -4812,7 +4964,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBigDecimal", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBigDecimal");
     }
@@ -4840,7 +4992,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBigDecimal", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBigDecimal");
     }
@@ -4870,7 +5022,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBigDecimal", new Object[] {columnName, x, precision, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, precision, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, precision, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBigDecimal");
     }
@@ -4905,7 +5057,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBigDecimal", new Object[] {columnName, x, precision, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, precision, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DECIMAL, x, JavaType.BIGDECIMAL, precision, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBigDecimal");
     }
@@ -4916,7 +5068,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateString", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.VARCHAR, x, JavaType.STRING, false);
+        updateValue(findColumnInternal(columnName), JDBCType.VARCHAR, x, JavaType.STRING, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateString");
     }
@@ -4944,7 +5096,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateString", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.VARCHAR, x, JavaType.STRING, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.VARCHAR, x, JavaType.STRING, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateString");
     }
@@ -4955,7 +5107,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBytes", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BINARY, x, JavaType.BYTEARRAY, false);
+        updateValue(findColumnInternal(columnName), JDBCType.BINARY, x, JavaType.BYTEARRAY, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBytes");
     }
@@ -4984,7 +5136,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBytes", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BINARY, x, JavaType.BYTEARRAY, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.BINARY, x, JavaType.BYTEARRAY, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBytes");
     }
@@ -4995,7 +5147,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDate", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATE, x, JavaType.DATE, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DATE, x, JavaType.DATE, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDate");
     }
@@ -5023,7 +5175,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDate", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATE, x, JavaType.DATE, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DATE, x, JavaType.DATE, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDate");
     }
@@ -5034,7 +5186,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTime", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIME, x, JavaType.TIME, false);
+        updateValue(findColumnInternal(columnName), JDBCType.TIME, x, JavaType.TIME, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTime");
     }
@@ -5060,7 +5212,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTime", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIME, x, JavaType.TIME, null, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.TIME, x, JavaType.TIME, null, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTime");
     }
@@ -5091,7 +5243,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTime", new Object[] {columnName, x, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIME, x, JavaType.TIME, null, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.TIME, x, JavaType.TIME, null, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTime");
     }
@@ -5102,7 +5254,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTimestamp", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, false);
+        updateValue(findColumnInternal(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTimestamp");
     }
@@ -5128,7 +5280,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTimestamp", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, null, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, null, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTimestamp");
     }
@@ -5159,7 +5311,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateTimestamp", new Object[] {columnName, x, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.TIMESTAMP, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateTimestamp");
     }
@@ -5182,7 +5334,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTime", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTime");
     }
@@ -5208,7 +5360,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTime", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, null, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, null, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTime");
     }
@@ -5239,7 +5391,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTime", new Object[] {columnName, x, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIME, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTime");
     }
@@ -5262,7 +5414,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateSmallDateTime", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, false);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateSmallDateTime");
     }
@@ -5288,7 +5440,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateSmallDateTime", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, null, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, null, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateSmallDateTime");
     }
@@ -5319,7 +5471,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateSmallDateTime", new Object[] {columnName, x, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.SMALLDATETIME, x, JavaType.TIMESTAMP, null, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateSmallDateTime");
     }
@@ -5330,7 +5482,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTimeOffset", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTimeOffset");
     }
@@ -5354,7 +5506,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTimeOffset", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, null, scale, false);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, null, scale, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTimeOffset");
     }
@@ -5383,7 +5535,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateDateTimeOffset", new Object[] {columnName, x, scale, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, null, scale, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.DATETIMEOFFSET, x, JavaType.DATETIMEOFFSET, null, scale, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateDateTimeOffset");
     }
@@ -5406,7 +5558,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateUniqueIdentifier", new Object[] {columnName, x});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.GUID, x, JavaType.STRING, null, false);
+        updateValue(findColumnInternal(columnName), JDBCType.GUID, x, JavaType.STRING, null, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateUniqueIdentifier");
     }
@@ -5434,7 +5586,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateUniqueIdentifier", new Object[] {columnName, x, forceEncrypt});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.GUID, x, JavaType.STRING, null, forceEncrypt);
+        updateValue(findColumnInternal(columnName), JDBCType.GUID, x, JavaType.STRING, null, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateUniqueIdentifier");
     }
@@ -5446,7 +5598,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateObject", new Object[] {columnName, x, scale});
 
         checkClosed();
-        updateObject(findColumn(columnName), x, Integer.valueOf(scale), null, null, false);
+        updateObject(findColumnInternal(columnName), x, Integer.valueOf(scale), null, null, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -5476,7 +5628,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateObject", new Object[] {columnName, x, precision, scale});
 
         checkClosed();
-        updateObject(findColumn(columnName), x, Integer.valueOf(scale), null, precision, false);
+        updateObject(findColumnInternal(columnName), x, Integer.valueOf(scale), null, precision, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -5511,7 +5663,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateObject", new Object[] {columnName, x, precision, scale, forceEncrypt});
 
         checkClosed();
-        updateObject(findColumn(columnName), x, Integer.valueOf(scale), null, precision, forceEncrypt);
+        updateObject(findColumnInternal(columnName), x, Integer.valueOf(scale), null, precision, forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -5522,7 +5674,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateObject", new Object[] {columnName, x});
 
         checkClosed();
-        updateObject(findColumn(columnName), x, null, null, null, false);
+        updateObject(findColumnInternal(columnName), x, null, null, null, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -5557,7 +5709,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
         if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
             loggerExternal.entering(getClassNameLogging(), "updateSQLXML", new Object[] {columnLabel, x});
         DriverJDBCVersion.checkSupportsJDBC4();
-        updateSQLXMLInternal(findColumn(columnLabel), x);
+        updateSQLXMLInternal(findColumnInternal(columnLabel), x);
         loggerExternal.exiting(getClassNameLogging(), "updateSQLXML");
     }
 
@@ -6005,7 +6157,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateClob", new Object[] {columnName, clobValue});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.CLOB, clobValue, JavaType.CLOB, false);
+        updateValue(findColumnInternal(columnName), JDBCType.CLOB, clobValue, JavaType.CLOB, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateClob");
     }
@@ -6017,7 +6169,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateClob", new Object[] {columnLabel, reader});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateClob");
     }
@@ -6030,7 +6182,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateClob", new Object[] {columnLabel, reader, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.CHARACTER, reader, JavaType.READER, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateClob");
     }
@@ -6079,7 +6231,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateNClob", new Object[] {columnLabel, nClob});
 
         checkClosed();
-        updateValue(findColumn(columnLabel), JDBCType.NCLOB, nClob, JavaType.NCLOB, false);
+        updateValue(findColumnInternal(columnLabel), JDBCType.NCLOB, nClob, JavaType.NCLOB, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNClob");
     }
@@ -6091,7 +6243,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateNClob", new Object[] {columnLabel, reader});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNClob");
     }
@@ -6104,7 +6256,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateNClob", new Object[] {columnLabel, reader, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.NCHARACTER, reader, JavaType.READER, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateNClob");
     }
@@ -6151,7 +6303,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBlob", new Object[] {columnName, blobValue});
 
         checkClosed();
-        updateValue(findColumn(columnName), JDBCType.BLOB, blobValue, JavaType.BLOB, false);
+        updateValue(findColumnInternal(columnName), JDBCType.BLOB, blobValue, JavaType.BLOB, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBlob");
     }
@@ -6163,7 +6315,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBlob", new Object[] {columnLabel, inputStream});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.BINARY, inputStream, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
+        updateStream(findColumnInternal(columnLabel), StreamType.BINARY, inputStream, JavaType.INPUTSTREAM, DataTypes.UNKNOWN_STREAM_LENGTH);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBlob");
     }
@@ -6176,7 +6328,7 @@ public class SQLServerResultSet implements ISQLServerResultSet {
             loggerExternal.entering(getClassNameLogging(), "updateBlob", new Object[] {columnLabel, inputStream, length});
 
         checkClosed();
-        updateStream(findColumn(columnLabel), StreamType.BINARY, inputStream, JavaType.INPUTSTREAM, length);
+        updateStream(findColumnInternal(columnLabel), StreamType.BINARY, inputStream, JavaType.INPUTSTREAM, length);
 
         loggerExternal.exiting(getClassNameLogging(), "updateBlob");
     }
@@ -8,7 +8,15 @@
 
 package com.microsoft.sqlserver.jdbc;
 
+import java.sql.SQLException;
 import java.sql.SQLType;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 
 /**
  * 
@@ -19,6 +27,9 @@ import java.sql.SQLType;
  */
 public class SQLServerResultSet42 extends SQLServerResultSet implements ISQLServerResultSet42 {
 
+    // Reused for the values converted to java.time types
+    private TemporalParts temporalParts;
+
     /**
      * Makes a new result set
      * 
@@ -91,7 +102,7 @@ public class SQLServerResultSet42 extends SQLServerResultSet implements ISQLServ
         checkClosed();
 
         // getVendorTypeNumber() returns the same constant integer values as in java.sql.Types
-        updateObject(findColumn(columnName), obj, Integer.valueOf(scale), JDBCType.of(targetSqlType.getVendorTypeNumber()), null, false);
+        updateObject(findColumnInternal(columnName), obj, Integer.valueOf(scale), JDBCType.of(targetSqlType.getVendorTypeNumber()), null, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -109,7 +120,8 @@ public class SQLServerResultSet42 extends SQLServerResultSet implements ISQLServ
         checkClosed();
 
         // getVendorTypeNumber() returns the same constant integer values as in java.sql.Types
-        updateObject(findColumn(columnName), obj, Integer.valueOf(scale), JDBCType.of(targetSqlType.getVendorTypeNumber()), null, forceEncrypt);
+        updateObject(findColumnInternal(columnName), obj, Integer.valueOf(scale), JDBCType.of(targetSqlType.getVendorTypeNumber()), null,
+                forceEncrypt);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
@@ -125,9 +137,95 @@ public class SQLServerResultSet42 extends SQLServerResultSet implements ISQLServ
         checkClosed();
 
         // getVendorTypeNumber() returns the same constant integer values as in java.sql.Types
-        updateObject(findColumn(columnName), obj, null, JDBCType.of(targetSqlType.getVendorTypeNumber()), null, false);
+        updateObject(findColumnInternal(columnName), obj, null, JDBCType.of(targetSqlType.getVendorTypeNumber()), null, false);
 
         loggerExternal.exiting(getClassNameLogging(), "updateObject");
     }
 
+    /**
+     * Returns the value of a column as a LocalDateTime, LocalDate, LocalTime, OffsetDateTime or Instant, computed from the date and time parts of the
+     * value without a Calendar. Other types are not supported.
+     *
+     * DATETIMEOFFSET values are converted to local types in their own offset. Other values have no time zone; they are converted to Instant in the
+     * default VM time zone, as they are to java.sql.Timestamp.
+     */
+    public <T> T getObject(int columnIndex,
+            Class<T> type) throws SQLException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        if (!isTemporalClass(type))
+            return super.getObject(columnIndex, type);
+
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getObject", new Object[] {columnIndex, type});
+        checkClosed();
+        T value = type.cast(getTemporalObject(columnIndex, type));
+        loggerExternal.exiting(getClassNameLogging(), "getObject", value);
+        return value;
+    }
+
+    public <T> T getObject(String columnName,
+            Class<T> type) throws SQLException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        if (!isTemporalClass(type))
+            return super.getObject(columnName, type);
+
+        if (loggerExternal.isLoggable(java.util.logging.Level.FINER))
+            loggerExternal.entering(getClassNameLogging(), "getObject", new Object[] {columnName, type});
+        checkClosed();
+        T value = type.cast(getTemporalObject(findColumnInternal(columnName), type));
+        loggerExternal.exiting(getClassNameLogging(), "getObject", value);
+        return value;
+    }
+
+    private static boolean isTemporalClass(Class<?> type) {
+        return LocalDateTime.class == type || LocalDate.class == type || LocalTime.class == type || OffsetDateTime.class == type
+                || Instant.class == type;
+    }
+
+    private Object getTemporalObject(int columnIndex,
+            Class<?> type) throws SQLServerException {
+        JDBCType jdbcType;
+        if (LocalDate.class == type)
+            jdbcType = JDBCType.DATE;
+        else if (LocalTime.class == type)
+            jdbcType = JDBCType.TIME;
+        else if (OffsetDateTime.class == type)
+            jdbcType = JDBCType.DATETIMEOFFSET;
+        else
+            jdbcType = JDBCType.TIMESTAMP;
+
+        if (null == temporalParts)
+            temporalParts = new TemporalParts();
+        if (!getTemporalParts(columnIndex, jdbcType, temporalParts))
+            return null;
+
+        LocalDate date = LocalDate.ofEpochDay(temporalParts.daysIntoCE - TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970);
+        LocalTime time = LocalTime.ofNanoOfDay(temporalParts.nanosSinceMidnight);
+
+        if (temporalParts.isOffset) {
+            LocalDateTime utcDateTime = LocalDateTime.of(date, time);
+            if (Instant.class == type)
+                return utcDateTime.toInstant(ZoneOffset.UTC);
+
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(temporalParts.minutesOffset * 60);
+            LocalDateTime localDateTime = utcDateTime.plusSeconds(offset.getTotalSeconds());
+            if (OffsetDateTime.class == type)
+                return OffsetDateTime.of(localDateTime, offset);
+            if (LocalDate.class == type)
+                return localDateTime.toLocalDate();
+            if (LocalTime.class == type)
+                return localDateTime.toLocalTime();
+            return localDateTime;
+        }
+
+        if (LocalDate.class == type)
+            return date;
+        if (LocalTime.class == type)
+            return time;
+        if (Instant.class == type)
+            return LocalDateTime.of(date, time).atZone(ZoneId.systemDefault()).toInstant();
+        return LocalDateTime.of(date, time);
+    }
 }
@@ -0,0 +1,229 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.sql.ResultSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Emits the rows of a result set on demand.
+ *
+ * Rows are emitted by tasks queued on the asynchronous executor of the statement's connection, so they are read from the TDS channel in turn with
+ * the other asynchronous executions of the connection. A task emits rows while there is demand and then returns its thread; the next request queues
+ * a new task. Each call to ResultSet.next() reads only the packets that the row needs when the response is processed adaptively.
+ */
+final class SQLServerRowPublisher<T> implements ISQLServerRowPublisher<T> {
+    private final SQLServerStatement stmt;
+    private final AsyncStatementExecutor.Task<? extends ResultSet> resultSetSource;
+    private final ISQLServerRowMapper<T> mapper;
+    private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
+
+    /**
+     * Creates a publisher.
+     *
+     * @param stmt
+     *            the statement whose connection reads the rows
+     * @param resultSetSource
+     *            returns the result set; called on a driver thread when the first rows are requested
+     * @param mapper
+     *            converts the rows
+     */
+    SQLServerRowPublisher(SQLServerStatement stmt,
+            AsyncStatementExecutor.Task<? extends ResultSet> resultSetSource,
+            ISQLServerRowMapper<T> mapper) {
+        this.stmt = stmt;
+        this.resultSetSource = resultSetSource;
+        this.mapper = mapper;
+    }
+
+    public void subscribe(ISQLServerRowSubscriber<? super T> subscriber) {
+        if (null == subscriber)
+            throw new NullPointerException();
+
+        if (!isSubscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new ISQLServerRowSubscription() {
+                public void request(long n) {
+                }
+
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException(SQLServerException.getErrString("R_rowPublisherSubscribed")));
+            return;
+        }
+
+        subscriber.onSubscribe(new RowSubscription(subscriber));
+    }
+
+    private final class RowSubscription implements ISQLServerRowSubscription {
+        private final ISQLServerRowSubscriber<? super T> subscriber;
+
+        // Guarded by this
+        private long demand = 0;
+        private boolean isEmitting = false;
+        private boolean isCancelled = false;
+        private boolean isDone = false;
+        private Throwable requestError = null;
+
+        // Accessed only by the emitting task
+        private ResultSet rs = null;
+
+        private final AsyncStatementExecutor.Task<Void> emitTask = new AsyncStatementExecutor.Task<Void>() {
+            public Void execute() {
+                emit();
+                return null;
+            }
+        };
+
+        RowSubscription(ISQLServerRowSubscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public void request(long n) {
+            synchronized (this) {
+                if (isDone)
+                    return;
+
+                if (n <= 0)
+                    requestError = new IllegalArgumentException(SQLServerException.getErrString("R_invalidRowRequest"));
+                else
+                    demand = (demand + n < 0) ? Long.MAX_VALUE : demand + n;
+
+                if (isEmitting)
+                    return;
+                isEmitting = true;
+            }
+            submitEmitTask();
+        }
+
+        public void cancel() {
+            synchronized (this) {
+                if (isDone)
+                    return;
+
+                isCancelled = true;
+                if (isEmitting)
+                    return;
+                isEmitting = true;
+            }
+
+            // The result set is closed by a task, in turn with the other executions of the connection
+            submitEmitTask();
+        }
+
+        /**
+         * Queues the emitting task. A task that cannot be queued, for example because the execution threads reject it, never runs, so the
+         * subscription is finished here with the error.
+         */
+        private void submitEmitTask() {
+            Throwable error;
+            try {
+                CompletableFuture<Void> future = stmt.submitAsync(emitTask);
+
+                // The emitting task never fails, so a future that has already failed was rejected
+                if (!future.isCompletedExceptionally())
+                    return;
+                future.join();
+                return;
+            }
+            catch (CompletionException e) {
+                error = (null == e.getCause()) ? e : e.getCause();
+            }
+            catch (RuntimeException e) {
+                error = e;
+            }
+
+            synchronized (this) {
+                isEmitting = false;
+            }
+            finish(error);
+        }
+
+        private void emit() {
+            try {
+                while (true) {
+                    Throwable error;
+                    synchronized (this) {
+                        error = requestError;
+                        if (null == error && !isCancelled && 0 == demand) {
+                            isEmitting = false;
+                            return;
+                        }
+                    }
+
+                    if (null != error) {
+                        finish(error);
+                        return;
+                    }
+
+                    if (isCancelledOrDone()) {
+                        finish(null);
+                        return;
+                    }
+
+                    if (null == rs)
+                        rs = resultSetSource.execute();
+
+                    if (!rs.next()) {
+                        finish(null);
+                        return;
+                    }
+
+                    T row = mapper.mapRow(rs);
+                    synchronized (this) {
+                        if (Long.MAX_VALUE != demand)
+                            --demand;
+                    }
+                    subscriber.onNext(row);
+                }
+            }
+            catch (Throwable e) {
+                finish(e);
+            }
+        }
+
+        private synchronized boolean isCancelledOrDone() {
+            return isCancelled || isDone;
+        }
+
+        /**
+         * Closes the result set and signals the end of the rows, unless the subscription was cancelled.
+         */
+        private void finish(Throwable error) {
+            boolean signal;
+            synchronized (this) {
+                if (isDone)
+                    return;
+                isDone = true;
+                isEmitting = false;
+                signal = !isCancelled;
+            }
+
+            if (null != rs) {
+                try {
+                    rs.close();
+                }
+                catch (Exception e) {
+                    if (null == error)
+                        error = e;
+                }
+            }
+
+            if (!signal)
+                return;
+
+            if (null == error)
+                subscriber.onComplete();
+            else
+                subscriber.onError(error);
+        }
+    }
+}
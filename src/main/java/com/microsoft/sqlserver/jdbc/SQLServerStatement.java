@@ -19,6 +19,7 @@ import java.util.ListIterator;
 import java.util.Stack;
 import java.util.StringTokenizer;
 import java.util.Vector;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
@@ -733,6 +734,154 @@ public class SQLServerStatement implements ISQLServerStatement {
         return null != resultSet;
     }
 
+    /**
+     * Executes the given SQL statement, which may return multiple results, on a driver thread. The executions of the statements of a connection
+     * are run one after another, in the order they were requested. The statement must not be used until the future is completed. Cancelling the
+     * future while the execution is running cancels the statement, as {@link #cancel()} does.
+     *
+     * @param sql
+     *            any SQL statement
+     * @return A CompletableFuture that is completed with true if the first result is a ResultSet object, or false if it is an update count or
+     *         there are no results. It is completed exceptionally with the SQLException of a failed execution.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<Boolean> executeAsync(final String sql) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeAsync", sql);
+        checkClosed();
+        CompletableFuture<Boolean> future = submitAsync(new AsyncStatementExecutor.Task<Boolean>() {
+            public Boolean execute() throws SQLException {
+                return Boolean.valueOf(SQLServerStatement.this.execute(sql));
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeAsync", future);
+        return future;
+    }
+
+    /**
+     * Executes the given SQL statement, which returns a single ResultSet object, on a driver thread. See {@link #executeAsync(String)}. A
+     * ResultSet produced by an execution that is cancelled while it runs is closed.
+     *
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @return A CompletableFuture that is completed with the ResultSet object that contains the data produced by the query.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<ResultSet> executeQueryAsync(final String sql) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeQueryAsync", sql);
+        checkClosed();
+        CompletableFuture<ResultSet> future = submitAsync(new AsyncStatementExecutor.Task<ResultSet>() {
+            public ResultSet execute() throws SQLException {
+                return executeQuery(sql);
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeQueryAsync", future);
+        return future;
+    }
+
+    /**
+     * Executes the given SQL INSERT, UPDATE or DELETE statement, or an SQL statement that returns nothing, on a driver thread. See
+     * {@link #executeAsync(String)}.
+     *
+     * @param sql
+     *            an SQL Data Manipulation Language (DML) statement or an SQL statement that returns nothing
+     * @return A CompletableFuture that is completed with the row count, or 0 for SQL statements that return nothing.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<Integer> executeUpdateAsync(final String sql) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeUpdateAsync", sql);
+        checkClosed();
+        CompletableFuture<Integer> future = submitAsync(new AsyncStatementExecutor.Task<Integer>() {
+            public Integer execute() throws SQLException {
+                return Integer.valueOf(executeUpdate(sql));
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeUpdateAsync", future);
+        return future;
+    }
+
+    /**
+     * Submits the batch of commands of this statement to the database on a driver thread. See {@link #executeAsync(String)}.
+     *
+     * @return A CompletableFuture that is completed with the update counts of the commands. It is completed exceptionally with a
+     *         BatchUpdateException if a command fails.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public CompletableFuture<int[]> executeBatchAsync() throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeBatchAsync");
+        checkClosed();
+        CompletableFuture<int[]> future = submitAsync(new AsyncStatementExecutor.Task<int[]>() {
+            public int[] execute() throws SQLException {
+                return executeBatch();
+            }
+        });
+        loggerExternal.exiting(getClassNameLogging(), "executeBatchAsync", future);
+        return future;
+    }
+
+    /**
+     * Returns a publisher of the rows of the given SQL query. The query is executed on a driver thread when the first rows are requested, in turn
+     * with the asynchronous executions of the connection. The statement must not be used until the publisher completes, fails or is cancelled.
+     *
+     * @param <T>
+     *            the type of the objects that rows are converted to
+     * @param sql
+     *            an SQL statement to be sent to the database, typically a static SQL SELECT statement
+     * @param mapper
+     *            converts each row to the object that is emitted for it
+     * @return The publisher.
+     * @throws SQLServerException
+     *             If the statement is closed.
+     */
+    public <T> ISQLServerRowPublisher<T> executeQueryPublisher(final String sql,
+            ISQLServerRowMapper<T> mapper) throws SQLServerException {
+        DriverJDBCVersion.checkSupportsJDBC42();
+
+        loggerExternal.entering(getClassNameLogging(), "executeQueryPublisher", sql);
+        checkClosed();
+        ISQLServerRowPublisher<T> publisher = new SQLServerRowPublisher<T>(this, new AsyncStatementExecutor.Task<ResultSet>() {
+            public ResultSet execute() throws SQLException {
+                return executeQuery(sql);
+            }
+        }, mapper);
+        loggerExternal.exiting(getClassNameLogging(), "executeQueryPublisher", publisher);
+        return publisher;
+    }
+
+    // Column label index of the last result set of this statement that looked up a column by label.
+    // Successive result sets of a statement usually have the same columns, so they share the index.
+    private ColumnLabelIndex columnLabelIndex;
+
+    /**
+     * Returns an index of the labels of the columns of a result set of this statement, reusing the last index if the labels are the same.
+     */
+    final ColumnLabelIndex getColumnLabelIndex(Column[] columns) {
+        ColumnLabelIndex index = columnLabelIndex;
+        if (null == index || !index.matches(columns)) {
+            index = new ColumnLabelIndex(columns);
+            columnLabelIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Queues an execution of this statement behind the other asynchronous executions of its connection.
+     */
+    final <T> CompletableFuture<T> submitAsync(AsyncStatementExecutor.Task<T> task) {
+        return connection.getAsyncStatementExecutor().submit(this, task);
+    }
+
     private final class StmtExecCmd extends TDSCommand {
         final SQLServerStatement stmt;
         final String sql;
@@ -763,10 +912,9 @@ public class SQLServerStatement implements ISQLServerStatement {
 
     private String ensureSQLSyntax(String sql) throws SQLServerException {
         if (sql.indexOf(LEFT_CURLY_BRACKET) >= 0) {
-            JDBCSyntaxTranslator translator = new JDBCSyntaxTranslator();
-            String execSyntax = translator.translate(sql);
-            procedureName = translator.getProcedureName();
-            return execSyntax;
+            ParsedSQLCache.ParsedSQL parsedSQL = ParsedSQLCache.getInstance().parse(sql);
+            procedureName = parsedSQL.procedureName;
+            return parsedSQL.processedSQL;
         }
 
         return sql;
@@ -866,9 +1014,17 @@ public class SQLServerStatement implements ISQLServerStatement {
     private final class StmtBatchExecCmd extends TDSCommand {
         final SQLServerStatement stmt;
 
-        StmtBatchExecCmd(SQLServerStatement stmt) {
+        // The range of the batched statements that this command executes
+        final int firstBatchNum;
+        final int endBatchNum;
+
+        StmtBatchExecCmd(SQLServerStatement stmt,
+                int firstBatchNum,
+                int endBatchNum) {
             super(stmt.toString() + " executeBatch", stmt.queryTimeout);
             this.stmt = stmt;
+            this.firstBatchNum = firstBatchNum;
+            this.endBatchNum = endBatchNum;
         }
 
         final boolean doExecute() throws SQLServerException {
@@ -900,7 +1056,7 @@ public class SQLServerStatement implements ISQLServerStatement {
         TDSWriter tdsWriter = execCmd.startRequest(TDS.PKT_QUERY);
 
         // Write the concatenated batch of statements, delimited by semicolons
-        ListIterator<String> batchIter = batchStatementBuffer.listIterator();
+        ListIterator<String> batchIter = batchStatementBuffer.subList(execCmd.firstBatchNum, execCmd.endBatchNum).listIterator();
         tdsWriter.writeString(batchIter.next());
         while (batchIter.hasNext()) {
             tdsWriter.writeString(" ; ");
@@ -918,6 +1074,15 @@ public class SQLServerStatement implements ISQLServerStatement {
         }
     }
 
+    /**
+     * Returns the end of the chunk of the batch that starts with the given statement. The statements of a chunk are sent in one request.
+     */
+    private int getBatchChunkEnd(int firstBatchNum,
+            int batchSize) {
+        int chunkSize = connection.getStatementBatchChunkSize();
+        return (0 == chunkSize || batchSize - firstBatchNum <= chunkSize) ? batchSize : firstBatchNum + chunkSize;
+    }
+
     /**
      * Reset the state to get the statement for reexecute callable statement overrides this.
      */
@@ -1694,23 +1859,29 @@ public class SQLServerStatement implements ISQLServerStatement {
             // BatchUpdateException with this exception and the update counts, including errors.
             SQLServerException lastError = null;
 
+            // The end of the chunk of batches that is being executed
+            int chunkEnd = 0;
+
             for (int batchNum = 0; batchNum < batchSize; batchNum++) {
                 // NOTE:
                 // When making changes to anything below, consider whether similar changes need
                 // to be made to PreparedStatement batch execution.
 
                 try {
-                    if (0 == batchNum) {
-                        // First time through, execute the entire set of batches and return the first result
-                        executeStatement(new StmtBatchExecCmd(this));
+                    if (chunkEnd == batchNum) {
+                        // First time through a chunk, execute the chunk's batches and return the first result
+                        chunkEnd = getBatchChunkEnd(batchNum, batchSize);
+                        executeStatement(new StmtBatchExecCmd(this, batchNum, chunkEnd));
                     }
                     else {
                         // Subsequent times through, just get the result from the next batch.
-                        // If there are not enough results (update counts) to satisfy the number of batches,
-                        // then bail, leaving EXECUTE_FAILED in the remaining slots of the update count array.
+                        // If there are not enough results (update counts) to satisfy the number of batches in the chunk,
+                        // then go on to the next chunk, leaving EXECUTE_FAILED in the remaining slots of this chunk.
                         startResults();
-                        if (!getNextResult())
-                            break;
+                        if (!getNextResult()) {
+                            batchNum = chunkEnd - 1;
+                            continue;
+                        }
                     }
 
                     if (null != resultSet) {
@@ -1773,23 +1944,29 @@ public class SQLServerStatement implements ISQLServerStatement {
             // BatchUpdateException with this exception and the update counts, including errors.
             SQLServerException lastError = null;
 
+            // The end of the chunk of batches that is being executed
+            int chunkEnd = 0;
+
             for (int batchNum = 0; batchNum < batchSize; batchNum++) {
                 // NOTE:
                 // When making changes to anything below, consider whether similar changes need
                 // to be made to PreparedStatement batch execution.
 
                 try {
-                    if (0 == batchNum) {
-                        // First time through, execute the entire set of batches and return the first result
-                        executeStatement(new StmtBatchExecCmd(this));
+                    if (chunkEnd == batchNum) {
+                        // First time through a chunk, execute the chunk's batches and return the first result
+                        chunkEnd = getBatchChunkEnd(batchNum, batchSize);
+                        executeStatement(new StmtBatchExecCmd(this, batchNum, chunkEnd));
                     }
                     else {
                         // Subsequent times through, just get the result from the next batch.
-                        // If there are not enough results (update counts) to satisfy the number of batches,
-                        // then bail, leaving EXECUTE_FAILED in the remaining slots of the update count array.
+                        // If there are not enough results (update counts) to satisfy the number of batches in the chunk,
+                        // then go on to the next chunk, leaving EXECUTE_FAILED in the remaining slots of this chunk.
                         startResults();
-                        if (!getNextResult())
-                            break;
+                        if (!getNextResult()) {
+                            batchNum = chunkEnd - 1;
+                            continue;
+                        }
                     }
 
                     if (null != resultSet) {
@@ -0,0 +1,263 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+
+/**
+ * SSLEngineTransport encrypts the traffic of a TDS channel that uses the NIO transport.
+ *
+ * The TLS handshake is framed in TDS prelogin messages, exactly as the SSLSocket based implementation does it through ProxySocket and the SSL
+ * handshake streams. After the handshake, TDS packets are wrapped from the writer's packet buffers straight into a reusable network buffer and
+ * written to the socket channel, and TLS records read from the socket channel are unwrapped into a reusable application buffer, without any
+ * intermediate streams.
+ */
+final class SSLEngineTransport {
+    private static final Logger logger = Logger.getLogger("com.microsoft.sqlserver.jdbc.internals.TDS.Channel");
+
+    private static final ByteBuffer EMPTY_BUFFER = ByteBuffer.allocate(0);
+
+    private final TDSChannel tdsChannel;
+    private final SSLEngine engine;
+    private final String traceID;
+
+    // Encrypted data received from the server that has not been unwrapped yet (kept ready for reading)
+    private ByteBuffer netIn;
+
+    // Decrypted data that has not been returned to the reader yet (kept ready for reading)
+    private ByteBuffer appIn;
+
+    // Encrypted data to be sent to the server. Guarded by the transport's monitor.
+    private ByteBuffer netOut;
+
+    SSLEngineTransport(TDSChannel tdsChannel,
+            SSLEngine engine) {
+        this.tdsChannel = tdsChannel;
+        this.engine = engine;
+        this.traceID = tdsChannel.toString() + " (SSLEngineTransport)";
+
+        engine.setUseClientMode(true);
+
+        int packetBufferSize = engine.getSession().getPacketBufferSize();
+        netIn = ByteBuffer.allocateDirect(packetBufferSize);
+        netIn.flip();
+        netOut = ByteBuffer.allocateDirect(packetBufferSize);
+        appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+        appIn.flip();
+    }
+
+    public String toString() {
+        return traceID;
+    }
+
+    /**
+     * Performs the TLS handshake, framing the handshake records in TDS prelogin messages.
+     */
+    void handshake() throws IOException, SQLServerException {
+        TDSWriter tdsWriter = tdsChannel.getWriter();
+        TDSReader tdsReader = tdsChannel.getReader(null);
+        boolean messageStarted = false;
+
+        engine.beginHandshake();
+        HandshakeStatus handshakeStatus = engine.getHandshakeStatus();
+        while (HandshakeStatus.FINISHED != handshakeStatus && HandshakeStatus.NOT_HANDSHAKING != handshakeStatus) {
+            switch (handshakeStatus) {
+                case NEED_WRAP: {
+                    netOut.clear();
+                    SSLEngineResult result = engine.wrap(EMPTY_BUFFER, netOut);
+                    checkResult(result);
+                    netOut.flip();
+
+                    // Handshake records accumulate in one prelogin message until the server's reply is needed.
+                    if (netOut.hasRemaining()) {
+                        if (!messageStarted) {
+                            tdsWriter.startMessage(null, TDS.PKT_PRELOGIN);
+                            messageStarted = true;
+                        }
+
+                        byte[] handshakeBytes = new byte[netOut.remaining()];
+                        netOut.get(handshakeBytes);
+                        tdsWriter.writeBytes(handshakeBytes, 0, handshakeBytes.length);
+                    }
+
+                    handshakeStatus = result.getHandshakeStatus();
+                    break;
+                }
+
+                case NEED_UNWRAP: {
+                    // The server will not reply until it has everything we wrapped.
+                    if (messageStarted) {
+                        tdsWriter.endMessage();
+                        messageStarted = false;
+                    }
+
+                    appIn.clear();
+                    SSLEngineResult result = engine.unwrap(netIn, appIn);
+                    appIn.flip();
+                    if (SSLEngineResult.Status.BUFFER_UNDERFLOW == result.getStatus()) {
+                        readHandshakeData(tdsReader);
+                    }
+                    else {
+                        checkResult(result);
+                        assert !appIn.hasRemaining();
+                    }
+
+                    handshakeStatus = engine.getHandshakeStatus();
+                    break;
+                }
+
+                case NEED_TASK:
+                    runDelegatedTasks();
+                    handshakeStatus = engine.getHandshakeStatus();
+                    break;
+
+                default:
+                    throw new SSLException("Unexpected handshake status: " + handshakeStatus);
+            }
+        }
+
+        // The client may finish the handshake by wrapping, in which case the last records are still unsent.
+        if (messageStarted)
+            tdsWriter.endMessage();
+
+        if (logger.isLoggable(Level.FINER))
+            logger.finer(toString() + " Handshake complete using " + engine.getSession().getProtocol());
+    }
+
+    /**
+     * Appends the handshake data available from the TDS prelogin response to the network input buffer, reading the next response message if
+     * everything received so far has been consumed.
+     */
+    private void readHandshakeData(TDSReader tdsReader) throws SQLServerException {
+        if (0 == tdsReader.available())
+            tdsReader.readPacket();
+
+        int bytesAvailable = tdsReader.available();
+        byte[] handshakeBytes = new byte[bytesAvailable];
+        tdsReader.readBytes(handshakeBytes, 0, bytesAvailable);
+
+        netIn.compact();
+        if (netIn.remaining() < bytesAvailable)
+            netIn = enlarge(netIn, netIn.position() + bytesAvailable);
+        netIn.put(handshakeBytes);
+        netIn.flip();
+    }
+
+    /**
+     * Reads decrypted data, unwrapping TLS records read from the socket channel as needed.
+     *
+     * @return the number of bytes read, or -1 at end of stream
+     */
+    int read(byte[] data,
+            int offset,
+            int length) throws IOException {
+        while (!appIn.hasRemaining()) {
+            appIn.clear();
+            SSLEngineResult result = engine.unwrap(netIn, appIn);
+            appIn.flip();
+
+            switch (result.getStatus()) {
+                case BUFFER_UNDERFLOW:
+                    netIn.compact();
+                    if (!netIn.hasRemaining())
+                        netIn = enlarge(netIn, engine.getSession().getPacketBufferSize());
+                    int bytesRead = tdsChannel.readChannel(netIn);
+                    netIn.flip();
+                    if (bytesRead < 0)
+                        return -1;
+                    break;
+
+                case BUFFER_OVERFLOW:
+                    appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+                    appIn.flip();
+                    break;
+
+                case CLOSED:
+                    return -1;
+
+                default:
+                    runPostHandshake(result.getHandshakeStatus());
+                    break;
+            }
+        }
+
+        int bytesToCopy = Math.min(length, appIn.remaining());
+        appIn.get(data, offset, bytesToCopy);
+        return bytesToCopy;
+    }
+
+    /**
+     * Encrypts and sends all of the remaining data in the buffer.
+     */
+    synchronized void write(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            netOut.clear();
+            SSLEngineResult result = engine.wrap(buffer, netOut);
+            if (SSLEngineResult.Status.BUFFER_OVERFLOW == result.getStatus()) {
+                netOut = ByteBuffer.allocateDirect(engine.getSession().getPacketBufferSize());
+                continue;
+            }
+            checkResult(result);
+
+            netOut.flip();
+            tdsChannel.writeChannel(netOut);
+        }
+    }
+
+    /**
+     * Handles handshake messages that TLS may exchange after the initial handshake, such as session tickets and key updates.
+     */
+    private void runPostHandshake(HandshakeStatus handshakeStatus) throws IOException {
+        if (HandshakeStatus.NEED_TASK == handshakeStatus) {
+            runDelegatedTasks();
+            handshakeStatus = engine.getHandshakeStatus();
+        }
+
+        while (HandshakeStatus.NEED_WRAP == handshakeStatus) {
+            synchronized (this) {
+                netOut.clear();
+                checkResult(engine.wrap(EMPTY_BUFFER, netOut));
+                netOut.flip();
+                tdsChannel.writeChannel(netOut);
+            }
+            handshakeStatus = engine.getHandshakeStatus();
+        }
+    }
+
+    private void runDelegatedTasks() {
+        Runnable task;
+        while (null != (task = engine.getDelegatedTask()))
+            task.run();
+    }
+
+    private void checkResult(SSLEngineResult result) throws SSLException {
+        if (SSLEngineResult.Status.CLOSED == result.getStatus())
+            throw new SSLException(SQLServerException.getErrString("R_truncatedServerResponse"));
+
+        if (SSLEngineResult.Status.OK != result.getStatus())
+            throw new SSLException("Unexpected SSLEngine status: " + result.getStatus());
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer buffer,
+            int minCapacity) {
+        // buffer is in write mode: its contents are between 0 and position
+        ByteBuffer newBuffer = ByteBuffer.allocateDirect(Math.max(minCapacity, 2 * buffer.capacity()));
+        buffer.flip();
+        newBuffer.put(buffer);
+        return newBuffer;
+    }
+}
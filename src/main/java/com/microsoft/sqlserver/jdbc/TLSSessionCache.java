@@ -0,0 +1,116 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Driver-wide cache of the SSL contexts used to encrypt connections.
+ *
+ * JSSE keeps the sessions it negotiates in the client session cache of the SSLContext that negotiated them, and only resumes a session for a
+ * socket or engine created from that same context. Reusing one context for every connection to a server with the same trust settings therefore
+ * lets later handshakes resume an earlier session instead of performing a full handshake. The cache is bounded, evicting the least recently used
+ * context.
+ */
+final class TLSSessionCache {
+    private static final TLSSessionCache instance = new TLSSessionCache();
+
+    private static final int MAX_CONTEXTS = 64;
+
+    private final Map<String, SSLContext> contexts = new LinkedHashMap<String, SSLContext>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SSLContext> eldest) {
+            return size() > MAX_CONTEXTS;
+        }
+    };
+
+    private final AtomicLong numHits = new AtomicLong();
+    private final AtomicLong numMisses = new AtomicLong();
+    private final AtomicLong numResumedHandshakes = new AtomicLong();
+    private final AtomicLong numFullHandshakes = new AtomicLong();
+
+    private TLSSessionCache() {
+    }
+
+    static TLSSessionCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Builds the cache key for connections to the given server with the given trust settings. Connections share a context only if every setting
+     * that determines how the server certificate is validated is the same.
+     *
+     * Only contexts that trust any certificate or use the default trust material are cached. A context with trust material loaded from a trust
+     * store specified for the connection is not, so that the trust store password is checked and the file is loaded for every connection.
+     */
+    static String getKey(String host,
+            int port,
+            String hostNameInCertificate,
+            boolean trustServerCertificate,
+            String trustStoreType,
+            boolean isFips,
+            String fipsProvider) {
+        return host + ":" + port + ";" + hostNameInCertificate + ";" + trustServerCertificate + ";" + trustStoreType + ";" + isFips + ";"
+                + fipsProvider;
+    }
+
+    /**
+     * Returns the cached context for the key, or null if there is none.
+     */
+    synchronized SSLContext get(String key) {
+        SSLContext sslContext = contexts.get(key);
+        if (null == sslContext)
+            numMisses.incrementAndGet();
+        else
+            numHits.incrementAndGet();
+        return sslContext;
+    }
+
+    synchronized void put(String key,
+            SSLContext sslContext) {
+        contexts.put(key, sslContext);
+    }
+
+    /**
+     * Records whether a completed handshake resumed a cached session.
+     */
+    void handshakeCompleted(boolean resumed) {
+        if (resumed)
+            numResumedHandshakes.incrementAndGet();
+        else
+            numFullHandshakes.incrementAndGet();
+    }
+
+    long getNumHits() {
+        return numHits.get();
+    }
+
+    long getNumMisses() {
+        return numMisses.get();
+    }
+
+    long getNumResumedHandshakes() {
+        return numResumedHandshakes.get();
+    }
+
+    long getNumFullHandshakes() {
+        return numFullHandshakes.get();
+    }
+
+    public String toString() {
+        return "TLSSessionCache hits:" + numHits.get() + " misses:" + numMisses.get() + " resumed handshakes:" + numResumedHandshakes.get()
+                + " full handshakes:" + numFullHandshakes.get();
+    }
+}
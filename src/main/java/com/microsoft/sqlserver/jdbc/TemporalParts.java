@@ -0,0 +1,42 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+
+package com.microsoft.sqlserver.jdbc;
+
+/**
+ * Holds the date and time parts of a temporal value as SQL Server represents them, so that they can be converted to and from Java temporal
+ * types by arithmetic rather than through a Calendar.
+ *
+ * Dates are counted in days since 1/1/0001, assuming Gregorian leap year behavior over the entire range of values. DATETIME and SMALLDATETIME
+ * values are rebased to that date, and TIME values have the date 1/1/1900, as they do when converted to java.sql.Timestamp. For DATETIMEOFFSET
+ * values the date and time parts are in UTC. A result set reuses one instance for all of its values, and a TDSWriter one for all the values
+ * that it sends as RPC parameters.
+ */
+final class TemporalParts {
+    // The date part, as a number of days since 1/1/0001
+    int daysIntoCE;
+
+    // The time part, as a number of nanoseconds since midnight
+    long nanosSinceMidnight;
+
+    // For DATETIMEOFFSET values, the offset of the value's time zone from UTC; 0 for other values
+    int minutesOffset;
+
+    // Whether the value is a DATETIMEOFFSET value, whose date and time parts are in UTC
+    boolean isOffset;
+
+    void set(int daysIntoCE,
+            long nanosSinceMidnight,
+            int minutesOffset,
+            boolean isOffset) {
+        this.daysIntoCE = daysIntoCE;
+        this.nanosSinceMidnight = nanosSinceMidnight;
+        this.minutesOffset = minutesOffset;
+        this.isOffset = isOffset;
+    }
+}
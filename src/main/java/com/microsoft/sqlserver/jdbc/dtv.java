@@ -149,6 +149,9 @@ abstract class DTVExecuteOp {
 final class DTV {
     static final private java.util.logging.Logger aeLogger = java.util.logging.Logger.getLogger("com.microsoft.sqlserver.jdbc.DTV");
 
+    // A ServerDTVImpl cleared by clearForReuse, to be used for the next value read from the response
+    private ServerDTVImpl reusableServerImpl;
+
     /** The source (app or server) providing the data for this value. */
     private DTVImpl impl;
 
@@ -187,18 +190,41 @@ final class DTV {
         impl = null;
     }
 
+    /**
+     * Clears the DTV's value, keeping its ServerDTVImpl, if it has one, for the next value read from the response.
+     *
+     * Used for column values, which nothing refers to once the result set has moved past them, so that reading a row does not allocate an impl
+     * and a mark for each of its values.
+     */
+    final void clearForReuse() {
+        if (impl instanceof ServerDTVImpl) {
+            reusableServerImpl = (ServerDTVImpl) impl;
+            reusableServerImpl.clearForReuse();
+        }
+        impl = null;
+    }
+
+    private ServerDTVImpl newServerDTVImpl() {
+        ServerDTVImpl serverImpl = reusableServerImpl;
+        if (null == serverImpl)
+            return new ServerDTVImpl();
+
+        reusableServerImpl = null;
+        return serverImpl;
+    }
+
     final void skipValue(TypeInfo type,
             TDSReader tdsReader,
             boolean isDiscard) throws SQLServerException {
         if (null == impl)
-            impl = new ServerDTVImpl();
+            impl = newServerDTVImpl();
 
         impl.skipValue(type, tdsReader, isDiscard);
     }
 
     final void initFromCompressedNull() {
         if (null == impl)
-            impl = new ServerDTVImpl();
+            impl = newServerDTVImpl();
 
         impl.initFromCompressedNull();
     }
@@ -282,10 +308,51 @@ final class DTV {
             CryptoMetadata cryptoMetadata,
             TDSReader tdsReader) throws SQLServerException {
         if (null == impl)
-            impl = new ServerDTVImpl();
+            impl = newServerDTVImpl();
         return impl.getValue(this, jdbcType, scale, streamGetterArgs, cal, typeInfo, cryptoMetadata, tdsReader);
     }
 
+    /**
+     * Returns whether the value comes from the TDS response rather than from the application.
+     */
+    boolean isServerValue() {
+        return null == impl || impl instanceof ServerDTVImpl;
+    }
+
+    /**
+     * Reads a value from the TDS response converted to an integral jdbc type, without creating an object. See ServerDTVImpl.getLong.
+     */
+    long getLong(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader) throws SQLServerException {
+        if (null == impl)
+            impl = newServerDTVImpl();
+        return ((ServerDTVImpl) impl).getLong(jdbcType, typeInfo, tdsReader);
+    }
+
+    /**
+     * Reads a value from the TDS response converted to a floating point jdbc type, without creating an object. See ServerDTVImpl.getDouble.
+     */
+    double getDouble(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader) throws SQLServerException {
+        if (null == impl)
+            impl = newServerDTVImpl();
+        return ((ServerDTVImpl) impl).getDouble(jdbcType, typeInfo, tdsReader);
+    }
+
+    /**
+     * Reads the date and time parts of a temporal value from the TDS response. See ServerDTVImpl.getTemporalParts.
+     */
+    boolean getTemporalParts(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader,
+            TemporalParts parts) throws SQLServerException {
+        if (null == impl)
+            impl = newServerDTVImpl();
+        return ((ServerDTVImpl) impl).getTemporalParts(jdbcType, typeInfo, tdsReader, parts);
+    }
+
     Object getSetterValue() {
         return impl.getSetterValue();
     }
@@ -298,6 +365,8 @@ final class DTV {
     }
 
     final class SendByRPCOp extends DTVExecuteOp {
+        private static final long MILLIS_PER_DAY = 24 * 60 * 60 * 1000L;
+
         private final String name;
         private final TypeInfo typeInfo;
         private final SQLCollation collation;
@@ -491,6 +560,9 @@ final class DTV {
         private void sendTemporal(DTV dtv,
                 JavaType javaType,
                 Object value) throws SQLServerException {
+            if (sendTemporalWithoutCalendar(dtv, javaType, value))
+                return;
+
             JDBCType jdbcType = dtv.getJdbcType();
             GregorianCalendar calendar = null;
             int subSecondNanos = 0;
@@ -987,6 +1059,254 @@ final class DTV {
             } // setters
         }
 
+        /**
+         * Sends the specified temporal type value to the server from its date and time parts, computed by arithmetic rather than through a
+         * GregorianCalendar, when the value and the target data type allow it.
+         *
+         * Values converted with a calendar supplied by the app, encrypted values, values sent to servers without the DATE, TIME, DATETIME2 and
+         * DATETIMEOFFSET data types, and values of the Java types whose conversion depends on the Calendar (java.util.Calendar,
+         * java.time.OffsetTime and java.time.OffsetDateTime) are left to sendTemporal.
+         *
+         * @return true if the value was sent; false if it must be sent by sendTemporal
+         */
+        private boolean sendTemporalWithoutCalendar(DTV dtv,
+                JavaType javaType,
+                Object value) throws SQLServerException {
+            if (null == value || null != dtv.getCalendar() || null != cryptoMeta || !conn.isKatmaiOrLater())
+                return false;
+
+            JDBCType jdbcType = dtv.getJdbcType();
+
+            // An op is created for each value that is sent, so the parts are kept by the writer, which sends every value of the request
+            TemporalParts parts = tdsWriter.getTemporalParts();
+            if (!loadTemporalParts(javaType, value, parts))
+                return false;
+
+            // The parts of microsoft.sql.DateTimeOffset values are in UTC, as writeRPCDateTimeOffset expects them.
+            // They are only sent this way to DATETIMEOFFSET, as the other types need them local to the value's offset.
+            if (parts.isOffset && !(JDBCType.DATETIMEOFFSET == jdbcType && (null == typeInfo || SSType.DATETIMEOFFSET == typeInfo.getSSType())))
+                return false;
+
+            if (null != typeInfo) // updater
+            {
+                switch (typeInfo.getSSType()) {
+                    case DATETIME2:
+                        normalizeTemporalParts(parts, javaType, conn.baseYear());
+                        tdsWriter.writeRPCDateTime2(name, parts.daysIntoCE, parts.nanosSinceMidnight, typeInfo.getScale(), isOutParam);
+                        return true;
+
+                    case DATE:
+                        if (JavaType.TIME == javaType)
+                            return false;
+
+                        tdsWriter.writeRPCDate(name, parts.daysIntoCE, isOutParam);
+                        return true;
+
+                    case TIME:
+                        if (JavaType.DATE == javaType)
+                            return false;
+
+                        tdsWriter.writeRPCTime(name, parts.nanosSinceMidnight, typeInfo.getScale(), isOutParam);
+                        return true;
+
+                    case DATETIMEOFFSET:
+                        // Deliberately interpret the "wall calendar" representation of other temporal Java types
+                        // as expressing a date/time in UTC, as sendTemporal does
+                        if (!parts.isOffset)
+                            normalizeTemporalParts(parts, javaType, conn.baseYear());
+
+                        tdsWriter.writeRPCDateTimeOffset(name, parts.daysIntoCE, parts.nanosSinceMidnight, parts.minutesOffset, typeInfo.getScale(),
+                                isOutParam);
+                        return true;
+
+                    case DATETIME:
+                    case SMALLDATETIME:
+                        normalizeTemporalParts(parts, javaType, conn.baseYear());
+                        tdsWriter.writeRPCDateTime(name, parts.daysIntoCE, parts.nanosSinceMidnight, isOutParam);
+                        return true;
+
+                    default:
+                        return false;
+                }
+            }
+            else // setter
+            {
+                switch (jdbcType) {
+                    case DATETIME:
+                    case SMALLDATETIME:
+                    case TIMESTAMP:
+                        normalizeTemporalParts(parts, javaType, conn.baseYear());
+                        tdsWriter.writeRPCDateTime2(name, parts.daysIntoCE, parts.nanosSinceMidnight, TDS.MAX_FRACTIONAL_SECONDS_SCALE, isOutParam);
+                        return true;
+
+                    case TIME:
+                        if (JavaType.DATE == javaType)
+                            return false;
+
+                        // Send the java.sql.Types.TIME value as TIME or DATETIME SQL Server
+                        // data type, based on sendTimeAsDatetime setting.
+                        if (conn.getSendTimeAsDatetime())
+                            tdsWriter.writeRPCDateTime(name, TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970, parts.nanosSinceMidnight, isOutParam);
+                        else
+                            tdsWriter.writeRPCTime(name, parts.nanosSinceMidnight, TDS.MAX_FRACTIONAL_SECONDS_SCALE, isOutParam);
+                        return true;
+
+                    case DATE:
+                        if (JavaType.TIME == javaType)
+                            return false;
+
+                        tdsWriter.writeRPCDate(name, parts.daysIntoCE, isOutParam);
+                        return true;
+
+                    case TIME_WITH_TIMEZONE:
+                    case TIMESTAMP_WITH_TIMEZONE:
+                    case DATETIMEOFFSET:
+                        // Deliberately interpret the "wall calendar" representation of other temporal Java types
+                        // as expressing a date/time in UTC, as sendTemporal does
+                        if (!parts.isOffset)
+                            normalizeTemporalParts(parts, javaType, conn.baseYear());
+
+                        tdsWriter.writeRPCDateTimeOffset(name, parts.daysIntoCE, parts.nanosSinceMidnight, parts.minutesOffset,
+                                TDS.MAX_FRACTIONAL_SECONDS_SCALE, isOutParam);
+                        return true;
+
+                    default:
+                        return false;
+                }
+            }
+        }
+
+        /**
+         * Loads the date and time parts of a temporal value. The parts of java.sql.Time, java.sql.Date, java.sql.Timestamp and java.util.Date
+         * values are their "wall calendar" fields in the default time zone, those of java.time values are their own fields, and those of
+         * microsoft.sql.DateTimeOffset values are in UTC.
+         *
+         * The date of a java.sql.Time value is taken to be 1/1/1970, and the time of a java.sql.Date value midnight, as the JDBC spec defines them.
+         *
+         * @return true if the parts were loaded; false for values that must be sent by sendTemporal
+         */
+        @SuppressWarnings("deprecation")
+        private boolean loadTemporalParts(JavaType javaType,
+                Object value,
+                TemporalParts parts) {
+            switch (javaType) {
+                case TIME: {
+                    java.sql.Time timeValue = (java.sql.Time) value;
+                    int millis = (int) (timeValue.getTime() % 1000);
+                    if (millis < 0)
+                        millis += 1000;
+
+                    parts.set(TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970,
+                            nanosSinceMidnight(timeValue.getHours(), timeValue.getMinutes(), timeValue.getSeconds(), Nanos.PER_MILLISECOND * millis),
+                            0, false);
+                    return true;
+                }
+
+                case DATE: {
+                    java.sql.Date dateValue = (java.sql.Date) value;
+                    parts.set(DDC.daysIntoCE(dateValue.getYear() + 1900, dateValue.getMonth() + 1, dateValue.getDate()), 0, 0, false);
+                    return true;
+                }
+
+                case TIMESTAMP:
+                case UTILDATE: {
+                    java.util.Date dateValue = (java.util.Date) value;
+                    int subSecondNanos;
+                    if (JavaType.TIMESTAMP == javaType) {
+                        subSecondNanos = ((Timestamp) value).getNanos();
+                    }
+                    else {
+                        int millis = (int) (dateValue.getTime() % 1000);
+                        subSecondNanos = Nanos.PER_MILLISECOND * ((millis < 0) ? millis + 1000 : millis);
+                    }
+
+                    parts.set(DDC.daysIntoCE(dateValue.getYear() + 1900, dateValue.getMonth() + 1, dateValue.getDate()),
+                            nanosSinceMidnight(dateValue.getHours(), dateValue.getMinutes(), dateValue.getSeconds(), subSecondNanos), 0, false);
+                    return true;
+                }
+
+                case LOCALDATE: {
+                    LocalDate localDateValue = (LocalDate) value;
+                    if (localDateValue.getYear() < 1 || localDateValue.getYear() > 9999)
+                        return false;
+
+                    parts.set((int) localDateValue.toEpochDay() + TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970, 0, 0, false);
+                    return true;
+                }
+
+                case LOCALTIME:
+                    // sendTemporal loads java.time.LocalTime values with the date February 1 of the base year
+                    parts.set(DDC.daysIntoCE(conn.baseYear(), 2, 1), ((LocalTime) value).toNanoOfDay(), 0, false);
+                    return true;
+
+                case LOCALDATETIME: {
+                    LocalDateTime localDateTimeValue = (LocalDateTime) value;
+                    if (localDateTimeValue.getYear() < 1 || localDateTimeValue.getYear() > 9999)
+                        return false;
+
+                    parts.set((int) localDateTimeValue.toLocalDate().toEpochDay() + TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970,
+                            localDateTimeValue.toLocalTime().toNanoOfDay(), 0, false);
+                    return true;
+                }
+
+                case DATETIMEOFFSET: {
+                    microsoft.sql.DateTimeOffset dtoValue = (microsoft.sql.DateTimeOffset) value;
+                    Timestamp utcTimestamp = dtoValue.getTimestamp();
+                    long utcMillis = utcTimestamp.getTime();
+                    long daysSinceEpoch = utcMillis / MILLIS_PER_DAY;
+                    long millisSinceMidnight = utcMillis % MILLIS_PER_DAY;
+                    if (millisSinceMidnight < 0) {
+                        --daysSinceEpoch;
+                        millisSinceMidnight += MILLIS_PER_DAY;
+                    }
+
+                    // Dates before the Gregorian change date, which a UTC Calendar holds as Julian dates,
+                    // and dates out of range are left to sendTemporal
+                    long daysIntoCE = daysSinceEpoch + TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970;
+                    if (daysIntoCE < GregorianChange.DAYS_SINCE_BASE_DATE_HINT || daysIntoCE >= DDC.daysSinceBaseDate(10000, 1, 1))
+                        return false;
+
+                    parts.set((int) daysIntoCE, (long) Nanos.PER_MILLISECOND * (millisSinceMidnight - millisSinceMidnight % 1000)
+                            + utcTimestamp.getNanos(), dtoValue.getMinutesOffset(), true);
+                    return true;
+                }
+
+                default:
+                    return false;
+            }
+        }
+
+        private long nanosSinceMidnight(int hours,
+                int minutes,
+                int seconds,
+                int subSecondNanos) {
+            return (long) Nanos.PER_SECOND * (seconds + 60 * minutes + 60 * 60 * hours) + subSecondNanos;
+        }
+
+        /**
+         * Normalizes the date and time parts of a value as timestampNormalizedCalendar normalizes a GregorianCalendar value: the time of DATE
+         * values to midnight and the date of TIME values to January 1 of the specified base year.
+         */
+        private void normalizeTemporalParts(TemporalParts parts,
+                JavaType javaType,
+                int baseYear) {
+            switch (javaType) {
+                case LOCALDATE:
+                case DATE:
+                    parts.nanosSinceMidnight = 0;
+                    break;
+
+                case LOCALTIME:
+                case TIME:
+                    assert TDS.BASE_YEAR_1970 == baseYear || TDS.BASE_YEAR_1900 == baseYear;
+                    parts.daysIntoCE = (TDS.BASE_YEAR_1970 == baseYear) ? TDS.DAYS_INTO_CE_OF_BASE_YEAR_1970 : TDS.DAYS_INTO_CE_OF_BASE_YEAR_1900;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
         /**
          * Normalizes a GregorianCalendar value appropriately for a DATETIME, SMALLDATETIME, DATETIME2, or DATETIMEOFFSET SQL Server data type.
          *
@@ -3316,6 +3636,26 @@ final class ServerDTVImpl extends DTVImpl {
     private TDSReaderMark valueMark;
     private boolean isNull;
 
+    // The mark last used as valueMark, which is moved to the next value when the impl is reused
+    private TDSReaderMark reusableMark;
+
+    /**
+     * Clears the value so that the impl can be reused for a later value in the response.
+     */
+    void clearForReuse() {
+        valueLength = 0;
+        valueMark = null;
+        isNull = false;
+
+        // Let go of the packets of the previous value
+        if (null != reusableMark)
+            reusableMark.packet = null;
+    }
+
+    private void markValue(TDSReader tdsReader) {
+        valueMark = reusableMark = tdsReader.mark(reusableMark);
+    }
+
     /**
      * Sets the value of the DTV to an app-specified Java type.
      *
@@ -3348,7 +3688,7 @@ final class ServerDTVImpl extends DTVImpl {
     // whole value of the stream has been consumed.
     // Note this only to be used by the streams returned to the user.
     void setPositionAfterStreamed(TDSReader tdsReader) {
-        valueMark = tdsReader.mark();
+        markValue(tdsReader);
         valueLength = STREAMCONSUMED;
     }
 
@@ -3507,7 +3847,7 @@ final class ServerDTVImpl extends DTVImpl {
         if (valueLength > typeInfo.getMaxLength())
             tdsReader.throwInvalidTDS();
 
-        valueMark = tdsReader.mark();
+        markValue(tdsReader);
     }
 
     Object denormalizedValue(byte[] decryptedValue,
@@ -3952,6 +4292,223 @@ final class ServerDTVImpl extends DTVImpl {
         return convertedValue;
     }
 
+    /**
+     * Returns whether values of a type can be read with getLong and getDouble, which decode them without creating objects. These are the
+     * fixed-length numeric types, with DECIMAL and NUMERIC limited to precisions whose unscaled values fit in a long.
+     */
+    static boolean isPrimitiveType(TypeInfo typeInfo) {
+        switch (typeInfo.getSSType()) {
+            case BIT:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case REAL:
+            case MONEY:
+            case SMALLMONEY:
+                return true;
+
+            case DECIMAL:
+            case NUMERIC:
+                return typeInfo.getPrecision() <= 18;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Reads a value of a primitive type, unencrypted, converted to an integral jdbc type. The result is the value that getValue would return, widened
+     * to long; BIT and BOOLEAN values are 1 or 0.
+     *
+     * @return the value, or 0 if it is null
+     */
+    long getLong(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader) throws SQLServerException {
+        assert isPrimitiveType(typeInfo);
+        if (!prepareUnconvertedValue(jdbcType, typeInfo, tdsReader))
+            return 0;
+
+        switch (typeInfo.getSSType()) {
+            case FLOAT:
+            case REAL:
+                return DDC.convertDoubleToLong(readFloatingValue(tdsReader), jdbcType);
+
+            case MONEY:
+            case SMALLMONEY:
+                return DDC.convertScaledLongToLong(readMoneyValue(tdsReader), 4, jdbcType);
+
+            case DECIMAL:
+            case NUMERIC:
+                return DDC.convertScaledLongToLong(readDecimalValue(tdsReader), typeInfo.getScale(), jdbcType);
+
+            default:
+                return DDC.convertLongToLong(readIntegralValue(tdsReader), jdbcType);
+        }
+    }
+
+    /**
+     * Reads a value of a primitive type, unencrypted, converted to a floating point jdbc type. The result is the value that getValue would return,
+     * widened to double.
+     *
+     * @return the value, or 0 if it is null
+     */
+    double getDouble(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader) throws SQLServerException {
+        assert isPrimitiveType(typeInfo);
+        if (!prepareUnconvertedValue(jdbcType, typeInfo, tdsReader))
+            return 0;
+
+        switch (typeInfo.getSSType()) {
+            case FLOAT:
+            case REAL:
+                return DDC.convertDoubleToDouble(readFloatingValue(tdsReader), jdbcType);
+
+            case MONEY:
+            case SMALLMONEY:
+                return DDC.convertScaledLongToDouble(readMoneyValue(tdsReader), 4, jdbcType);
+
+            case DECIMAL:
+            case NUMERIC:
+                return DDC.convertScaledLongToDouble(readDecimalValue(tdsReader), typeInfo.getScale(), jdbcType);
+
+            default:
+                return DDC.convertLongToDouble(readIntegralValue(tdsReader), jdbcType);
+        }
+    }
+
+    /**
+     * Returns whether values of a type can be read with getTemporalParts: DATETIME, SMALLDATETIME, DATE, TIME, DATETIME2 and DATETIMEOFFSET.
+     */
+    static boolean isTemporalType(TypeInfo typeInfo) {
+        switch (typeInfo.getSSType()) {
+            case DATETIME:
+            case SMALLDATETIME:
+            case DATE:
+            case TIME:
+            case DATETIME2:
+            case DATETIMEOFFSET:
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Reads the date and time parts of a temporal value, unencrypted, for conversion to a jdbc type without a Calendar.
+     *
+     * @return false if the value is null, in which case parts is unchanged
+     */
+    boolean getTemporalParts(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader,
+            TemporalParts parts) throws SQLServerException {
+        assert isTemporalType(typeInfo);
+        if (!prepareUnconvertedValue(jdbcType, typeInfo, tdsReader))
+            return false;
+
+        tdsReader.readTemporalParts(valueLength, typeInfo, parts);
+        return true;
+    }
+
+    /**
+     * Positions the reader at a value for getLong, getDouble or getTemporalParts, which decode it themselves.
+     *
+     * @return false if the value is null
+     */
+    private boolean prepareUnconvertedValue(JDBCType jdbcType,
+            TypeInfo typeInfo,
+            TDSReader tdsReader) throws SQLServerException {
+        if (null == valueMark && (!isNull))
+            getValuePrep(typeInfo, tdsReader);
+
+        if (!typeInfo.getSSType().convertsTo(jdbcType))
+            DataTypes.throwConversionError(typeInfo.getSSType().toString(), jdbcType.toString());
+
+        if (isNull)
+            return false;
+
+        tdsReader.reset(valueMark);
+        return true;
+    }
+
+    private long readIntegralValue(TDSReader tdsReader) throws SQLServerException {
+        switch (valueLength) {
+            case 8:
+                return tdsReader.readLong();
+            case 4:
+                return tdsReader.readInt();
+            case 2:
+                return tdsReader.readShort();
+            case 1:
+                return tdsReader.readUnsignedByte();
+            default:
+                tdsReader.throwInvalidTDS();
+                return 0;
+        }
+    }
+
+    /**
+     * Reads a FLOAT or REAL value. REAL values are widened to double, which converts them to every jdbc type with the same result.
+     */
+    private double readFloatingValue(TDSReader tdsReader) throws SQLServerException {
+        switch (valueLength) {
+            case 8:
+                return Double.longBitsToDouble(tdsReader.readLong());
+            case 4:
+                return Float.intBitsToFloat(tdsReader.readInt());
+            default:
+                tdsReader.throwInvalidTDS();
+                return 0;
+        }
+    }
+
+    /**
+     * Reads the unscaled value of a MONEY or SMALLMONEY value, whose scale is 4.
+     */
+    private long readMoneyValue(TDSReader tdsReader) throws SQLServerException {
+        switch (valueLength) {
+            case 8: {
+                int intBitsHi = tdsReader.readInt();
+                int intBitsLo = tdsReader.readInt();
+                return ((long) intBitsHi << 32) | (intBitsLo & 0xFFFFFFFFL);
+            }
+            case 4:
+                return tdsReader.readInt();
+            default:
+                tdsReader.throwInvalidTDS();
+                return 0;
+        }
+    }
+
+    /**
+     * Reads the unscaled value of a DECIMAL or NUMERIC value: a sign byte followed by the little-endian magnitude.
+     */
+    private long readDecimalValue(TDSReader tdsReader) throws SQLServerException {
+        boolean isNegative = (0 == tdsReader.readUnsignedByte());
+        long magnitude;
+        switch (valueLength) {
+            case 5:
+                magnitude = tdsReader.readInt() & 0xFFFFFFFFL;
+                break;
+            case 9:
+                magnitude = tdsReader.readLong();
+                break;
+            default:
+                tdsReader.throwInvalidTDS();
+                return 0;
+        }
+
+        // Precisions up to 18 keep the magnitude below 10^18
+        if (magnitude < 0)
+            tdsReader.throwInvalidTDS();
+        return isNegative ? -magnitude : magnitude;
+    }
+
     Object getSetterValue() {
         // This function is never called, but must be implemented; it's abstract in DTVImpl.
         assert false;
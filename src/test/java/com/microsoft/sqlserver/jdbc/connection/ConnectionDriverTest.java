@@ -111,6 +111,40 @@ public class ConnectionDriverTest extends AbstractTest {
         assertEquals(true, ds.getTrustServerCertificate(), "Values are different");
     }
 
+    /**
+     * Verifies the defaults of the transport, statement pooling and batch properties of SQLServerDataSource, and that each setter is read back by
+     * its getter.
+     */
+    @Test
+    public void testDataSourceTuningProperties() {
+        SQLServerDataSource ds = new SQLServerDataSource();
+        assertEquals(false, ds.getNioTransport(), "nioTransport should be off by default");
+        assertEquals(0, ds.getReadAheadPackets(), "readAheadPackets should be off by default");
+        assertEquals(true, ds.getDisableStatementPooling(), "Statement pooling should be disabled by default");
+        assertEquals(10, ds.getStatementPoolingCacheSize());
+        assertEquals(0, ds.getPrepareThreshold(), "Statements should be prepared on first execution by default");
+        assertEquals(0, ds.getStatementBatchChunkSize(), "Batches should be sent in one request by default");
+        assertEquals(false, ds.getUseBulkCopyForBatchInsert(), "Bulk copy should not be used for batches by default");
+        assertEquals(false, ds.getNormalizeBatchParameterTypes(), "Batch parameter types should not be normalized by default");
+
+        ds.setNioTransport(true);
+        ds.setReadAheadPackets(4);
+        ds.setDisableStatementPooling(false);
+        ds.setStatementPoolingCacheSize(50);
+        ds.setPrepareThreshold(5);
+        ds.setStatementBatchChunkSize(1000);
+        ds.setUseBulkCopyForBatchInsert(true);
+        ds.setNormalizeBatchParameterTypes(true);
+        assertEquals(true, ds.getNioTransport());
+        assertEquals(4, ds.getReadAheadPackets());
+        assertEquals(false, ds.getDisableStatementPooling());
+        assertEquals(50, ds.getStatementPoolingCacheSize());
+        assertEquals(5, ds.getPrepareThreshold());
+        assertEquals(1000, ds.getStatementBatchChunkSize());
+        assertEquals(true, ds.getUseBulkCopyForBatchInsert());
+        assertEquals(true, ds.getNormalizeBatchParameterTypes());
+    }
+
     @Test
     public void testEncryptedConnection() throws SQLException {
         SQLServerDataSource ds = new SQLServerDataSource();
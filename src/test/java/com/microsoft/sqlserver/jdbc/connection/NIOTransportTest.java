@@ -0,0 +1,93 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the nioTransport connection property
+ */
+@RunWith(JUnitPlatform.class)
+public class NIOTransportTest extends AbstractTest {
+
+    /**
+     * Reads a response spanning many packets and sends a multi-packet request over the NIO transport.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testLargeRequestAndResponse() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";nioTransport=true");
+        try {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 100000; i++)
+                sb.append((char) ('a' + i % 26));
+            String value = sb.toString();
+
+            PreparedStatement ps = con.prepareStatement("SELECT ?, LEN(?)");
+            ps.setString(1, value);
+            ps.setString(2, value);
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(value, rs.getString(1), "Value sent over the socket channel was not echoed back intact");
+            assertEquals(value.length(), rs.getInt(2));
+            rs.close();
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Runs queries over an encrypted NIO transport connection, where TLS is handled by an SSLEngine.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testEncryptedConnection() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";nioTransport=true;encrypt=true;trustServerCertificate=true");
+        try {
+            PreparedStatement ps = con.prepareStatement("SELECT encrypt_option FROM sys.dm_exec_connections WHERE session_id = @@SPID");
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals("TRUE", rs.getString(1), "Connection is not encrypted");
+            rs.close();
+            ps.close();
+
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 100000; i++)
+                sb.append((char) ('a' + i % 26));
+            String value = sb.toString();
+
+            ps = con.prepareStatement("SELECT ?");
+            ps.setString(1, value);
+            rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(value, rs.getString(1), "Value sent over the encrypted socket channel was not echoed back intact");
+            rs.close();
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the reuse of response packets
+ */
+@RunWith(JUnitPlatform.class)
+public class PacketPoolTest extends AbstractTest {
+
+    private static final String LARGE_QUERY = "SELECT TOP 50000 a.object_id, REPLICATE('x', 100) FROM sys.all_objects a CROSS JOIN sys.all_objects b";
+
+    /**
+     * Streams a multi-packet result with adaptive response buffering and verifies that its packets are reused rather than allocated.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testStreamedPacketsReused() throws SQLException {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        try {
+            Statement stmt = con.createStatement();
+            long numPacketsAllocated = con.getNumPacketsAllocated();
+            long numPacketBytesAllocated = con.getNumPacketBytesAllocated();
+            long numPacketsReused = con.getNumPacketsReused();
+
+            ResultSet rs = stmt.executeQuery(LARGE_QUERY);
+            int rowCount = 0;
+            while (rs.next())
+                rowCount++;
+            rs.close();
+            stmt.close();
+            assertEquals(50000, rowCount);
+
+            long packetsAllocated = con.getNumPacketsAllocated() - numPacketsAllocated;
+            long packetsReused = con.getNumPacketsReused() - numPacketsReused;
+            assertTrue(packetsReused > 100, "Packets of the streamed response were not reused: " + packetsReused);
+            assertTrue(packetsAllocated < 32, "Streaming the response allocated " + packetsAllocated + " packets");
+            assertTrue(con.getNumPacketBytesAllocated() - numPacketBytesAllocated <= packetsAllocated * 32767);
+        }
+        finally {
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the readAheadPackets connection property
+ */
+@RunWith(JUnitPlatform.class)
+public class ReadAheadTest extends AbstractTest {
+
+    private static final String LARGE_QUERY = "SELECT TOP 50000 a.object_id, REPLICATE('x', 100) FROM sys.all_objects a CROSS JOIN sys.all_objects b";
+
+    /**
+     * Scans a multi-packet result forward-only with read-ahead on, then runs another statement on the same connection.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testForwardOnlyScan() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";readAheadPackets=4");
+        try {
+            Statement stmt = con.createStatement();
+            ResultSet rs = stmt.executeQuery(LARGE_QUERY);
+            int rowCount = 0;
+            while (rs.next()) {
+                assertEquals(100, rs.getString(2).length());
+                rowCount++;
+            }
+            rs.close();
+            assertEquals(50000, rowCount, "Rows were lost while reading ahead");
+
+            rs = stmt.executeQuery("SELECT 1");
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            rs.close();
+            stmt.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Closes a result set part way through a read-ahead scan and reuses the connection.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testCloseDuringScan() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";readAheadPackets=8");
+        try {
+            Statement stmt = con.createStatement();
+            ResultSet rs = stmt.executeQuery(LARGE_QUERY);
+            for (int i = 0; i < 100; i++)
+                assertTrue(rs.next());
+            rs.close();
+
+            rs = stmt.executeQuery("SELECT 2");
+            assertTrue(rs.next());
+            assertEquals(2, rs.getInt(1));
+            rs.close();
+            stmt.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+}
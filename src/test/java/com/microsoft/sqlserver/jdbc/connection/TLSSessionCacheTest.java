@@ -0,0 +1,49 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerDriver;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the sharing of SSL contexts between encrypted connections to the same server
+ */
+@RunWith(JUnitPlatform.class)
+public class TLSSessionCacheTest extends AbstractTest {
+
+    /**
+     * Opens encrypted connections with the same trust settings one after the other and verifies that they share a cached SSL context.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testSSLContextShared() throws SQLException {
+        String url = connectionString + ";encrypt=true;trustServerCertificate=true";
+        DriverManager.getConnection(url).close();
+
+        long numHits = SQLServerDriver.getNumSSLContextCacheHits();
+        long numHandshakes = SQLServerDriver.getNumResumedSSLHandshakes() + SQLServerDriver.getNumFullSSLHandshakes();
+        for (int i = 0; i < 5; i++) {
+            Connection con = DriverManager.getConnection(url);
+            con.close();
+        }
+        assertTrue(SQLServerDriver.getNumSSLContextCacheHits() - numHits >= 5, "The connections did not share the cached SSL context");
+        assertTrue(SQLServerDriver.getNumResumedSSLHandshakes() + SQLServerDriver.getNumFullSSLHandshakes() - numHandshakes >= 5,
+                "The handshakes of the connections were not counted");
+    }
+}
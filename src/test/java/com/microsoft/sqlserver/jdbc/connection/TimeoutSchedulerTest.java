@@ -0,0 +1,83 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.connection;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerDriver;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests that query timeouts are armed, fired and cancelled on the driver-wide timeout scheduler
+ */
+@RunWith(JUnitPlatform.class)
+public class TimeoutSchedulerTest extends AbstractTest {
+
+    /**
+     * Runs a query that outlasts its timeout and verifies that the scheduler armed and fired the timeout.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testQueryTimeoutFired() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            Statement stmt = con.createStatement();
+            stmt.setQueryTimeout(1);
+            long numArmed = SQLServerDriver.getNumTimeoutsArmed();
+            long numFired = SQLServerDriver.getNumTimeoutsFired();
+            try {
+                stmt.execute("WAITFOR DELAY '00:00:10'");
+                fail("The query did not time out");
+            }
+            catch (SQLException e) {
+                assertTrue(e.getMessage().contains("timed out"), "Unexpected error: " + e.getMessage());
+            }
+            assertTrue(SQLServerDriver.getNumTimeoutsArmed() > numArmed, "The query timeout was not armed on the scheduler");
+            assertTrue(SQLServerDriver.getNumTimeoutsFired() > numFired, "The query timeout was not fired by the scheduler");
+            stmt.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Runs queries that complete within their timeout and verifies that the scheduler cancelled each timeout.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testQueryTimeoutCancelled() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            Statement stmt = con.createStatement();
+            stmt.setQueryTimeout(30);
+            long numArmed = SQLServerDriver.getNumTimeoutsArmed();
+            long numCancelled = SQLServerDriver.getNumTimeoutsCancelled();
+            for (int i = 0; i < 10; i++)
+                stmt.executeQuery("SELECT " + i).close();
+            assertTrue(SQLServerDriver.getNumTimeoutsArmed() - numArmed >= 10, "The query timeouts were not armed on the scheduler");
+            assertTrue(SQLServerDriver.getNumTimeoutsCancelled() - numCancelled >= 10, "The query timeouts were not cancelled on the scheduler");
+            stmt.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+}
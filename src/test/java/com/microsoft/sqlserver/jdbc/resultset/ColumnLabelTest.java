@@ -0,0 +1,102 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests looking up result set columns by label
+ */
+@RunWith(JUnitPlatform.class)
+public class ColumnLabelTest extends AbstractTest {
+
+    /**
+     * Verifies that exact matches win over case-insensitive ones, that the first of several matching columns is found and that labels that
+     * match no column, including null, are rejected.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testFindColumn() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery("SELECT 1 AS [Abc], 2 AS [abc], 3 AS [Abc], 4 AS [x]");
+            assertTrue(rs.next());
+            assertEquals(1, rs.findColumn("Abc"));
+            assertEquals(2, rs.findColumn("abc"));
+            assertEquals(1, rs.findColumn("ABC"));
+            assertEquals(4, rs.findColumn("X"));
+            assertEquals(2, rs.getInt("abc"));
+            assertEquals(1, rs.getInt("aBC"));
+            try {
+                rs.findColumn("y");
+                fail("Expected an SQLException");
+            }
+            catch (SQLException e) {
+                assertEquals("07009", e.getSQLState());
+            }
+            try {
+                rs.getInt((String) null);
+                fail("Expected an SQLException");
+            }
+            catch (SQLException e) {
+                assertEquals("07009", e.getSQLState());
+            }
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that successive result sets of a statement with different columns find their own columns.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testSuccessiveResultSets() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            for (int i = 0; i < 3; i++) {
+                ResultSet rs = stmt.executeQuery("SELECT 1 AS a, 2 AS b");
+                assertTrue(rs.next());
+                assertEquals(2, rs.getInt("B"));
+                rs.close();
+
+                rs = stmt.executeQuery("SELECT 3 AS b, 4 AS a, 5 AS c");
+                assertTrue(rs.next());
+                assertEquals(1, rs.findColumn("b"));
+                assertEquals(4, rs.getInt("a"));
+                assertEquals(5, rs.getInt("C"));
+                rs.close();
+            }
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests reading the columns of a row in an order other than the select order
+ */
+@RunWith(JUnitPlatform.class)
+public class ColumnOrderTest extends AbstractTest {
+    private static final String QUERY = "SELECT n, REPLICATE(CAST('a' AS varchar(max)), 9000 + n), CAST(n AS varchar(10)),"
+            + " CASE WHEN 0 = n % 2 THEN NULL ELSE REPLICATE(CAST(N'b' AS nvarchar(max)), n) END, n * 2.5"
+            + " FROM (SELECT TOP 20 ROW_NUMBER() OVER (ORDER BY object_id) AS n FROM sys.all_objects) AS t ORDER BY n";
+
+    private static String repeat(char c,
+            int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++)
+            sb.append(c);
+        return sb.toString();
+    }
+
+    /**
+     * Reads the columns of each row out of order with adaptive response buffering, including earlier PLP columns after later ones and columns
+     * read more than once.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testAdaptiveOutOfOrder() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            for (int n = 1; n <= 20; n++) {
+                assertTrue(rs.next());
+                assertEquals(n * 2.5, rs.getDouble(5));
+                assertEquals(repeat('a', 9000 + n), rs.getString(2));
+                if (0 == n % 2) {
+                    assertNull(rs.getString(4));
+                    assertTrue(rs.wasNull());
+                }
+                else {
+                    assertEquals(repeat('b', n), rs.getString(4));
+                }
+                assertEquals(n, rs.getInt(1));
+                assertEquals(String.valueOf(n), rs.getString(3));
+                assertEquals(repeat('a', 9000 + n), rs.getString(2));
+                assertEquals(n, rs.getInt(1));
+            }
+            assertFalse(rs.next());
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Reads only some columns of each row, so that the rest are skipped and discarded when the result set moves to the next row.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testSkippedColumns() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            for (int n = 1; n <= 20; n++) {
+                assertTrue(rs.next());
+                if (0 == n % 3)
+                    assertEquals(String.valueOf(n), rs.getString(3));
+                else
+                    assertEquals(n, rs.getInt(1));
+            }
+            assertFalse(rs.next());
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the getters of primitive values
+ */
+@RunWith(JUnitPlatform.class)
+public class PrimitiveGetterTest extends AbstractTest {
+    private static final String QUERY = "SELECT CAST(1 AS bit), CAST(200 AS tinyint), CAST(-3000 AS smallint), CAST(-2147483648 AS int),"
+            + " CAST(9223372036854775807 AS bigint), CAST(-1.5e300 AS float), CAST(3.25 AS real), CAST(-922337203685477.5808 AS money),"
+            + " CAST(123.4567 AS smallmoney), CAST(-123456789.123456789 AS decimal(18,9)), CAST(98765.4321 AS numeric(9,4)),"
+            + " CAST(0.1 AS decimal(18,18)), CAST(NULL AS int), CAST(NULL AS decimal(18,2)), CAST(NULL AS float)";
+
+    /**
+     * Verifies that the primitive getters convert each numeric type as its exact decimal value would be converted. FLOAT values, which are cast
+     * instead, are checked separately.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testConversions() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            assertTrue(rs.next());
+            for (int i = 1; i <= 12; i++) {
+                if (6 == i)
+                    continue;
+                assertEquals(rs.getBigDecimal(i).longValue(), rs.getLong(i), "getLong of column " + i);
+                assertFalse(rs.wasNull());
+                assertEquals(rs.getBigDecimal(i).intValue(), rs.getInt(i), "getInt of column " + i);
+                assertEquals(rs.getBigDecimal(i).shortValue(), rs.getShort(i), "getShort of column " + i);
+                assertEquals(rs.getBigDecimal(i).byteValue(), rs.getByte(i), "getByte of column " + i);
+                assertEquals(0 != rs.getBigDecimal(i).signum(), rs.getBoolean(i), "getBoolean of column " + i);
+                assertEquals(rs.getBigDecimal(i).doubleValue(), rs.getDouble(i), "getDouble of column " + i);
+                assertEquals(rs.getBigDecimal(i).floatValue(), rs.getFloat(i), "getFloat of column " + i);
+            }
+
+            assertEquals(true, rs.getBoolean(1));
+            assertEquals(200, rs.getInt(2));
+            assertEquals(-3000, rs.getShort(3));
+            assertEquals(Integer.MIN_VALUE, rs.getInt(4));
+            assertEquals(Long.MAX_VALUE, rs.getLong(5));
+            assertEquals(-1.5e300, rs.getDouble(6));
+            assertEquals(Long.MIN_VALUE, rs.getLong(6));
+            assertEquals(true, rs.getBoolean(6));
+            assertEquals(3.25f, rs.getFloat(7));
+            assertEquals(-922337203685477L, rs.getLong(8));
+            assertEquals(-922337203685477.5808, rs.getDouble(8));
+            assertEquals(123, rs.getInt(9));
+            assertEquals(-123456789.123456789, rs.getDouble(10));
+            assertEquals(98765.4321f, rs.getFloat(11));
+            assertEquals(0.1, rs.getDouble(12));
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that null values are returned as 0 and reported by wasNull.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testNulls() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            assertTrue(rs.next());
+            for (int i = 13; i <= 15; i++) {
+                assertEquals(0, rs.getInt(i));
+                assertTrue(rs.wasNull());
+                assertEquals(0, rs.getLong(i));
+                assertTrue(rs.wasNull());
+                assertEquals(0, rs.getDouble(i));
+                assertTrue(rs.wasNull());
+                assertEquals(false, rs.getBoolean(i));
+                assertTrue(rs.wasNull());
+                assertEquals(1, rs.getInt(1));
+                assertFalse(rs.wasNull());
+            }
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.resultset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests getting temporal values as java.time types
+ */
+@RunWith(JUnitPlatform.class)
+public class TemporalObjectTest extends AbstractTest {
+    private static final String QUERY = "SELECT CAST('2017-03-12 02:30:45.1234567' AS datetime2(7)), CAST('0001-01-01' AS date),"
+            + " CAST('23:59:59.9999999' AS time(7)), CAST('1753-01-01 12:00:00.003' AS datetime), CAST('2079-06-06 23:59' AS smalldatetime),"
+            + " CAST('1582-10-10 10:20:30.5 -08:00' AS datetimeoffset(1)), CAST('9999-12-31 23:59:59.9999999 +14:00' AS datetimeoffset(7)),"
+            + " CAST(NULL AS datetime2), CAST(NULL AS datetimeoffset)";
+
+    /**
+     * Verifies the java.time values of each temporal type, including dates before the Gregorian change date.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testJavaTimeTypes() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            assertTrue(rs.next());
+
+            LocalDateTime dateTime2 = LocalDateTime.of(2017, 3, 12, 2, 30, 45, 123456700);
+            assertEquals(dateTime2, rs.getObject(1, LocalDateTime.class));
+            assertEquals(dateTime2.toLocalDate(), rs.getObject(1, LocalDate.class));
+            assertEquals(dateTime2.toLocalTime(), rs.getObject(1, LocalTime.class));
+            assertEquals(dateTime2.atZone(ZoneId.systemDefault()).toInstant(), rs.getObject(1, Instant.class));
+
+            assertEquals(LocalDate.of(1, 1, 1), rs.getObject(2, LocalDate.class));
+            assertEquals(LocalDateTime.of(1, 1, 1, 0, 0), rs.getObject(2, LocalDateTime.class));
+
+            assertEquals(LocalTime.of(23, 59, 59, 999999900), rs.getObject(3, LocalTime.class));
+            assertEquals(LocalDateTime.of(1900, 1, 1, 23, 59, 59, 999999900), rs.getObject(3, LocalDateTime.class));
+
+            assertEquals(LocalDateTime.of(1753, 1, 1, 12, 0, 0, 3000000), rs.getObject(4, LocalDateTime.class));
+            assertEquals(LocalDateTime.of(2079, 6, 6, 23, 59), rs.getObject(5, LocalDateTime.class));
+
+            OffsetDateTime offsetDateTime = OffsetDateTime.of(1582, 10, 10, 10, 20, 30, 500000000, ZoneOffset.ofHours(-8));
+            assertEquals(offsetDateTime, rs.getObject(6, OffsetDateTime.class));
+            assertEquals(offsetDateTime.toInstant(), rs.getObject(6, Instant.class));
+            assertEquals(offsetDateTime.toLocalDateTime(), rs.getObject(6, LocalDateTime.class));
+            assertEquals(OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 999999900, ZoneOffset.ofHours(14)), rs.getObject(7, OffsetDateTime.class));
+            assertEquals(LocalDate.of(9999, 12, 31), rs.getObject(7, LocalDate.class));
+
+            assertNull(rs.getObject(8, LocalDateTime.class));
+            assertTrue(rs.wasNull());
+            assertNull(rs.getObject(9, OffsetDateTime.class));
+            assertTrue(rs.wasNull());
+
+            try {
+                rs.getObject(2, LocalTime.class);
+                fail("Expected an SQLException");
+            }
+            catch (SQLException e) {
+                // A DATE value has no time
+            }
+            try {
+                rs.getObject(1, OffsetDateTime.class);
+                fail("Expected an SQLException");
+            }
+            catch (SQLException e) {
+                // A DATETIME2 value has no offset
+            }
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that java.sql values, which are built without a Calendar when none is supplied, match the java.time values and the values converted
+     * with a Calendar in the default time zone.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testSqlTypes() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            ResultSet rs = stmt.executeQuery(QUERY);
+            assertTrue(rs.next());
+            Calendar cal = Calendar.getInstance(TimeZone.getDefault());
+            for (int i = 1; i <= 5; i++) {
+                assertEquals(rs.getTimestamp(i, cal), rs.getTimestamp(i), "getTimestamp of column " + i);
+                assertEquals(Timestamp.valueOf(rs.getObject(i, LocalDateTime.class)), rs.getTimestamp(i), "getTimestamp of column " + i);
+            }
+            assertEquals(rs.getDate(1, cal), rs.getDate(1));
+            assertEquals(rs.getTime(3, cal), rs.getTime(3));
+            assertEquals(rs.getObject(7, OffsetDateTime.class).toInstant(), rs.getTimestamp(7).toInstant());
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.BatchUpdateException;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import com.microsoft.sqlserver.jdbc.SQLServerDriver;
+import com.microsoft.sqlserver.jdbc.SQLServerException;
+import com.microsoft.sqlserver.jdbc.SQLServerPreparedStatement;
+import com.microsoft.sqlserver.jdbc.SQLServerStatement;
+import com.microsoft.sqlserver.testframework.AbstractSQLGenerator;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+import com.microsoft.sqlserver.testframework.util.RandomUtil;
+
+/**
+ * Tests the asynchronous execution of statements
+ */
+@RunWith(JUnitPlatform.class)
+public class AsyncExecutionTest extends AbstractTest {
+    private final String tableName = AbstractSQLGenerator.escapeIdentifier(RandomUtil.getIdentifier("AsyncExecution"));
+
+    /**
+     * Executes updates, a batch and a query of several statements of a connection asynchronously and verifies that they run in order.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAsyncExecution() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int)");
+
+            SQLServerStatement asyncStmt = (SQLServerStatement) con.createStatement();
+            CompletableFuture<Integer> insert = asyncStmt.executeUpdateAsync("INSERT INTO " + tableName + " VALUES (1), (2)");
+
+            SQLServerPreparedStatement ps = (SQLServerPreparedStatement) con.prepareStatement("INSERT INTO " + tableName + " VALUES (?)");
+            for (int i = 3; i <= 5; i++) {
+                ps.setInt(1, i);
+                ps.addBatch();
+            }
+            CompletableFuture<int[]> batch = ps.executeBatchAsync();
+
+            SQLServerPreparedStatement query = (SQLServerPreparedStatement) con.prepareStatement("SELECT COUNT(*) FROM " + tableName);
+            CompletableFuture<ResultSet> count = query.executeQueryAsync();
+
+            assertEquals(2, insert.get().intValue());
+            assertEquals(3, batch.get().length);
+            ResultSet rs = count.get();
+            assertTrue(rs.next());
+            assertEquals(5, rs.getInt(1));
+            rs.close();
+
+            assertEquals(true, asyncStmt.executeAsync("SELECT 1").get());
+            asyncStmt.close();
+            ps.close();
+            query.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a failed execution completes its future exceptionally.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testAsyncExecutionError() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        try {
+            stmt.addBatch("SELECT 1/0");
+            try {
+                stmt.executeBatchAsync().get();
+                fail("Expected an ExecutionException");
+            }
+            catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof BatchUpdateException);
+            }
+
+            try {
+                stmt.executeQueryAsync("SELECT * FROM " + tableName).get();
+                fail("Expected an ExecutionException");
+            }
+            catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof SQLException);
+            }
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Cancels a running execution and verifies that the connection can be used afterwards.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCancelAsyncExecution() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        try {
+            CompletableFuture<Boolean> future = stmt.executeAsync("WAITFOR DELAY '00:01:00'");
+            Thread.sleep(1000);
+            assertTrue(future.cancel(true));
+            try {
+                future.get();
+                fail("Expected a CancellationException");
+            }
+            catch (CancellationException e) {
+                // expected
+            }
+
+            ResultSet rs = stmt.executeQueryAsync("SELECT 1").get();
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            rs.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Cancels an execution that is queued behind a running one and verifies that it is never run.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCancelPendingExecution() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        SQLServerStatement pendingStmt = (SQLServerStatement) con.createStatement();
+        try {
+            CompletableFuture<Boolean> running = stmt.executeAsync("WAITFOR DELAY '00:00:02'");
+            CompletableFuture<Integer> pending = pendingStmt.executeUpdateAsync("CREATE TABLE " + tableName + " (c1 int)");
+            assertTrue(pending.cancel(true));
+            running.get();
+
+            ResultSet rs = stmt.executeQueryAsync("SELECT OBJECT_ID('" + tableName + "')").get();
+            assertTrue(rs.next());
+            assertEquals(null, rs.getObject(1));
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            pendingStmt.close();
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Limits the asynchronous executions to one thread and verifies that executions of two connections still complete, and that a limit below
+     * one is rejected.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testMaxAsyncExecutionThreads() throws Exception {
+        int maxThreads = SQLServerDriver.getMaxAsyncExecutionThreads();
+        try {
+            SQLServerDriver.setMaxAsyncExecutionThreads(0);
+            fail("Expected an SQLServerException");
+        }
+        catch (SQLServerException e) {
+            assertEquals(maxThreads, SQLServerDriver.getMaxAsyncExecutionThreads());
+        }
+
+        SQLServerDriver.setMaxAsyncExecutionThreads(1);
+        SQLServerConnection con1 = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        SQLServerConnection con2 = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        try {
+            assertEquals(1, SQLServerDriver.getMaxAsyncExecutionThreads());
+            SQLServerStatement stmt1 = (SQLServerStatement) con1.createStatement();
+            SQLServerStatement stmt2 = (SQLServerStatement) con2.createStatement();
+            CompletableFuture<Boolean> first = stmt1.executeAsync("WAITFOR DELAY '00:00:01'");
+            CompletableFuture<ResultSet> second = stmt2.executeQueryAsync("SELECT 1");
+
+            assertEquals(false, first.get());
+            ResultSet rs = second.get();
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            rs.close();
+            stmt1.close();
+            stmt2.close();
+        }
+        finally {
+            SQLServerDriver.setMaxAsyncExecutionThreads(maxThreads);
+            con1.close();
+            con2.close();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerPreparedStatement;
+import com.microsoft.sqlserver.testframework.AbstractSQLGenerator;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+import com.microsoft.sqlserver.testframework.util.RandomUtil;
+
+/**
+ * Tests executing batches of single row INSERT statements with bulk copy
+ */
+@RunWith(JUnitPlatform.class)
+public class BatchInsertBulkCopyTest extends AbstractTest {
+    private final String tableName = AbstractSQLGenerator.escapeIdentifier(RandomUtil.getIdentifier("BatchInsertBulkCopy"));
+
+    /**
+     * Inserts a batch of rows with bulk copy and reads them back.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testBatchInsert() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";useBulkCopyForBatchInsert=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int, c2 nvarchar(20), c3 decimal(10,3), c4 int DEFAULT 7)");
+
+            PreparedStatement ps = con.prepareStatement("insert into " + tableName + " ([c1], c2, c3) values (?, ?, ?)");
+            for (int i = 0; i < 100; i++) {
+                ps.setInt(1, i);
+                if (0 == i % 10)
+                    ps.setNull(2, Types.NVARCHAR);
+                else
+                    ps.setString(2, "row " + i);
+                ps.setBigDecimal(3, new BigDecimal(i).movePointLeft(i % 3));
+                ps.addBatch();
+            }
+            int[] updateCounts = ps.executeBatch();
+            assertEquals(100, updateCounts.length);
+            for (int updateCount : updateCounts)
+                assertEquals(1, updateCount);
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT c1, c2, c3, c4 FROM " + tableName + " ORDER BY c1");
+            for (int i = 0; i < 100; i++) {
+                assertTrue(rs.next());
+                assertEquals(i, rs.getInt(1));
+                if (0 == i % 10)
+                    assertNull(rs.getString(2), "A null value should not be replaced by the column default");
+                else
+                    assertEquals("row " + i, rs.getString(2));
+                assertEquals(0, new BigDecimal(i).movePointLeft(i % 3).compareTo(rs.getBigDecimal(3)));
+                assertEquals(7, rs.getInt(4));
+            }
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a constraint violation fails the whole batch, inserting no rows.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testBatchInsertError() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";useBulkCopyForBatchInsert=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int PRIMARY KEY)");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " (c1) VALUES (?)");
+            for (int i = 0; i < 10; i++) {
+                ps.setInt(1, i % 5);
+                ps.addBatch();
+            }
+            try {
+                ps.executeBatch();
+                fail("Expected a BatchUpdateException");
+            }
+            catch (BatchUpdateException e) {
+                assertEquals(10, e.getUpdateCounts().length);
+                for (int updateCount : e.getUpdateCounts())
+                    assertEquals(Statement.EXECUTE_FAILED, updateCount);
+            }
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + tableName);
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1), "No row of a failed batch should be inserted");
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a batch inserting into an identity column is executed with RPCs, which fail without IDENTITY_INSERT, and that a batch
+     * inserting into the other columns gets generated identity values.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testIdentityColumn() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";useBulkCopyForBatchInsert=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (id int IDENTITY(1,1), c1 int)");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " (id, c1) VALUES (?, ?)");
+            for (int i = 0; i < 3; i++) {
+                ps.setInt(1, 100 + i);
+                ps.setInt(2, i);
+                ps.addBatch();
+            }
+            try {
+                ps.executeBatch();
+                fail("Expected a BatchUpdateException");
+            }
+            catch (BatchUpdateException e) {
+                // Without IDENTITY_INSERT, each row of the batch fails
+                assertEquals(3, e.getUpdateCounts().length);
+            }
+            ps.close();
+
+            ps = con.prepareStatement("INSERT INTO " + tableName + " (c1) VALUES (?)");
+            for (int i = 0; i < 3; i++) {
+                ps.setInt(1, i);
+                ps.addBatch();
+            }
+            assertEquals(3, ps.executeBatch().length);
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT id, c1 FROM " + tableName + " ORDER BY c1");
+            for (int i = 0; i < 3; i++) {
+                assertTrue(rs.next());
+                assertEquals(i, rs.getInt(2));
+                assertTrue(rs.getInt(1) < 100, "Identity values should be generated");
+            }
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Executes several batches with the same statement and verifies that the identity column lookup of the first batch is reused by the others.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testRepeatedBatches() throws Exception {
+        Connection con = DriverManager.getConnection(connectionString + ";useBulkCopyForBatchInsert=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (id int IDENTITY(1,1), c1 int)");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " (c1) VALUES (?)");
+            Field queryKeyField = SQLServerPreparedStatement.class.getDeclaredField("identityColumnQueryKey");
+            if (!queryKeyField.isAccessible()) {
+                queryKeyField.setAccessible(true);
+            }
+            Object queryKey = null;
+            for (int batch = 0; batch < 5; batch++) {
+                for (int i = 0; i < 10; i++) {
+                    ps.setInt(1, 10 * batch + i);
+                    ps.addBatch();
+                }
+                assertEquals(10, ps.executeBatch().length);
+
+                if (0 == batch)
+                    queryKey = queryKeyField.get(ps);
+                assertTrue(null != queryKey && queryKey == queryKeyField.get(ps), "The identity column lookup should be done once");
+            }
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*), COUNT(DISTINCT id) FROM " + tableName);
+            assertTrue(rs.next());
+            assertEquals(50, rs.getInt(1));
+            assertEquals(50, rs.getInt(2), "Identity values should be generated");
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a batch of values that bulk copy does not send as the statement would is executed with RPCs.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testIneligibleBatch() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";useBulkCopyForBatchInsert=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int, c2 datetime2)");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " (c1, c2) VALUES (?, ?)");
+            java.sql.Timestamp ts = java.sql.Timestamp.valueOf("2017-01-01 10:00:00.1234567");
+            ps.setInt(1, 1);
+            ps.setTimestamp(2, ts);
+            ps.addBatch();
+            ps.setString(1, "2");
+            ps.setTimestamp(2, ts);
+            ps.addBatch();
+            int[] updateCounts = ps.executeBatch();
+            assertEquals(2, updateCounts.length);
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT c2 FROM " + tableName);
+            while (rs.next())
+                assertEquals(ts, rs.getTimestamp(1));
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractSQLGenerator;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+import com.microsoft.sqlserver.testframework.util.RandomUtil;
+
+/**
+ * Tests batches whose parameters are declared with types that fit every row
+ */
+@RunWith(JUnitPlatform.class)
+public class BatchParameterTypesTest extends AbstractTest {
+    private final String tableName = AbstractSQLGenerator.escapeIdentifier(RandomUtil.getIdentifier("BatchParameterTypes"));
+
+    private static String getString(int row) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < ((0 == row % 7) ? 5000 : row); i++)
+            sb.append((char) ('a' + i % 26));
+        return sb.toString();
+    }
+
+    /**
+     * Executes a batch whose rows have decimals of different scales, short and long strings, and nulls set with other types, and reads the rows
+     * back.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testNormalizedBatch() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";normalizeBatchParameterTypes=true");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int, c2 decimal(20,5), c3 nvarchar(max), c4 varbinary(max))");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " VALUES (?, ?, ?, ?)");
+            for (int i = 0; i < 50; i++) {
+                ps.setInt(1, i);
+                if (0 == i % 5)
+                    ps.setNull(2, Types.VARCHAR);
+                else
+                    ps.setBigDecimal(2, new BigDecimal(i).movePointLeft(i % 6));
+                if (0 == i % 9)
+                    ps.setNull(3, Types.INTEGER);
+                else
+                    ps.setString(3, getString(i));
+                ps.setBytes(4, getString(i).getBytes());
+                ps.addBatch();
+            }
+            int[] updateCounts = ps.executeBatch();
+            assertEquals(50, updateCounts.length);
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT c1, c2, c3, c4 FROM " + tableName + " ORDER BY c1");
+            for (int i = 0; i < 50; i++) {
+                assertTrue(rs.next());
+                assertEquals(i, rs.getInt(1));
+                if (0 == i % 5)
+                    assertNull(rs.getBigDecimal(2));
+                else
+                    assertEquals(0, new BigDecimal(i).movePointLeft(i % 6).compareTo(rs.getBigDecimal(2)));
+                if (0 == i % 9)
+                    assertNull(rs.getString(3));
+                else
+                    assertEquals(getString(i), rs.getString(3));
+                assertEquals(getString(i), new String(rs.getBytes(4)));
+            }
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Executes a batch whose rows have a decimal with a large integer part and a decimal with a large scale, which together do not fit one
+     * decimal type, and reads the exact values back.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testWideDecimals() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";normalizeBatchParameterTypes=true");
+        Statement stmt = con.createStatement();
+        String[] values = {"12345678901234567890123456789012345678", "12.34567890", "1"};
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int, c2 varchar(50))");
+
+            PreparedStatement ps = con.prepareStatement("INSERT INTO " + tableName + " VALUES (?, CAST(? AS varchar(50)))");
+            for (int i = 0; i < values.length; i++) {
+                ps.setInt(1, i);
+                ps.setBigDecimal(2, new BigDecimal(values[i]));
+                ps.addBatch();
+            }
+            assertEquals(values.length, ps.executeBatch().length);
+            ps.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT c2 FROM " + tableName + " ORDER BY c1");
+            for (String value : values) {
+                assertTrue(rs.next());
+                assertEquals(0, new BigDecimal(value).compareTo(new BigDecimal(rs.getString(1))));
+            }
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerDriver;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+import com.microsoft.sqlserver.testframework.util.RandomUtil;
+
+/**
+ * Tests the driver-wide cache of parsed SQL text
+ */
+@RunWith(JUnitPlatform.class)
+public class ParsedSQLCacheTest extends AbstractTest {
+
+    // The number of entries that the cache holds
+    private static final int MAX_ENTRIES = 10000;
+
+    /**
+     * Prepares the same SQL, with and without JDBC escape syntax, on two connections and verifies that the second statement of each finds the
+     * parsed SQL in the cache and executes correctly.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testCacheHits() throws SQLException {
+        String id = RandomUtil.getIdentifier("ParsedSQL");
+        String[] sqls = {"SELECT ? + 1 AS [" + id + "]", "SELECT {fn ABS(?)} + 1 AS [" + id + "]"};
+
+        for (String sql : sqls) {
+            long numMisses = SQLServerDriver.getNumParsedSQLCacheMisses();
+            long numHits = SQLServerDriver.getNumParsedSQLCacheHits();
+            for (int i = 0; i < 2; i++) {
+                Connection con = DriverManager.getConnection(connectionString);
+                try {
+                    PreparedStatement ps = con.prepareStatement(sql);
+                    ps.setInt(1, i);
+                    ResultSet rs = ps.executeQuery();
+                    assertTrue(rs.next());
+                    assertEquals(i + 1, rs.getInt(1), "Wrong result from " + sql);
+                    rs.close();
+                    ps.close();
+                }
+                finally {
+                    con.close();
+                }
+            }
+            assertTrue(SQLServerDriver.getNumParsedSQLCacheMisses() - numMisses >= 1, "The SQL was not parsed: " + sql);
+            assertTrue(SQLServerDriver.getNumParsedSQLCacheHits() - numHits >= 1, "The parsed SQL was not reused: " + sql);
+        }
+    }
+
+    /**
+     * Prepares more distinct SQL strings than the cache holds and verifies that the cache evicts entries, including the first one added.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testSizeLimit() throws SQLException {
+        String id = RandomUtil.getIdentifier("ParsedSQL");
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            String firstSQL = "SELECT ? AS [" + id + "]";
+            con.prepareStatement(firstSQL).close();
+
+            long numEvictions = SQLServerDriver.getNumParsedSQLCacheEvictions();
+            for (int i = 0; i < MAX_ENTRIES; i++)
+                con.prepareStatement("SELECT ? + " + i + " AS [" + id + "]").close();
+            assertTrue(SQLServerDriver.getNumParsedSQLCacheEvictions() - numEvictions >= 1, "The cache grew past its limit");
+
+            long numMisses = SQLServerDriver.getNumParsedSQLCacheMisses();
+            con.prepareStatement(firstSQL).close();
+            assertTrue(SQLServerDriver.getNumParsedSQLCacheMisses() - numMisses >= 1, "The first SQL added should have been evicted");
+        }
+        finally {
+            con.close();
+        }
+    }
+}
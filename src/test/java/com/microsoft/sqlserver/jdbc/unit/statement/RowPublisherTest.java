@@ -0,0 +1,168 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.ISQLServerRowMapper;
+import com.microsoft.sqlserver.jdbc.ISQLServerRowSubscriber;
+import com.microsoft.sqlserver.jdbc.ISQLServerRowSubscription;
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import com.microsoft.sqlserver.jdbc.SQLServerResultSet;
+import com.microsoft.sqlserver.jdbc.SQLServerStatement;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests publishing the rows of result sets on demand
+ */
+@RunWith(JUnitPlatform.class)
+public class RowPublisherTest extends AbstractTest {
+    private static final String QUERY = "SELECT TOP 10000 ROW_NUMBER() OVER (ORDER BY a.object_id)"
+            + " FROM sys.all_objects a CROSS JOIN sys.all_objects b";
+
+    private static final ISQLServerRowMapper<Integer> INT_MAPPER = new ISQLServerRowMapper<Integer>() {
+        public Integer mapRow(ResultSet rs) throws SQLException {
+            return (int) rs.getLong(1);
+        }
+    };
+
+    /**
+     * Requests rows in small batches from the subscriber, as a stream consumer would.
+     */
+    private static final class BatchingSubscriber implements ISQLServerRowSubscriber<Integer> {
+        final List<Integer> rows = new ArrayList<Integer>();
+        final CountDownLatch done = new CountDownLatch(1);
+        private final int batchSize;
+        private final int cancelAfter;
+        private ISQLServerRowSubscription subscription;
+        volatile Throwable error;
+        volatile boolean isCompleted;
+
+        BatchingSubscriber(int batchSize,
+                int cancelAfter) {
+            this.batchSize = batchSize;
+            this.cancelAfter = cancelAfter;
+        }
+
+        public void onSubscribe(ISQLServerRowSubscription subscription) {
+            this.subscription = subscription;
+            subscription.request(batchSize);
+        }
+
+        public void onNext(Integer row) {
+            rows.add(row);
+            if (rows.size() == cancelAfter) {
+                subscription.cancel();
+                done.countDown();
+            }
+            else if (0 == rows.size() % batchSize) {
+                subscription.request(batchSize);
+            }
+        }
+
+        public void onError(Throwable t) {
+            error = t;
+            done.countDown();
+        }
+
+        public void onComplete() {
+            isCompleted = true;
+            done.countDown();
+        }
+    }
+
+    /**
+     * Publishes every row of a query.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPublishQuery() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        try {
+            BatchingSubscriber subscriber = new BatchingSubscriber(100, -1);
+            stmt.executeQueryPublisher(QUERY, INT_MAPPER).subscribe(subscriber);
+            assertTrue(subscriber.done.await(60, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+            assertTrue(subscriber.isCompleted);
+            assertEquals(10000, subscriber.rows.size());
+            for (int i = 0; i < 10000; i++)
+                assertEquals(i + 1, subscriber.rows.get(i).intValue());
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Cancels the publisher of a result set part way through and verifies that the connection can be used afterwards.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testCancelPublisher() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString + ";responseBuffering=adaptive");
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        try {
+            SQLServerResultSet rs = (SQLServerResultSet) stmt.executeQuery(QUERY);
+            BatchingSubscriber subscriber = new BatchingSubscriber(50, 120);
+            rs.publishRows(INT_MAPPER).subscribe(subscriber);
+            assertTrue(subscriber.done.await(60, TimeUnit.SECONDS));
+            assertEquals(120, subscriber.rows.size());
+            assertTrue(!subscriber.isCompleted);
+
+            ResultSet next = stmt.executeQueryAsync("SELECT 1").get();
+            assertTrue(rs.isClosed());
+            assertTrue(next.next());
+            assertEquals(1, next.getInt(1));
+            next.close();
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a failed query fails the subscriber.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPublisherError() throws Exception {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString);
+        SQLServerStatement stmt = (SQLServerStatement) con.createStatement();
+        try {
+            BatchingSubscriber subscriber = new BatchingSubscriber(10, -1);
+            stmt.executeQueryPublisher("SELECT 1/0", INT_MAPPER).subscribe(subscriber);
+            assertTrue(subscriber.done.await(60, TimeUnit.SECONDS));
+            assertTrue(subscriber.error instanceof SQLException);
+            assertEquals(0, subscriber.rows.size());
+        }
+        finally {
+            stmt.close();
+            con.close();
+        }
+    }
+}
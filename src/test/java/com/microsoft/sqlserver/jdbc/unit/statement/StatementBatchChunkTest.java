@@ -0,0 +1,116 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractSQLGenerator;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+import com.microsoft.sqlserver.testframework.util.RandomUtil;
+
+/**
+ * Tests Statement batches that are sent to the server in chunks
+ */
+@RunWith(JUnitPlatform.class)
+public class StatementBatchChunkTest extends AbstractTest {
+    private final String tableName = AbstractSQLGenerator.escapeIdentifier(RandomUtil.getIdentifier("StatementBatchChunk"));
+
+    /**
+     * Executes a batch in chunks, with a failing statement in one chunk, and verifies the update count of every statement.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testChunkedBatch() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";statementBatchChunkSize=10");
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (c1 int PRIMARY KEY)");
+
+            Statement batchStmt = con.createStatement();
+            for (int i = 0; i < 35; i++)
+                batchStmt.addBatch("INSERT INTO " + tableName + " VALUES (" + ((17 == i) ? 3 : i) + ")");
+            try {
+                batchStmt.executeBatch();
+                fail("Expected a BatchUpdateException");
+            }
+            catch (BatchUpdateException e) {
+                int[] updateCounts = e.getUpdateCounts();
+                assertEquals(35, updateCounts.length);
+                for (int i = 0; i < 35; i++)
+                    assertEquals((17 == i) ? Statement.EXECUTE_FAILED : 1, updateCounts[i], "Wrong update count for statement " + i);
+            }
+            batchStmt.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + tableName);
+            rs.next();
+            assertEquals(34, rs.getInt(1));
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies that a batch is split into chunks of the configured size. SCOPE_IDENTITY() is null in the first statement of each request, since a
+     * request is a scope of its own, and is the identity inserted by the previous statement otherwise.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testChunkBoundaries() throws SQLException {
+        verifyChunkBoundaries(";statementBatchChunkSize=10", 10);
+        verifyChunkBoundaries("", 35);
+    }
+
+    private void verifyChunkBoundaries(String properties,
+            int chunkSize) throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + properties);
+        Statement stmt = con.createStatement();
+        try {
+            stmt.executeUpdate("CREATE TABLE " + tableName + " (id int IDENTITY(1,1), c1 int, previousId numeric(38,0))");
+
+            Statement batchStmt = con.createStatement();
+            for (int i = 0; i < 35; i++)
+                batchStmt.addBatch("INSERT INTO " + tableName + " (c1, previousId) VALUES (" + i + ", SCOPE_IDENTITY())");
+            int[] updateCounts = batchStmt.executeBatch();
+            assertEquals(35, updateCounts.length);
+            batchStmt.close();
+
+            ResultSet rs = stmt.executeQuery("SELECT c1, previousId FROM " + tableName + " ORDER BY c1");
+            for (int i = 0; i < 35; i++) {
+                assertTrue(rs.next());
+                assertEquals(i, rs.getInt(1));
+                rs.getInt(2);
+                assertEquals(0 == i % chunkSize, rs.wasNull(), "Statement " + i + " is in the wrong chunk");
+            }
+            rs.close();
+        }
+        finally {
+            stmt.executeUpdate("IF OBJECT_ID('" + tableName + "') IS NOT NULL DROP TABLE " + tableName);
+            stmt.close();
+            con.close();
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.jdbc.SQLServerConnection;
+import com.microsoft.sqlserver.jdbc.SQLServerPreparedStatement;
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests the life cycle of server prepared statement handles: caching, unpreparing and the prepare threshold
+ */
+@RunWith(JUnitPlatform.class)
+public class StatementPoolingTest extends AbstractTest {
+
+    /**
+     * Prepares, executes and closes the same SQL repeatedly so that later statements reuse the cached handle.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testReuseAcrossStatements() throws SQLException {
+        SQLServerConnection con = (SQLServerConnection) DriverManager.getConnection(connectionString + ";disableStatementPooling=false");
+        try {
+            for (int i = 0; i < 10; i++) {
+                PreparedStatement ps = con.prepareStatement("SELECT ? + 1");
+                ps.setInt(1, i);
+                ResultSet rs = ps.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(i + 1, rs.getInt(1), "Wrong result from a statement using a cached handle");
+                rs.close();
+                ps.close();
+            }
+            assertEquals(1, con.getNumPreparedStatementHandleCacheMisses(), "Only the first statement should prepare the SQL");
+            assertEquals(9, con.getNumPreparedStatementHandleCacheHits(), "Later statements should reuse the cached handle");
+            assertEquals(0, con.getNumPreparedStatementHandleCacheEvictions());
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Alternates between more statements than the cache can hold, so that handles are evicted and unprepared.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testEviction() throws SQLException {
+        SQLServerConnection con = (SQLServerConnection) DriverManager
+                .getConnection(connectionString + ";disableStatementPooling=false;statementPoolingCacheSize=1");
+        try {
+            String[] sqls = {"SELECT ? + 1", "SELECT ? + 2", "SELECT ? + 3"};
+            for (int i = 0; i < 9; i++) {
+                PreparedStatement ps = con.prepareStatement(sqls[i % sqls.length]);
+                ps.setInt(1, i);
+                ResultSet rs = ps.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(i + 1 + i % sqls.length, rs.getInt(1));
+                rs.close();
+                ps.close();
+            }
+            assertEquals(0, con.getNumPreparedStatementHandleCacheHits(), "The handle of the previous SQL should never match");
+            assertEquals(9, con.getNumPreparedStatementHandleCacheMisses());
+            assertEquals(8, con.getNumPreparedStatementHandleCacheEvictions(), "Every handle but the first should evict the previous one");
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Closes more prepared statements than are unprepared together, mixing their unprepares with other requests and a server cursor.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testDiscardedHandles() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            for (int i = 0; i < 25; i++) {
+                PreparedStatement ps = (0 == i % 5)
+                        ? con.prepareStatement("SELECT ? + " + i, ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY)
+                        : con.prepareStatement("SELECT ? + " + i);
+                ps.setInt(1, i);
+                ResultSet rs = ps.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(2 * i, rs.getInt(1), "Wrong result from a request carrying unprepares of discarded handles");
+                rs.close();
+                ps.close();
+            }
+
+            PreparedStatement ps = con.prepareStatement("SELECT @@ERROR");
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(0, rs.getInt(1));
+            rs.close();
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Executes a statement with sp_executesql until the prepare threshold is reached and then with a prepared handle, within a single statement
+     * object and across statement objects.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testPrepareThreshold() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";prepareThreshold=3;disableStatementPooling=false");
+        try {
+            PreparedStatement ps = con.prepareStatement("SELECT ? * 2");
+            for (int i = 0; i < 5; i++) {
+                ps.setInt(1, i);
+                ResultSet rs = ps.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(2 * i, rs.getInt(1));
+                rs.close();
+            }
+            ps.close();
+
+            for (int i = 0; i < 5; i++) {
+                ps = con.prepareStatement("SELECT ? * 3");
+                ps.setInt(1, i);
+                ResultSet rs = ps.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(3 * i, rs.getInt(1));
+                rs.close();
+                ps.close();
+            }
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies the update counts of prepared statements whose requests carry the unprepares of discarded handles, and that requests of plain
+     * statements do not consume those unprepares.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testDiscardedHandlesWithUpdateCounts() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            Statement stmt = con.createStatement();
+            stmt.executeUpdate("CREATE TABLE #discardedHandles (c1 int)");
+
+            for (int i = 0; i < 5; i++) {
+                PreparedStatement ps = con.prepareStatement("INSERT INTO #discardedHandles VALUES (?)");
+                ps.setInt(1, i);
+                assertEquals(1, ps.executeUpdate(), "Wrong update count from a request carrying unprepares of discarded handles");
+                ps.close();
+
+                assertEquals(i + 1, stmt.executeUpdate("UPDATE #discardedHandles SET c1 = c1"));
+            }
+
+            PreparedStatement ps = con.prepareStatement("DELETE FROM #discardedHandles WHERE c1 < ?");
+            ps.setInt(1, 3);
+            assertEquals(3, ps.executeUpdate());
+            assertEquals(null, con.getWarnings());
+            ps.close();
+            stmt.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Fails a prepared statement execution while its request, which carries the unprepares of discarded handles, is being written, and verifies that
+     * the handles stay queued until a later request sends them.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testDiscardedHandlesKeptOnFailedRequest() throws Exception {
+        Connection con = DriverManager.getConnection(connectionString);
+        try {
+            for (int i = 0; i < 3; i++) {
+                PreparedStatement ps = con.prepareStatement("SELECT ? + " + i);
+                ps.setInt(1, i);
+                ps.executeQuery().close();
+                ps.close();
+            }
+            assertEquals(3, getNumDiscardedHandles(con));
+
+            PreparedStatement ps = con.prepareStatement("SELECT ?");
+            ps.setCharacterStream(1, new Reader() {
+                public int read(char[] cbuf,
+                        int off,
+                        int len) throws IOException {
+                    throw new IOException("Failing the request");
+                }
+
+                public void close() {
+                }
+            });
+            try {
+                ps.execute();
+                fail("The request should have failed");
+            }
+            catch (SQLException e) {
+                assertTrue(e.getMessage().contains("Failing the request"), "Unexpected error: " + e.getMessage());
+            }
+            ps.close();
+            assertEquals(3, getNumDiscardedHandles(con), "Handles of a request that failed before it was sent should stay queued");
+
+            ps = con.prepareStatement("SELECT ? * 2");
+            ps.setInt(1, 21);
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(42, rs.getInt(1));
+            rs.close();
+            assertEquals(0, getNumDiscardedHandles(con), "Handles sent with a request should be removed from the queue");
+            assertEquals(null, con.getWarnings(), "The discarded handles should have been unprepared once");
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    private static int getNumDiscardedHandles(Connection con) throws Exception {
+        Field queueField = SQLServerConnection.class.getDeclaredField("discardedPreparedHandles");
+        if (!queueField.isAccessible()) {
+            queueField.setAccessible(true);
+        }
+        return ((Collection<?>) queueField.get(con)).size();
+    }
+
+    /**
+     * Verifies the call made for each execution below and at the prepare threshold: executions through sp_executesql leave the statement without a
+     * prepared handle, and the execution through sp_prepexec gives it one, which is then reused by sp_execute.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testPrepareThresholdCallPath() throws Exception {
+        Connection con = DriverManager.getConnection(connectionString + ";prepareThreshold=2");
+        try {
+            PreparedStatement ps = con.prepareStatement("SELECT ? * 4");
+            assertEquals(0, executeAndGetHandle(ps, 1), "First execution should use sp_executesql");
+            assertEquals(0, executeAndGetHandle(ps, 2), "Second execution should use sp_executesql");
+
+            int handle = executeAndGetHandle(ps, 3);
+            assertTrue(0 != handle, "Execution at the prepare threshold should use sp_prepexec");
+            assertEquals(handle, executeAndGetHandle(ps, 4), "Later executions should reuse the prepared handle");
+            ps.close();
+
+            // The threshold has been reached for this SQL, so another statement prepares it on first execution
+            ps = con.prepareStatement("SELECT ? * 4");
+            assertTrue(0 != executeAndGetHandle(ps, 5), "SQL past the prepare threshold should use sp_prepexec");
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Executes the statement and processes its whole response, returning its prepared statement handle afterwards (0 if it has none).
+     */
+    private static int executeAndGetHandle(PreparedStatement ps,
+            int value) throws Exception {
+        ps.setInt(1, value);
+        ResultSet rs = ps.executeQuery();
+        assertTrue(rs.next());
+        assertEquals(4 * value, rs.getInt(1));
+        rs.close();
+
+        // Process the rest of the response, which includes the prepared handle returned by sp_prepexec
+        assertFalse(ps.getMoreResults());
+        assertEquals(-1, ps.getUpdateCount());
+
+        Field handleField = SQLServerPreparedStatement.class.getDeclaredField("prepStmtHandle");
+        if (!handleField.isAccessible()) {
+            handleField.setAccessible(true);
+        }
+        return handleField.getInt(ps);
+    }
+}
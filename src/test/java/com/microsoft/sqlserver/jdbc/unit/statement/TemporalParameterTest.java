@@ -0,0 +1,105 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+import microsoft.sql.DateTimeOffset;
+
+/**
+ * Tests sending temporal parameter values
+ */
+@RunWith(JUnitPlatform.class)
+public class TemporalParameterTest extends AbstractTest {
+
+    /**
+     * Verifies the values of temporal parameters sent as TIME, DATE, DATETIME2 and DATETIMEOFFSET, including rounding to the scale of the type and
+     * dates before the Gregorian change date.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testScaledTypes() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";sendTimeAsDatetime=false");
+        PreparedStatement ps = con.prepareStatement("SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?");
+        try {
+            ps.setTimestamp(1, Timestamp.valueOf("2017-06-15 10:30:45.123456789"));
+            ps.setObject(2, LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999999999));
+            ps.setObject(3, LocalDateTime.of(2017, 6, 15, 23, 59, 59, 999999999));
+            ps.setDate(4, Date.valueOf("1500-02-28"));
+            ps.setObject(5, LocalDate.of(1, 1, 1));
+            ps.setTime(6, Time.valueOf("23:59:59"));
+            ps.setObject(7, LocalTime.of(12, 0, 0, 100));
+            ps.setObject(8, DateTimeOffset.valueOf(Timestamp.valueOf("2017-06-15 10:30:45.1234567"), -480));
+            ps.setObject(9, LocalDateTime.of(2017, 6, 15, 10, 30), microsoft.sql.Types.DATETIMEOFFSET);
+
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(Timestamp.valueOf("2017-06-15 10:30:45.1234568"), rs.getTimestamp(1));
+            assertEquals(LocalDateTime.of(9999, 12, 31, 23, 59, 59, 999999900), rs.getObject(2, LocalDateTime.class));
+            assertEquals(LocalDateTime.of(2017, 6, 16, 0, 0), rs.getObject(3, LocalDateTime.class));
+            assertEquals(Date.valueOf("1500-02-28"), rs.getDate(4));
+            assertEquals(LocalDate.of(1, 1, 1), rs.getObject(5, LocalDate.class));
+            assertEquals(LocalTime.of(23, 59, 59), rs.getObject(6, LocalTime.class));
+            assertEquals(LocalTime.of(12, 0, 0, 100), rs.getObject(7, LocalTime.class));
+            assertEquals(OffsetDateTime.of(2017, 6, 15, 10, 30, 45, 123456700, ZoneOffset.ofHours(-8)), rs.getObject(8, OffsetDateTime.class));
+            assertEquals(OffsetDateTime.of(2017, 6, 15, 10, 30, 0, 0, ZoneOffset.UTC), rs.getObject(9, OffsetDateTime.class));
+            rs.close();
+        }
+        finally {
+            ps.close();
+            con.close();
+        }
+    }
+
+    /**
+     * Verifies the values of temporal parameters sent as DATETIME, whose time is rounded to 1/300 of a second.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testTimeAsDatetime() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + ";sendTimeAsDatetime=true");
+        PreparedStatement ps = con.prepareStatement("SELECT ?, ?");
+        try {
+            ps.setTime(1, new Time(Time.valueOf("12:34:56").getTime() + 789));
+            ps.setObject(2, LocalTime.of(23, 59, 59, 999000000), java.sql.Types.TIME);
+
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(Timestamp.valueOf("1970-01-01 12:34:56.79"), rs.getTimestamp(1));
+            assertEquals(Timestamp.valueOf("1970-01-02 00:00:00"), rs.getTimestamp(2));
+            rs.close();
+        }
+        finally {
+            ps.close();
+            con.close();
+        }
+    }
+}
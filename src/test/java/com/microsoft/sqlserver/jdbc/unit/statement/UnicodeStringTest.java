@@ -0,0 +1,122 @@
+/*
+ * Microsoft JDBC Driver for SQL Server
+ *
+ * Copyright(c) Microsoft Corporation All rights reserved.
+ *
+ * This program is made available under the terms of the MIT License. See the LICENSE file in the project root for more information.
+ */
+package com.microsoft.sqlserver.jdbc.unit.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.runner.JUnitPlatform;
+import org.junit.runner.RunWith;
+
+import com.microsoft.sqlserver.testframework.AbstractTest;
+
+/**
+ * Tests Unicode string parameters that are written across TDS packet boundaries
+ */
+@RunWith(JUnitPlatform.class)
+public class UnicodeStringTest extends AbstractTest {
+
+    // The smallest packet size, so that short strings already span packets
+    private static final String SMALL_PACKETS = ";packetSize=512";
+
+    private static String getString(int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            switch (i % 4) {
+                case 0:
+                    sb.append((char) ('a' + i % 26));
+                    break;
+                case 1:
+                    sb.append('\u00e9');
+                    break;
+                case 2:
+                    sb.append('\u4e2d');
+                    break;
+                default:
+                    sb.append('\u20ac');
+                    break;
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Sends strings of many lengths, preceded by a binary parameter of odd length so that characters straddle packet boundaries, and reads them back
+     * unchanged.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testStringsAcrossPackets() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + SMALL_PACKETS);
+        try {
+            PreparedStatement ps = con.prepareStatement("SELECT DATALENGTH(?), ?");
+            for (int length = 0; length < 1200; length += 37) {
+                for (int prefixLength = 1; prefixLength <= 3; prefixLength++) {
+                    String value = getString(length);
+                    ps.setBytes(1, new byte[prefixLength]);
+                    ps.setString(2, value);
+                    ResultSet rs = ps.executeQuery();
+                    assertTrue(rs.next());
+                    assertEquals(prefixLength, rs.getInt(1));
+                    assertEquals(value, rs.getString(2), "Wrong string of length " + length + " after a prefix of " + prefixLength + " bytes");
+                    rs.close();
+                }
+            }
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+
+    /**
+     * Sends long strings, with surrogate pairs, as nvarchar(max) values through setString and setCharacterStream, and reads them back unchanged.
+     *
+     * @throws SQLException
+     */
+    @Test
+    public void testLongStringsAcrossPackets() throws SQLException {
+        Connection con = DriverManager.getConnection(connectionString + SMALL_PACKETS);
+        try {
+            StringBuilder sb = new StringBuilder(getString(9001));
+            for (int i = 0; i < 1000; i++)
+                sb.append("\uD83D\uDE00");
+            String value = sb.toString();
+
+            PreparedStatement ps = con.prepareStatement("SELECT ?, ?");
+            ps.setString(1, value);
+            ps.setString(2, value);
+            ResultSet rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(value, rs.getString(1), "Wrong string sent with setString");
+            assertEquals(value, rs.getString(2), "Wrong string sent with setString");
+            rs.close();
+
+            ps.setCharacterStream(1, new StringReader(value), value.length());
+            ps.setCharacterStream(2, new StringReader(value));
+            rs = ps.executeQuery();
+            assertTrue(rs.next());
+            assertEquals(value, rs.getString(1), "Wrong string sent with setCharacterStream and a length");
+            assertEquals(value, rs.getString(2), "Wrong string sent with setCharacterStream");
+            rs.close();
+            ps.close();
+        }
+        finally {
+            con.close();
+        }
+    }
+}